@@ -1,8 +1,21 @@
 package internity;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
+import internity.api.ApiServer;
+import internity.core.BatchRunner;
+import internity.core.InternityClient;
+import internity.core.InternityDaemon;
+import internity.core.InternityException;
 import internity.core.InternityManager;
+import internity.ui.ResultRenderer;
 import internity.utils.InternityLogger;
 
 /**
@@ -12,6 +25,30 @@ import internity.utils.InternityLogger;
  * through the {@link InternityManager}. It defines the default data storage
  * location and initializes the system when the program starts.
  * </p>
+ * <p>
+ * In the interactive and batch modes, results can be written straight to the file descriptor of
+ * standard output when it is redirected, see {@link ResultRenderer#enableChannelOutput()}.
+ * </p>
+ * <p>
+ * With {@code --batch FILE} or {@code --batch -}, the commands are instead read from the file or
+ * from standard input and run by a {@link BatchRunner}:
+ * <pre>
+ *     --batch FILE|-          the script to run, {@code -} for standard input
+ *     --commit-every N        save after every N commands instead of only at the end
+ *     --on-error stop|continue whether the rest of the script runs after a command fails (default stop)
+ * </pre>
+ * </p>
+ * <p>
+ * With {@code --daemon}, the list is kept resident by an {@link InternityDaemon} listening on a Unix
+ * domain socket, and {@code --client COMMAND...} sends one command line to it through an
+ * {@link InternityClient}. Both accept {@code --socket PATH} before any other argument to use another
+ * socket than {@value InternityDaemon#DEFAULT_SOCKET_PATH}.
+ * </p>
+ * <p>
+ * With {@code --server [--port N]}, the list is served as JSON over HTTP by an {@link ApiServer} on
+ * the loopback interface, on port {@value ApiServer#DEFAULT_PORT} unless another is given, until the
+ * program is interrupted.
+ * </p>
  */
 public class Internity {
     /**
@@ -19,6 +56,19 @@ public class Internity {
      */
     private static final String DEFAULT_STORAGE_PATH = "./data/internships.txt";
 
+    private static final String BATCH_OPTION = "--batch";
+    private static final String COMMIT_EVERY_OPTION = "--commit-every";
+    private static final String ON_ERROR_OPTION = "--on-error";
+    private static final String DAEMON_OPTION = "--daemon";
+    private static final String CLIENT_OPTION = "--client";
+    private static final String SOCKET_OPTION = "--socket";
+    private static final String SERVER_OPTION = "--server";
+    private static final String PORT_OPTION = "--port";
+    private static final int MAX_PORT = 65535;
+    private static final int SHUTDOWN_DELAY_SECONDS = 1;
+    private static final String STANDARD_INPUT = "-";
+    private static final int EXIT_USAGE = 2;
+
     /**
      * Initializes the Internity system by creating an {@link InternityManager}
      * instance and starting it.
@@ -30,18 +80,200 @@ public class Internity {
         Logger logger = InternityLogger.getLogger();
         logger.info("Internity starting...");
 
+        ResultRenderer.enableChannelOutput();
         InternityManager manager = new InternityManager(DEFAULT_STORAGE_PATH);
         manager.start();
     }
 
+    /**
+     * Runs the commands of a script without user interaction, as described by the program arguments.
+     *
+     * @param args the program arguments, starting with {@code --batch}
+     * @return the exit status of the program
+     */
+    public static int runBatch(String[] args) {
+        Logger logger = InternityLogger.getLogger();
+        logger.info("Internity starting in batch mode...");
+
+        String script = null;
+        int commitEvery = 0;
+        BatchRunner.FailurePolicy failurePolicy = BatchRunner.FailurePolicy.STOP;
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw InternityException.invalidProgramArguments();
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                case BATCH_OPTION:
+                    script = value;
+                    break;
+                case COMMIT_EVERY_OPTION:
+                    commitEvery = parseCommitEvery(value);
+                    break;
+                case ON_ERROR_OPTION:
+                    failurePolicy = parseFailurePolicy(value);
+                    break;
+                default:
+                    throw InternityException.invalidProgramArguments();
+                }
+            }
+            if (script == null) {
+                throw InternityException.invalidProgramArguments();
+            }
+        } catch (InternityException e) {
+            System.err.println(e.getMessage());
+            return EXIT_USAGE;
+        }
+
+        ResultRenderer.enableChannelOutput();
+        BatchRunner runner = new BatchRunner(DEFAULT_STORAGE_PATH, commitEvery, failurePolicy);
+        try (Reader reader = new InputStreamReader(script.equals(STANDARD_INPUT)
+                ? System.in
+                : Files.newInputStream(Paths.get(script)), StandardCharsets.UTF_8)) {
+            return runner.run(reader);
+        } catch (IOException e) {
+            System.err.println("Error: Could not open the script: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+    }
+
+    /**
+     * Keeps the list resident and serves commands from clients until an {@code exit} command.
+     *
+     * @param args the program arguments after {@code --daemon}
+     * @return the exit status of the program
+     */
+    public static int runDaemon(String[] args) {
+        Logger logger = InternityLogger.getLogger();
+        logger.info("Internity starting as a daemon...");
+
+        String socketPath = InternityDaemon.DEFAULT_SOCKET_PATH;
+        if (args.length == 2 && args[0].equals(SOCKET_OPTION)) {
+            socketPath = args[1];
+        } else if (args.length != 0) {
+            System.err.println(InternityException.invalidProgramArguments().getMessage());
+            return EXIT_USAGE;
+        }
+        return new InternityDaemon(DEFAULT_STORAGE_PATH, socketPath).run();
+    }
+
+    /**
+     * Sends one command line, made of the remaining arguments, to a running daemon.
+     *
+     * @param args the program arguments after {@code --client}
+     * @return the exit status of the program
+     */
+    public static int runClient(String[] args) {
+        String socketPath = InternityDaemon.DEFAULT_SOCKET_PATH;
+        int commandStart = 0;
+        if (args.length >= 2 && args[0].equals(SOCKET_OPTION)) {
+            socketPath = args[1];
+            commandStart = 2;
+        }
+        if (commandStart >= args.length) {
+            System.err.println(InternityException.invalidProgramArguments().getMessage());
+            return EXIT_USAGE;
+        }
+        String commandLine = String.join(" ", Arrays.copyOfRange(args, commandStart, args.length));
+        return InternityClient.send(socketPath, commandLine, System.out);
+    }
+
+    /**
+     * Serves the list as JSON over HTTP until the program is interrupted.
+     *
+     * @param args the program arguments after {@code --server}
+     * @return the exit status of the program once the server has started
+     */
+    public static int runServer(String[] args) {
+        Logger logger = InternityLogger.getLogger();
+        logger.info("Internity starting as an API server...");
+
+        int port = ApiServer.DEFAULT_PORT;
+        try {
+            if (args.length == 2 && args[0].equals(PORT_OPTION)) {
+                port = parsePort(args[1]);
+            } else if (args.length != 0) {
+                throw InternityException.invalidProgramArguments();
+            }
+        } catch (InternityException e) {
+            System.err.println(e.getMessage());
+            return EXIT_USAGE;
+        }
+
+        try {
+            ApiServer server = new ApiServer(DEFAULT_STORAGE_PATH, port);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(SHUTDOWN_DELAY_SECONDS)));
+            System.out.println("Internity API listening on http://localhost:" + server.getPort() + "/api/");
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Error: Could not listen on port " + port + ": " + e.getMessage());
+            return 1;
+        } catch (InternityException e) {
+            System.err.println("Error: Could not load data from storage: " + e.getMessage());
+            return 1;
+        }
+    }
+
     /**
      * The main entry point for the <b>Internity</b> application.
      * <p>
      * This method serves as the program launcher and delegates initialization
-     * to {@link #initInternity()}.
+     * to {@link #initInternity()}, or, if arguments are given, to {@link #runDaemon(String[])},
+     * {@link #runClient(String[])}, {@link #runServer(String[])} or {@link #runBatch(String[])}.
      * </p>
      */
     public static void main(String[] args) {
-        initInternity();
+        if (args.length == 0) {
+            initInternity();
+            return;
+        }
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        int status;
+        if (args[0].equals(DAEMON_OPTION)) {
+            status = runDaemon(rest);
+        } else if (args[0].equals(CLIENT_OPTION)) {
+            status = runClient(rest);
+        } else if (args[0].equals(SERVER_OPTION)) {
+            status = runServer(rest);
+        } else {
+            status = runBatch(args);
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    private static int parseCommitEvery(String value) throws InternityException {
+        try {
+            int commitEvery = Integer.parseInt(value);
+            if (commitEvery < 0) {
+                throw InternityException.invalidProgramArguments();
+            }
+            return commitEvery;
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidProgramArguments();
+        }
+    }
+
+    private static int parsePort(String value) throws InternityException {
+        try {
+            int port = Integer.parseInt(value);
+            if (port < 0 || port > MAX_PORT) {
+                throw InternityException.invalidProgramArguments();
+            }
+            return port;
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidProgramArguments();
+        }
+    }
+
+    private static BatchRunner.FailurePolicy parseFailurePolicy(String value) throws InternityException {
+        try {
+            return BatchRunner.FailurePolicy.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw InternityException.invalidProgramArguments();
+        }
     }
 }
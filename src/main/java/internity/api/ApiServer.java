@@ -0,0 +1,384 @@
+package internity.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.Tokenizer;
+import internity.logic.cli.CommandLexer;
+import internity.logic.cli.CommandParser;
+import internity.logic.commands.Command;
+import internity.logic.commands.CommandResult;
+import internity.logic.commands.ListCommand;
+import internity.storage.Storage;
+import internity.ui.DashboardUi;
+import internity.ui.Json;
+
+/**
+ * A local HTTP server that exposes the internship list as JSON, for tools that should not have to read
+ * the tables printed by {@link internity.ui.Ui}.
+ *
+ * <p>
+ * The server listens on the loopback interface only and offers these endpoints:
+ * <pre>
+ *     GET    /api/internships[?sort=asc|desc]             list all internships
+ *     GET    /api/internships/find?q=TEXT[&amp;mode=MODE]   search, MODE is keyword (default), all, any or fuzzy
+ *     POST   /api/internships                             add, body {"company", "role", "deadline", "pay"}
+ *     PATCH  /api/internships/INDEX                       update, body with any of the add fields and "status"
+ *     DELETE /api/internships/INDEX                       delete
+ *     GET    /api/dashboard                               summary of the list
+ * </pre>
+ * Adds, updates and deletes are turned into the same command lines as in the interactive mode and run
+ * through {@link CommandParser}, so they are validated exactly like typed commands. The response
+ * describes the affected internship, and searches are answered from the rows of the same
+ * {@link CommandResult} that the {@code find} command renders as a table. Errors are returned as
+ * {@code {"error": MESSAGE}} with status 400, 404 or 405.
+ * </p>
+ *
+ * <p>
+ * Each request is handled on its own virtual thread when the Java runtime provides them, and on a
+ * bounded pool of platform threads otherwise. {@link InternshipList} and its indexes are not thread
+ * safe, so every request holds one global lock while it reads or changes the list; requests are
+ * therefore served one at a time, and threads only overlap while reading requests and writing responses.
+ * The list is saved after every request that changes it.
+ * </p>
+ */
+public class ApiServer {
+    /** The default port that the server listens on. */
+    public static final int DEFAULT_PORT = 7070;
+
+    private static final Logger logger = Logger.getLogger(ApiServer.class.getName());
+    private static final String API_PREFIX = "/api/";
+    private static final String INTERNSHIPS_PATH = "/api/internships";
+    private static final String FIND_PATH = "/api/internships/find";
+    private static final String DASHBOARD_PATH = "/api/dashboard";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int POOL_THREADS_PER_PROCESSOR = 2;
+    private static final String[] FIELDS = {"company", "role", "deadline", "pay", "status"};
+    private static final String[] FIELD_TAGS = {"company/", "role/", "deadline/", "pay/", "status/"};
+
+    private static final ReentrantLock storeLock = new ReentrantLock();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final CommandParser commandParser = new CommandParser();
+    private long savedVersion;
+
+    /**
+     * Creates a server that keeps the list in the given storage and listens on the given port of the
+     * loopback interface. The server does not accept requests until it is started.
+     *
+     * @param storagePath the path to the file used for storing internship data
+     * @param port        the port to listen on, or {@code 0} for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public ApiServer(String storagePath, int port) throws IOException {
+        InternshipList.setStorage(new Storage(storagePath));
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext(API_PREFIX, this::handle);
+    }
+
+    /**
+     * Loads the saved list and starts accepting requests.
+     *
+     * @throws InternityException if the saved list cannot be loaded
+     */
+    public void start() throws InternityException {
+        storeLock.lock();
+        try {
+            InternshipList.loadFromStorage();
+            savedVersion = InternshipList.getVersion();
+        } finally {
+            storeLock.unlock();
+        }
+        server.start();
+        logger.info("API server listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, waiting up to the given time for requests in progress to finish.
+     *
+     * @param delaySeconds the longest time to wait, in seconds
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the port that the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns an executor that runs each request on a new virtual thread, or on a bounded pool of
+     * platform threads if the runtime has no virtual threads.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            Object executor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            logger.info("Handling requests on virtual threads");
+            return (ExecutorService) executor;
+        } catch (ReflectiveOperationException e) {
+            int threads = Runtime.getRuntime().availableProcessors() * POOL_THREADS_PER_PROCESSOR;
+            logger.info("Virtual threads are unavailable, handling requests on " + threads + " threads");
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status;
+        String body;
+        try {
+            String request = readBody(exchange.getRequestBody());
+            storeLock.lock();
+            try {
+                AbstractMap.SimpleEntry<Integer, String> response = route(exchange, request);
+                status = response.getKey();
+                body = response.getValue();
+                save();
+            } finally {
+                storeLock.unlock();
+            }
+        } catch (InternityException e) {
+            status = STATUS_BAD_REQUEST;
+            body = errorJson(e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warning("Request failed: " + e);
+            status = STATUS_BAD_REQUEST;
+            body = errorJson(String.valueOf(e.getMessage()));
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Answers a request, with the store lock held.
+     *
+     * @return the status code and the JSON body of the response
+     */
+    private AbstractMap.SimpleEntry<Integer, String> route(HttpExchange exchange, String request)
+            throws InternityException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        if (path.equals(INTERNSHIPS_PATH)) {
+            if (method.equals("GET")) {
+                return ok(listJson(query.getOrDefault("sort", "")));
+            }
+            if (method.equals("POST")) {
+                return new AbstractMap.SimpleEntry<>(STATUS_CREATED, add(Json.parseObject(request)));
+            }
+            return methodNotAllowed();
+        }
+        if (path.equals(FIND_PATH)) {
+            return method.equals("GET") ? ok(findJson(query)) : methodNotAllowed();
+        }
+        if (path.equals(DASHBOARD_PATH)) {
+            return method.equals("GET") ? ok(DashboardUi.formatDashboardJson()) : methodNotAllowed();
+        }
+        if (path.startsWith(INTERNSHIPS_PATH + "/")) {
+            String index = path.substring(INTERNSHIPS_PATH.length() + 1);
+            if (method.equals("PATCH")) {
+                return ok(update(index, Json.parseObject(request)));
+            }
+            if (method.equals("DELETE")) {
+                return ok(delete(index));
+            }
+            return methodNotAllowed();
+        }
+        return new AbstractMap.SimpleEntry<>(STATUS_NOT_FOUND, errorJson("No such endpoint: " + path));
+    }
+
+    private String listJson(String sort) throws InternityException {
+        ListCommand.OrderType order;
+        if (sort.isEmpty()) {
+            order = ListCommand.OrderType.DEFAULT;
+        } else if (sort.equals("asc")) {
+            order = ListCommand.OrderType.ASCENDING;
+        } else if (sort.equals("desc")) {
+            order = ListCommand.OrderType.DESCENDING;
+        } else {
+            throw InternityException.invalidListCommand();
+        }
+        return internshipsJson(InternshipList.sortInternships(order));
+    }
+
+    private String findJson(Map<String, String> query) throws InternityException {
+        String text = query.getOrDefault("q", "");
+        String mode = query.getOrDefault("mode", "keyword");
+        if (text.isBlank()) {
+            throw InternityException.invalidFindCommand();
+        }
+
+        CommandResult result;
+        if (mode.equals("keyword")) {
+            result = InternshipList.findInternship(text);
+        } else if (mode.equals("all") || mode.equals("any")) {
+            result = InternshipList.findRanked(Tokenizer.tokenize(text), mode.equals("all"));
+        } else if (mode.equals("fuzzy")) {
+            result = InternshipList.findFuzzy(Tokenizer.tokenize(text));
+        } else {
+            throw InternityException.invalidFindCommand();
+        }
+
+        StringBuilder json = new StringBuilder("{\"internships\":[");
+        for (CommandResult.Row row : result.getRows()) {
+            Json.appendInternship(json, row.getIndex(), row.getInternship()).append(',');
+        }
+        return Json.closeWith(json, ']').append('}').toString();
+    }
+
+    private String add(Map<String, String> fields) throws InternityException {
+        String commandLine = "add"
+                + " company/" + fieldValue(fields, "company")
+                + " role/" + fieldValue(fields, "role")
+                + " deadline/" + fieldValue(fields, "deadline")
+                + " pay/" + fieldValue(fields, "pay");
+        commandParser.parseInput(commandLine).run();
+        int index = InternshipList.size() - 1;
+        return internshipJson(index, InternshipList.get(index));
+    }
+
+    private String update(String index, Map<String, String> fields) throws InternityException {
+        int zeroBasedIndex = parseIndex(index);
+        StringBuilder commandLine = new StringBuilder("update ").append(index);
+        for (String field : FIELDS) {
+            if (fields.containsKey(field)) {
+                commandLine.append(' ').append(field).append('/').append(fieldValue(fields, field));
+            }
+        }
+        commandParser.parseInput(commandLine.toString()).run();
+        return internshipJson(zeroBasedIndex, InternshipList.get(zeroBasedIndex));
+    }
+
+    private String delete(String index) throws InternityException {
+        int zeroBasedIndex = parseIndex(index);
+        Command command = commandParser.parseInput("delete " + index);
+        Internship internship = InternshipList.get(zeroBasedIndex);
+        command.run();
+        return internshipJson(zeroBasedIndex, internship);
+    }
+
+    /**
+     * Returns a field of a request body, to be put into a command line after its tag.
+     * <p>
+     * A value that would start another field of the command line, such as a company of
+     * {@code "Foo pay/999"}, is rejected rather than letting it set or override that field.
+     * </p>
+     */
+    private static String fieldValue(Map<String, String> fields, String name) throws InternityException {
+        String value = fields.getOrDefault(name, "");
+        if (CommandLexer.splitAtTags(" " + value, FIELD_TAGS).size() > 1) {
+            throw InternityException.fieldContainsTag(name);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the zero-based index of the one-based index in a request path, which must be a plain number.
+     */
+    private static int parseIndex(String index) throws InternityException {
+        for (int i = 0; i < index.length(); i++) {
+            if (!Character.isDigit(index.charAt(i))) {
+                throw InternityException.invalidInternshipIndex();
+            }
+        }
+        try {
+            return Integer.parseInt(index) - 1;
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidInternshipIndex();
+        }
+    }
+
+    private void save() {
+        if (InternshipList.getVersion() == savedVersion) {
+            return;
+        }
+        try {
+            InternshipList.saveToStorage();
+            savedVersion = InternshipList.getVersion();
+        } catch (InternityException e) {
+            logger.severe("Could not save data to storage: " + e.getMessage());
+        }
+    }
+
+    private static String internshipsJson(List<Internship> internships) {
+        StringBuilder json = new StringBuilder("{\"internships\":[");
+        for (Internship internship : internships) {
+            Json.appendInternship(json, InternshipList.indexOf(internship), internship).append(',');
+        }
+        return Json.closeWith(json, ']').append('}').toString();
+    }
+
+    private static String internshipJson(int index, Internship internship) {
+        StringBuilder json = new StringBuilder("{\"internship\":");
+        return Json.appendInternship(json, index, internship).append('}').toString();
+    }
+
+    private static String errorJson(String message) {
+        return Json.appendString(new StringBuilder("{\"error\":"), message).append('}').toString();
+    }
+
+    private static AbstractMap.SimpleEntry<Integer, String> ok(String body) {
+        return new AbstractMap.SimpleEntry<>(STATUS_OK, body);
+    }
+
+    private static AbstractMap.SimpleEntry<Integer, String> methodNotAllowed() {
+        return new AbstractMap.SimpleEntry<>(STATUS_METHOD_NOT_ALLOWED, errorJson("Method not allowed"));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
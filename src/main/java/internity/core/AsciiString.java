@@ -0,0 +1,216 @@
+package internity.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable string of ASCII characters stored one byte per character.
+ *
+ * <p>
+ * Company and role values are validated to be ASCII before they reach an {@link Internship}, so they
+ * can be kept as raw bytes. The hash code and the lowercase form are computed at most once and then
+ * cached, which lets searches compare against the lowercase bytes directly instead of lowercasing
+ * the value again on every call, and lets storage write the bytes without encoding them.
+ * </p>
+ */
+public final class AsciiString implements Comparable<AsciiString> {
+    private static final AsciiString EMPTY = new AsciiString(new byte[0]);
+
+    private final byte[] bytes;
+    private int hash;
+    private AsciiString lowerCase;
+
+    private AsciiString(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the ASCII string holding the characters of the given string.
+     *
+     * @param value a string containing only ASCII characters
+     * @return the equivalent ASCII string
+     * @throws IllegalArgumentException if the string contains a character outside the ASCII range
+     */
+    public static AsciiString of(String value) {
+        if (value.isEmpty()) {
+            return EMPTY;
+        }
+        byte[] bytes = new byte[value.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            char c = value.charAt(i);
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("Not an ASCII character: '" + c + "'");
+            }
+            bytes[i] = (byte) c;
+        }
+        return new AsciiString(bytes);
+    }
+
+    /**
+     * Returns whether every character of the given string is in the ASCII range.
+     *
+     * @param value the string to check
+     * @return {@code true} if the string can be converted with {@link #of(String)}
+     */
+    public static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of characters.
+     *
+     * @return the length of this string
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Returns the character at the given position.
+     *
+     * @param index the zero-based position
+     * @return the character at that position
+     */
+    public char charAt(int index) {
+        return (char) bytes[index];
+    }
+
+    /**
+     * Returns the characters between two positions as a {@link String}.
+     *
+     * @param start the position of the first character, inclusive
+     * @param end   the position after the last character, exclusive
+     * @return a new string with the characters in that range
+     */
+    public String substring(int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns this string with the letters {@code A} to {@code Z} replaced by their lowercase forms.
+     * The result is computed once and cached, and is this string itself if it has no uppercase letters.
+     *
+     * @return the lowercase form of this string
+     */
+    public AsciiString toLowerCase() {
+        if (lowerCase == null) {
+            byte[] lower = null;
+            for (int i = 0; i < bytes.length; i++) {
+                byte b = bytes[i];
+                if (b >= 'A' && b <= 'Z') {
+                    if (lower == null) {
+                        lower = bytes.clone();
+                    }
+                    lower[i] = (byte) (b + ('a' - 'A'));
+                }
+            }
+            lowerCase = lower == null ? this : new AsciiString(lower);
+            lowerCase.lowerCase = lowerCase;
+        }
+        return lowerCase;
+    }
+
+    /**
+     * Returns whether the lowercase form of this string contains the given lowercase string.
+     *
+     * @param lowerNeedle the string to look for, which must already be lowercase
+     * @return {@code true} if the needle occurs in this string, ignoring case
+     */
+    public boolean containsIgnoreCase(AsciiString lowerNeedle) {
+        byte[] haystack = toLowerCase().bytes;
+        byte[] needle = lowerNeedle.bytes;
+        if (needle.length == 0) {
+            return true;
+        }
+        byte first = needle[0];
+        int last = haystack.length - needle.length;
+        for (int i = 0; i <= last; i++) {
+            if (haystack[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < needle.length && haystack[i + j] == needle[j]) {
+                j++;
+            }
+            if (j == needle.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the characters of this string to a stream, one byte each, replacing every occurrence of
+     * a character with a replacement string.
+     *
+     * @param out         the stream to write to
+     * @param special     the character to replace
+     * @param replacement the ASCII string written in place of {@code special}
+     * @throws IOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream out, char special, String replacement) throws IOException {
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == special) {
+                out.write(bytes, start, i - start);
+                out.write(replacement.getBytes(StandardCharsets.US_ASCII));
+                start = i + 1;
+            }
+        }
+        out.write(bytes, start, bytes.length - start);
+    }
+
+    /**
+     * Appends the characters of this string to a builder, without creating an intermediate
+     * {@link String}.
+     *
+     * @param out the builder to append to
+     * @return the builder
+     */
+    public StringBuilder appendTo(StringBuilder out) {
+        for (byte b : bytes) {
+            out.append((char) b);
+        }
+        return out;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof AsciiString && Arrays.equals(bytes, ((AsciiString) other).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && bytes.length > 0) {
+            h = Arrays.hashCode(bytes);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public int compareTo(AsciiString other) {
+        return Arrays.compare(bytes, other.bytes);
+    }
+
+    /**
+     * Returns the characters of this string as a {@link String}.
+     *
+     * @return a new string with the same characters
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
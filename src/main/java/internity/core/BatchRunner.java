@@ -0,0 +1,179 @@
+package internity.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.logging.Logger;
+
+import internity.logic.cli.CommandParser;
+import internity.logic.commands.Command;
+import internity.logic.commands.ResultCache;
+import internity.storage.Storage;
+
+/**
+ * Runs a script of commands without the interactive chrome of {@link InternityManager}.
+ *
+ * <p>
+ * Each line of the script is parsed by {@link CommandParser} and executed in order. Blank lines and
+ * lines starting with {@code #} are skipped. There is no welcome message, no username prompt and no
+ * horizontal lines, so the output of a script is exactly the output of its commands. Errors are
+ * printed to standard error with the line number they come from.
+ * </p>
+ *
+ * <p>
+ * The script is read by a {@link CommandReader}, so a line longer than
+ * {@value CommandReader#DEFAULT_MAX_LINE_LENGTH} characters fails like a command would, without the
+ * line being held in memory.
+ * </p>
+ *
+ * <p>
+ * Instead of rewriting the data file after every command, the list is saved once at the end of the
+ * script, or after every {@code commitEvery} commands if that is positive. A save is skipped when
+ * the list has not changed since the last one. When a command fails, the {@link FailurePolicy}
+ * decides whether the rest of the script still runs; the changes made before the failure are saved
+ * either way.
+ * </p>
+ */
+public class BatchRunner {
+    /**
+     * What to do with the rest of a script once one of its commands has failed.
+     */
+    public enum FailurePolicy {
+        /** Skip the remaining commands. */
+        STOP,
+        /** Run the remaining commands. */
+        CONTINUE
+    }
+
+    /** The exit status of a script whose commands all succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** The exit status of a script in which a command failed, or whose changes could not be saved. */
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = Logger.getLogger(BatchRunner.class.getName());
+    private static final String COMMENT_PREFIX = "#";
+
+    private final CommandParser commandParser = new CommandParser();
+    private final int commitEvery;
+    private final FailurePolicy failurePolicy;
+    private long savedVersion;
+
+    /**
+     * Constructs a {@code BatchRunner} that keeps the list in the given storage.
+     *
+     * @param storagePath   the path to the file used for storing internship data
+     * @param commitEvery   the number of commands between saves, or {@code 0} to save only at the end
+     * @param failurePolicy what to do with the rest of the script once a command has failed
+     */
+    public BatchRunner(String storagePath, int commitEvery, FailurePolicy failurePolicy) {
+        assert commitEvery >= 0 : "Commit interval cannot be negative";
+        assert failurePolicy != null : "Failure policy cannot be null";
+        InternshipList.setStorage(new Storage(storagePath));
+        this.commitEvery = commitEvery;
+        this.failurePolicy = failurePolicy;
+    }
+
+    /**
+     * Loads the saved list, runs every command of the script and saves the list.
+     *
+     * @param script the text of the script, which need not be buffered
+     * @return {@link #EXIT_SUCCESS} if every command succeeded and the list was saved,
+     *         {@link #EXIT_FAILURE} otherwise
+     */
+    public int run(Reader script) {
+        try {
+            InternshipList.loadFromStorage();
+        } catch (InternityException e) {
+            System.err.println("Error: Could not load data from storage: " + e.getMessage());
+            return EXIT_FAILURE;
+        }
+        savedVersion = InternshipList.getVersion();
+
+        boolean hasFailed = false;
+        try {
+            hasFailed = runCommands(new CommandReader(script));
+        } catch (IOException e) {
+            System.err.println("Error: Could not read the script: " + e.getMessage());
+            hasFailed = true;
+        }
+
+        boolean isSaved = save();
+        logger.info("Batch finished, failed: " + hasFailed + ", saved: " + isSaved);
+        return hasFailed || !isSaved ? EXIT_FAILURE : EXIT_SUCCESS;
+    }
+
+    /**
+     * Executes the commands of the script in order until it ends, an exit command runs, or a command
+     * fails under the {@link FailurePolicy#STOP} policy.
+     *
+     * @return {@code true} if any command failed
+     */
+    private boolean runCommands(CommandReader script) throws IOException {
+        boolean hasFailed = false;
+        int lineNumber = 0;
+        int commandCount = 0;
+        while (script.hasNextLine()) {
+            lineNumber++;
+            String line;
+            try {
+                line = script.readLine();
+            } catch (InternityException e) {
+                hasFailed = true;
+                if (reportFailure(lineNumber, e)) {
+                    break;
+                }
+                continue;
+            }
+            if (line.isBlank() || line.trim().startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                Command command = commandParser.parseInput(line);
+                ResultCache.execute(command);
+                if (command.isExit()) {
+                    break;
+                }
+            } catch (Exception e) {
+                hasFailed = true;
+                if (reportFailure(lineNumber, e)) {
+                    break;
+                }
+            }
+
+            if (commitEvery > 0 && commandCount % commitEvery == 0 && !save()) {
+                return true;
+            }
+        }
+        return hasFailed;
+    }
+
+    /**
+     * Prints the error of a failed line to standard error.
+     *
+     * @return {@code true} if the rest of the script must be skipped
+     */
+    private boolean reportFailure(int lineNumber, Exception e) {
+        System.err.println("Error on line " + lineNumber + ": " + e.getMessage());
+        return failurePolicy == FailurePolicy.STOP;
+    }
+
+    /**
+     * Saves the list if it has changed since it was loaded or last saved.
+     *
+     * @return {@code true} if the list is saved, {@code false} if saving failed
+     */
+    private boolean save() {
+        if (InternshipList.getVersion() == savedVersion) {
+            return true;
+        }
+        try {
+            InternshipList.saveToStorage();
+            savedVersion = InternshipList.getVersion();
+            return true;
+        } catch (InternityException e) {
+            System.err.println("Error: Could not save data to storage: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package internity.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads command lines from a character stream, for the interactive loop of {@link InternityManager},
+ * the scripts of {@link BatchRunner} and the connections of {@link InternityDaemon}.
+ *
+ * <p>
+ * Characters are read in blocks of {@value #BUFFER_SIZE} into one reused array and split at line
+ * terminators by hand, so a line that lies within one block becomes a {@code String} with a single
+ * copy. This replaces {@link java.util.Scanner}, which matches every line against a regular expression,
+ * and {@link java.io.BufferedReader#readLine()}, which keeps a line however long it is.
+ * </p>
+ *
+ * <p>
+ * A line longer than the maximum length is never held in memory: once it is known to be too long,
+ * the rest of it is read and dropped, and {@link #readLine()} throws an {@link InternityException}.
+ * Reading then goes on with the next line. Lines end at {@code \n}, {@code \r} or {@code \r\n}, as
+ * for {@code BufferedReader}.
+ * </p>
+ */
+public class CommandReader implements Closeable {
+    /** The default largest number of characters in a line, far above that of any valid command. */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 4096;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader in;
+    private final int maxLineLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder partialLine = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean isAfterCarriageReturn;
+
+    /**
+     * Constructs a {@code CommandReader} that allows lines of up to {@value #DEFAULT_MAX_LINE_LENGTH}
+     * characters.
+     *
+     * @param in the stream to read from, which need not be buffered
+     */
+    public CommandReader(Reader in) {
+        this(in, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Constructs a {@code CommandReader} that allows lines of up to the given number of characters.
+     *
+     * @param in            the stream to read from, which need not be buffered
+     * @param maxLineLength the largest number of characters in a line, not counting its terminator
+     */
+    public CommandReader(Reader in, int maxLineLength) {
+        assert in != null : "Input stream cannot be null";
+        assert maxLineLength > 0 : "Maximum line length must be positive";
+        this.in = in;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Returns whether there is another line to read, waiting for input if there is none yet.
+     *
+     * @return {@code true} unless the stream has ended
+     * @throws IOException if the stream cannot be read
+     */
+    public boolean hasNextLine() throws IOException {
+        while (true) {
+            if (position >= limit && !fill()) {
+                return false;
+            }
+            if (!isAfterCarriageReturn) {
+                return true;
+            }
+            isAfterCarriageReturn = false;
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Reads the next line, without its terminator.
+     *
+     * @return the line, or {@code null} if the stream has ended
+     * @throws IOException        if the stream cannot be read
+     * @throws InternityException if the line is longer than the maximum length, in which case the
+     *                            whole line has been skipped
+     */
+    public String readLine() throws IOException, InternityException {
+        if (!hasNextLine()) {
+            return null;
+        }
+
+        partialLine.setLength(0);
+        boolean isTooLong = false;
+        do {
+            int start = position;
+            int end = start;
+            while (end < limit && buffer[end] != '\n' && buffer[end] != '\r') {
+                end++;
+            }
+            if (!isTooLong && partialLine.length() + end - start > maxLineLength) {
+                isTooLong = true;
+                partialLine.setLength(0);
+            }
+
+            if (end < limit) {
+                isAfterCarriageReturn = buffer[end] == '\r';
+                position = end + 1;
+                if (isTooLong) {
+                    throw InternityException.lineTooLong(maxLineLength);
+                }
+                if (partialLine.length() == 0) {
+                    return new String(buffer, start, end - start);
+                }
+                return partialLine.append(buffer, start, end - start).toString();
+            }
+
+            if (!isTooLong) {
+                partialLine.append(buffer, start, end - start);
+            }
+            position = limit;
+        } while (fill());
+
+        if (isTooLong) {
+            throw InternityException.lineTooLong(maxLineLength);
+        }
+        return partialLine.toString();
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if the stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the next block of characters into the buffer.
+     *
+     * @return {@code false} if the stream has ended
+     */
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package internity.core;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 
 /**
@@ -13,6 +14,8 @@ import java.util.Calendar;
  *
  */
 public class Date implements Comparable<Date> {
+    private static final int FORMATTED_LENGTH = 10;
+
     private int day;
     private int month;
     private int year;
@@ -101,6 +104,26 @@ public class Date implements Comparable<Date> {
         return new Date(day, month, year);
     }
 
+    /**
+     * Returns the number of days from 01-01-1970 to this date, which is negative for earlier dates.
+     *
+     * @return the epoch day of this date
+     */
+    public long toEpochDay() {
+        return LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    /**
+     * Returns the date that is the given number of days after 01-01-1970.
+     *
+     * @param epochDay the epoch day, negative for earlier dates
+     * @return the date of that day
+     */
+    public static Date ofEpochDay(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return new Date(date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+
     @Override
     public int compareTo(Date other) {
         if (this.year != other.year) {
@@ -125,6 +148,28 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public String toString() {
-        return String.format("%02d-%02d-%04d", day, month, year);
+        return appendTo(new StringBuilder(FORMATTED_LENGTH)).toString();
+    }
+
+    /**
+     * Appends this date to a builder in the format "DD-MM-YYYY", exactly as {@link #toString()}
+     * returns it, without formatting a pattern or creating an intermediate {@link String}.
+     *
+     * @param out the builder to append to
+     * @return the builder
+     */
+    public StringBuilder appendTo(StringBuilder out) {
+        appendPadded(out, day, 2).append('-');
+        appendPadded(out, month, 2).append('-');
+        return appendPadded(out, year, 4);
+    }
+
+    private static StringBuilder appendPadded(StringBuilder out, int value, int width) {
+        for (int limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+            if (value >= 0 && value < limit) {
+                out.append('0');
+            }
+        }
+        return out.append(value);
     }
 }
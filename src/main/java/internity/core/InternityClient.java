@@ -0,0 +1,57 @@
+package internity.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Sends one command line to a running {@link InternityDaemon} and copies its output to standard output.
+ *
+ * <p>
+ * The client only opens a socket and copies bytes, so it starts quickly and leaves loading the list,
+ * parsing and running the command to the daemon.
+ * </p>
+ */
+public final class InternityClient {
+    private static final int BUFFER_SIZE = 8192;
+
+    private InternityClient() {
+    }
+
+    /**
+     * Sends the command line to the daemon listening on the socket and writes the response to the
+     * given stream as it arrives.
+     *
+     * @param socketPath  the path of the socket that the daemon listens on
+     * @param commandLine the command line to run, as it would be typed in the interactive mode
+     * @param out         the stream to copy the output of the command to
+     * @return {@code 0} if the command was sent and its output received, {@code 1} if the daemon could
+     *         not be reached
+     */
+    public static int send(String socketPath, String commandLine, OutputStream out) {
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(Paths.get(socketPath));
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            ByteBuffer request = ByteBuffer.wrap((commandLine + "\n").getBytes(StandardCharsets.UTF_8));
+            while (request.hasRemaining()) {
+                channel.write(request);
+            }
+            channel.shutdownOutput();
+
+            ByteBuffer response = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(response) >= 0) {
+                out.write(response.array(), 0, response.position());
+                response.clear();
+            }
+            out.flush();
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Error: Could not reach the Internity daemon at " + socketPath + ": "
+                    + e.getMessage() + ". Start it with --daemon.");
+            return 1;
+        }
+    }
+}
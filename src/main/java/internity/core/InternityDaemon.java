@@ -0,0 +1,253 @@
+package internity.core;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import internity.logic.cli.CommandParser;
+import internity.logic.commands.Command;
+import internity.logic.commands.ResultCache;
+import internity.storage.Storage;
+
+/**
+ * Keeps the internship list, its indexes and the warmed-up code resident in one process, and runs
+ * the commands sent to it by {@link InternityClient} over a Unix domain socket.
+ *
+ * <p>
+ * Each connection carries one request: a single command line, terminated by a line feed or by the end
+ * of the input. The daemon runs the command exactly as the interactive loop would and streams
+ * everything it prints back over the same connection, then closes it. A connection that ends without
+ * a line gets no reply. Each connection is read on its own thread, so a client that is slow to send its
+ * line does not hold up the others, but commands run one at a time under a lock, since they redirect
+ * {@link System#out}. The list is saved after every command that changes it, and the {@code exit}
+ * command saves the list, removes the socket file and stops the daemon.
+ * </p>
+ *
+ * <p>
+ * A socket file left behind by a daemon that did not stop cleanly is replaced on startup; if another
+ * daemon is still listening on it, startup fails instead.
+ * </p>
+ */
+public class InternityDaemon {
+    /** The default path of the socket that the daemon listens on. */
+    public static final String DEFAULT_SOCKET_PATH = "./data/internity.sock";
+
+    private static final Logger logger = Logger.getLogger(InternityDaemon.class.getName());
+
+    private final Path socketPath;
+    private final CommandParser commandParser = new CommandParser();
+    private final ReentrantLock commandLock = new ReentrantLock();
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "internity-daemon-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long savedVersion;
+    private volatile boolean isStopping;
+
+    /**
+     * Constructs a daemon that keeps the list in the given storage and listens on the given socket.
+     *
+     * @param storagePath the path to the file used for storing internship data
+     * @param socketPath  the path of the socket file to listen on
+     */
+    public InternityDaemon(String storagePath, String socketPath) {
+        InternshipList.setStorage(new Storage(storagePath));
+        this.socketPath = Paths.get(socketPath);
+    }
+
+    /**
+     * Loads the saved list and serves requests until an {@code exit} command is received.
+     *
+     * @return {@code 0} once the daemon has stopped after an {@code exit} command, {@code 1} if it
+     *         could not start or stopped because of an error
+     */
+    public int run() {
+        try {
+            InternshipList.loadFromStorage();
+        } catch (InternityException e) {
+            System.err.println("Error: Could not load data from storage: " + e.getMessage());
+            return 1;
+        }
+        savedVersion = InternshipList.getVersion();
+
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(socketPath);
+        try {
+            removeStaleSocket(address);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            return 1;
+        }
+
+        boolean isBound = false;
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(address);
+            isBound = true;
+            System.out.println("Internity daemon listening on " + socketPath);
+            while (!isStopping) {
+                SocketChannel channel;
+                try {
+                    channel = server.accept();
+                } catch (IOException e) {
+                    if (!isStopping) {
+                        logger.warning("Failed to accept a connection: " + e.getMessage());
+                    }
+                    continue;
+                }
+                connections.execute(() -> handle(channel, server));
+            }
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Error: Could not listen on " + socketPath + ": " + e.getMessage());
+            return 1;
+        } finally {
+            connections.shutdownNow();
+            if (isBound) {
+                removeSocket();
+            }
+        }
+    }
+
+    /**
+     * Serves one connection and closes it, stopping the daemon by closing the server channel after an
+     * {@code exit} command.
+     */
+    private void handle(SocketChannel channel, ServerSocketChannel server) {
+        try (channel) {
+            if (serve(channel)) {
+                isStopping = true;
+                server.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to serve a request: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one command line from the connection, runs it and sends back its output. A line that is
+     * too long for a {@link CommandReader} is answered with an error, and a connection that ends without
+     * a line is left unanswered.
+     *
+     * @return {@code true} if the command was {@code exit}
+     */
+    private boolean serve(SocketChannel channel) throws IOException {
+        CommandReader reader = new CommandReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        String input = null;
+        InternityException readError = null;
+        try {
+            input = reader.readLine();
+        } catch (InternityException e) {
+            readError = e;
+        }
+        if (input == null && readError == null) {
+            logger.fine("Connection closed without a command");
+            return false;
+        }
+
+        commandLock.lock();
+        try {
+            if (isStopping) {
+                return false;
+            }
+            return runCommand(channel, input, readError);
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    /**
+     * Runs a command line with its output redirected to the connection, with the command lock held.
+     *
+     * @return {@code true} if the command was {@code exit}
+     */
+    private boolean runCommand(SocketChannel channel, String input, InternityException readError) {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        PrintStream response = new PrintStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel)), false, StandardCharsets.UTF_8);
+        boolean isExit = false;
+        try {
+            System.setOut(response);
+            System.setErr(response);
+            if (readError != null) {
+                throw readError;
+            }
+            Command command = commandParser.parseInput(input);
+            ResultCache.execute(command);
+            isExit = command.isExit();
+            save();
+        } catch (Exception e) {
+            System.out.println(e.getMessage());
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+            response.flush();
+        }
+        return isExit;
+    }
+
+    /**
+     * Saves the list if it has changed since it was loaded or last saved.
+     */
+    private void save() {
+        if (InternshipList.getVersion() == savedVersion) {
+            return;
+        }
+        try {
+            InternshipList.saveToStorage();
+            savedVersion = InternshipList.getVersion();
+        } catch (InternityException e) {
+            System.out.println("Warning: Could not save data to storage.");
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void removeSocket() {
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            logger.warning("Failed to remove socket file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes a socket file that no daemon is listening on, and creates its parent directories.
+     *
+     * @throws IOException if another daemon is listening on the socket, or the file cannot be deleted
+     */
+    private void removeStaleSocket(UnixDomainSocketAddress address) throws IOException {
+        if (socketPath.getParent() != null) {
+            Files.createDirectories(socketPath.getParent());
+        }
+        if (!Files.exists(socketPath)) {
+            return;
+        }
+        boolean isListening;
+        try {
+            SocketChannel.open(address).close();
+            isListening = true;
+        } catch (IOException e) {
+            isListening = false;
+        }
+        if (isListening) {
+            throw new IOException("Another daemon is already listening on " + socketPath);
+        }
+        logger.info("Removing stale socket file " + socketPath);
+        Files.delete(socketPath);
+    }
+}
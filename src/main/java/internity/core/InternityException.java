@@ -9,6 +9,14 @@ package internity.core;
  * </p>
  */
 public class InternityException extends Exception {
+    private static final String ADD_USAGE = "Usage: add company/COMPANY_NAME role/ROLE_NAME deadline/DEADLINE"
+            + " pay/PAY_AMOUNT";
+    private static final String LIST_USAGE = "Usage: list [sort/asc|sort/desc] [format/json]";
+
+    private final String beforeColumn;
+    private final String afterColumn;
+    private final int column;
+
     /**
      * Constructs an {@code InternityException} with the specified detail message.
      *
@@ -16,6 +24,38 @@ public class InternityException extends Exception {
      */
     public InternityException(String message) {
         super(message);
+        this.beforeColumn = message;
+        this.afterColumn = "";
+        this.column = 0;
+    }
+
+    /**
+     * Constructs an {@code InternityException} whose message reports a column of the input, placed
+     * between two parts of the message.
+     *
+     * @param beforeColumn the part of the message before the column
+     * @param column       the column, counted from 1
+     * @param afterColumn  the part of the message after the column
+     */
+    private InternityException(String beforeColumn, int column, String afterColumn) {
+        super(beforeColumn + " at column " + column + afterColumn);
+        this.beforeColumn = beforeColumn;
+        this.afterColumn = afterColumn;
+        this.column = column;
+    }
+
+    /**
+     * Returns this exception with its column moved by the given number of characters, so that a column
+     * counted within a command's arguments can be reported as a column of the whole input.
+     *
+     * @param offset the number of characters before the part of the input the column was counted in
+     * @return an exception with the moved column, or this exception if it does not report a column
+     */
+    public InternityException shiftColumn(int offset) {
+        if (column == 0 || offset == 0) {
+            return this;
+        }
+        return new InternityException(beforeColumn, column + offset, afterColumn);
     }
 
     /**
@@ -46,18 +86,49 @@ public class InternityException extends Exception {
         return new InternityException("Invalid date format. Expected dd-MM-yyyy (e.g. 08-10-2025)");
     }
 
+    /**
+     * Returns an exception indicating that the program arguments are invalid.
+     *
+     * @return an {@code InternityException} for invalid program arguments
+     */
+    public static InternityException invalidProgramArguments() {
+        return new InternityException("Invalid arguments.\n"
+                + "Usage: java -jar internity.jar\n"
+                + "       java -jar internity.jar --batch FILE|- [--commit-every N] [--on-error stop|continue]\n"
+                + "       java -jar internity.jar --daemon [--socket PATH]\n"
+                + "       java -jar internity.jar --client [--socket PATH] COMMAND...\n"
+                + "       java -jar internity.jar --server [--port N]");
+    }
+
     /**
      * Returns an exception indicating that the add command format is invalid.
      *
      * @return an {@code InternityException} for an invalid add command format
      */
     public static InternityException invalidAddCommand() {
-        return new InternityException("Invalid add command.\n" +
-                "Usage: add company/COMPANY_NAME" +
-                " role/ROLE_NAME" +
-                " deadline/DEADLINE" +
-                " pay/PAY_AMOUNT"
-        );
+        return new InternityException("Invalid add command.\n" + ADD_USAGE);
+    }
+
+    /**
+     * Returns an exception indicating that the add command does not have exactly one of each field,
+     * reporting where a field is missing or an extra one starts.
+     *
+     * @param column the position in the input, counted from 1
+     * @return an {@code InternityException} for an invalid add command format
+     */
+    public static InternityException invalidAddCommand(int column) {
+        return new InternityException("Invalid add command", column, ".\n" + ADD_USAGE);
+    }
+
+    /**
+     * Returns an exception indicating that an identical internship application already exists.
+     *
+     * @param index the 1-based index of the existing application
+     * @return an {@code InternityException} for a duplicate internship
+     */
+    public static InternityException duplicateInternship(int index) {
+        return new InternityException("An application with the same company, role and deadline already exists"
+                + " at index " + index + ".");
     }
 
     /**
@@ -75,7 +146,68 @@ public class InternityException extends Exception {
      * @return an {@code InternityException} for an invalid find command format
      */
     public static InternityException invalidFindCommand() {
-        return new InternityException("Invalid find command.\nUsage: find KEYWORD");
+        return new InternityException("Invalid find command.\n"
+                + "Usage: find KEYWORD\n"
+                + "       find all/TERM [MORE_TERMS]...\n"
+                + "       find any/TERM [MORE_TERMS]...\n"
+                + "       find fuzzy/TERM [MORE_TERMS]...");
+    }
+
+    /**
+     * Returns an exception indicating that the complete command format is invalid.
+     *
+     * @return an {@code InternityException} for an invalid complete command format
+     */
+    public static InternityException invalidCompleteCommand() {
+        return new InternityException("Invalid complete command.\n"
+                + "Usage: complete PREFIX\n"
+                + "       complete company/PREFIX\n"
+                + "       complete role/PREFIX");
+    }
+
+    /**
+     * Returns an exception indicating that the due command format is invalid.
+     *
+     * @return an {@code InternityException} for an invalid due command format
+     */
+    public static InternityException invalidDueCommand() {
+        return new InternityException("Invalid due command.\n"
+                + "Usage: due week/\n"
+                + "       due month/");
+    }
+
+    /**
+     * Returns an exception indicating that the next command format is invalid.
+     *
+     * @return an {@code InternityException} for an invalid next command format
+     */
+    public static InternityException invalidNextCommand() {
+        return new InternityException("Invalid next command.\n"
+                + "Usage: next status/STATUS");
+    }
+
+    /**
+     * Returns an exception indicating that the view command format is invalid.
+     *
+     * @return an {@code InternityException} for an invalid view command format
+     */
+    public static InternityException invalidViewCommand() {
+        return new InternityException("Invalid view command.\n"
+                + "Usage: view save NAME [status/STATUS] [company/KEYWORD] [role/KEYWORD]"
+                + " [minpay/AMOUNT] [maxpay/AMOUNT] [sort/asc|sort/desc]\n"
+                + "       view NAME\n"
+                + "       view");
+    }
+
+    /**
+     * Returns an exception indicating that no view has been saved under the given name.
+     *
+     * @param name the name of the view
+     * @return an {@code InternityException} for an unknown view
+     */
+    public static InternityException unknownView(String name) {
+        return new InternityException("No view named \"" + name + "\". Save one with: view save " + name
+                + " FILTER");
     }
 
     /**
@@ -93,7 +225,26 @@ public class InternityException extends Exception {
      * @return an {@code InternityException} for an invalid list command format
      */
     public static InternityException invalidListCommand() {
-        return new InternityException("Invalid list command.\nUsage: list [sort/asc|sort/desc]");
+        return new InternityException("Invalid list command.\n" + LIST_USAGE);
+    }
+
+    /**
+     * Returns an exception indicating that the list command has a malformed field.
+     *
+     * @param column the position of the field in the input, counted from 1
+     * @return an {@code InternityException} for an invalid list command format
+     */
+    public static InternityException invalidListCommand(int column) {
+        return new InternityException("Invalid list command", column, ".\n" + LIST_USAGE);
+    }
+
+    /**
+     * Returns an exception indicating that the output format given with {@code format/} is unknown.
+     *
+     * @return an {@code InternityException} for an unknown output format
+     */
+    public static InternityException invalidOutputFormat() {
+        return new InternityException("Invalid output format.\nUsage: format/table or format/json");
     }
 
     /**
@@ -132,16 +283,12 @@ public class InternityException extends Exception {
      * Returns an exception indicating that a required field is missing.
      * For Add Command.
      *
-     * @param string information of the missing field
+     * @param string information of the missing field, without a full stop
+     * @param column the position in the input where the field was expected, counted from 1
      * @return an {@code InternityException} for the missing field
      */
-    public static InternityException noFieldForAdd(String string) {
-        return new InternityException(string + "\n" +
-                "Usage: add company/COMPANY_NAME" +
-                " role/ROLE_NAME" +
-                " deadline/DEADLINE" +
-                " pay/PAY_AMOUNT"
-        );
+    public static InternityException noFieldForAdd(String string, int column) {
+        return new InternityException(string, column, ".\n" + ADD_USAGE);
     }
 
     /**
@@ -182,14 +329,13 @@ public class InternityException extends Exception {
     /**
      * Returns an exception indicating that an unknown field was provided in the update command.
      *
-     * @param token the unknown field token
+     * @param token  the unknown field token
+     * @param column the position of the token in the input, counted from 1
      * @return an {@code InternityException} for an unknown update field
      */
-    public static InternityException unknownUpdateField(String token) {
-        return new InternityException(
-                "Unknown update field in \"" + token
-                        + "\". Allowed: company, role, deadline, pay, status"
-        );
+    public static InternityException unknownUpdateField(String token, int column) {
+        return new InternityException("Unknown update field in \"" + token + "\"", column,
+                ". Allowed: company, role, deadline, pay, status");
     }
 
     /**
@@ -217,10 +363,32 @@ public class InternityException extends Exception {
     /**
      * Returns an exception indicating an invalid character was input.
      *
-     * @param c the invalid character
+     * @param c      the invalid character
+     * @param column the position of the character in the input, counted from 1
      * @return an {@code InternityException} for an invalid character used.
      */
-    public static InternityException invalidCharacter(char c) {
-        return new InternityException("Input contains invalid character: '" + c + "'");
+    public static InternityException invalidCharacter(char c, int column) {
+        return new InternityException("Input contains invalid character: '" + c + "'", column, "");
+    }
+
+    /**
+     * Returns an exception indicating that an input line is longer than allowed.
+     *
+     * @param maxLength the largest number of characters a line can have
+     * @return an {@code InternityException} for a line that is too long
+     */
+    public static InternityException lineTooLong(int maxLength) {
+        return new InternityException("Input line is too long. Lines can have at most " + maxLength + " characters.");
+    }
+
+    /**
+     * Returns an exception indicating that a field sent to the HTTP API contains the tag of a field,
+     * which would let it set another field of the command.
+     *
+     * @param field the name of the field
+     * @return an {@code InternityException} for a field containing a tag
+     */
+    public static InternityException fieldContainsTag(String field) {
+        return new InternityException("Field " + field + " cannot contain a field tag such as pay/ or status/.");
     }
 }
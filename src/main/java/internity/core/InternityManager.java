@@ -1,10 +1,12 @@
 package internity.core;
 
-import java.util.Scanner;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.logging.Logger;
 
 import internity.logic.cli.CommandParser;
 import internity.logic.commands.Command;
+import internity.logic.commands.ResultCache;
 import internity.storage.Storage;
 import internity.ui.Ui;
 
@@ -23,7 +25,7 @@ import internity.ui.Ui;
  */
 public class InternityManager {
     private static final Logger logger = Logger.getLogger(InternityManager.class.getName());
-    private final Scanner scanner;
+    private final CommandReader reader;
     private final CommandParser commandParser;
 
     /**
@@ -32,7 +34,7 @@ public class InternityManager {
      * @param storagePath the path to the file or directory used for storing internship data
      */
     public InternityManager(String storagePath) {
-        scanner = new Scanner(System.in);
+        reader = new CommandReader(new InputStreamReader(System.in));
         Storage storage = new Storage(storagePath);
         InternshipList.setStorage(storage);
         commandParser = new CommandParser();
@@ -46,23 +48,28 @@ public class InternityManager {
      *     <li>Redirects error output to standard output for ordered display.</li>
      *     <li>Loads saved internship data from storage.</li>
      *     <li>Prints the welcome message and configures the username if necessary.</li>
-     *     <li>Begins the main command loop, processing user input until an exit command is issued.</li>
+     *     <li>Begins the main command loop, processing user input until an exit command is issued
+     *         or the input ends.</li>
      * </ol>
+     * Input is read by a {@link CommandReader}, so a line longer than
+     * {@value CommandReader#DEFAULT_MAX_LINE_LENGTH} characters is reported as an error and skipped.
      */
     public void start() {
         System.setErr(System.out);
         loadData();
         Ui.printWelcomeMessage();
-        configureUsername();
+        if (!configureUsername()) {
+            return;
+        }
         Ui.printHorizontalLine();
 
         boolean isExit = false;
-        while (!isExit && scanner.hasNextLine()) {
-            String input = scanner.nextLine();
+        while (!isExit && hasInput()) {
             Ui.printHorizontalLine();
             try {
+                String input = reader.readLine();
                 Command command = commandParser.parseInput(input);
-                command.execute();
+                ResultCache.execute(command);
                 isExit = command.isExit();
                 saveData(); // auto-save after each command
             } catch (Exception e) {
@@ -70,7 +77,27 @@ public class InternityManager {
             }
             Ui.printHorizontalLine();
         }
-        scanner.close();
+        closeInput();
+    }
+
+    /**
+     * Returns whether there is another line of input, treating input that cannot be read as ended.
+     */
+    private boolean hasInput() {
+        try {
+            return reader.hasNextLine();
+        } catch (IOException e) {
+            logger.warning("Could not read input: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void closeInput() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.warning("Could not close input: " + e.getMessage());
+        }
     }
 
     /**
@@ -107,15 +134,27 @@ public class InternityManager {
      * <p>
      * If a username is not yet set, the method prompts the user to input one.
      * The configured username is then displayed as part of a personalized greeting.
+     *
+     * @return {@code true} if a username is set, {@code false} if the input ended before one was entered
      */
-    private void configureUsername() {
-        assert scanner != null : "Scanner should not be null";
+    private boolean configureUsername() {
+        assert reader != null : "Reader should not be null";
         logger.info("Starting username configuration.");
 
         while (!isValidUsername(InternshipList.getUsername())) {
             logger.info("No valid username found. Prompting user for input...");
             Ui.printAskUsername();
-            String username = scanner.nextLine();
+            if (!hasInput()) {
+                logger.warning("Input ended before a username was entered.");
+                return false;
+            }
+            String username;
+            try {
+                username = reader.readLine();
+            } catch (IOException | InternityException e) {
+                username = null;
+                logger.warning("Could not read username: " + e.getMessage());
+            }
 
             if (!isValidUsername(username)) {
                 logger.warning("Invalid username entered (empty or null). Asking again...");
@@ -127,6 +166,7 @@ public class InternityManager {
         }
         assert InternshipList.getUsername() != null : "Username must be initialized before greeting";
         Ui.printGreeting(InternshipList.getUsername());
+        return true;
     }
 
     /**
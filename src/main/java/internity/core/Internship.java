@@ -27,11 +27,14 @@ public class Internship implements Comparable<Internship> {
     private static final Set<String> VALID_STATUSES = Set.of(
             "Pending", "Interested", "Applied", "Interviewing", "Offer", "Accepted", "Rejected"
     );
-    private String company;
-    private String role;
+    private AsciiString company;
+    private AsciiString role;
     private Date deadline;
     private int pay;
     private String status;
+    private int id = -1;
+    private int companyCode = -1;
+    private int roleCode = -1;
 
     /**
      * Constructs a new {@code Internship} with the given details.
@@ -43,8 +46,21 @@ public class Internship implements Comparable<Internship> {
      * @param role     the role or job title of the internship
      * @param deadline the application deadline
      * @param pay      the pay for the internship
+     * @throws IllegalArgumentException if the company or role contains a non-ASCII character
      */
     public Internship(String company, String role, Date deadline, int pay) {
+        this(AsciiString.of(company), AsciiString.of(role), deadline, pay);
+    }
+
+    /**
+     * Constructs a new {@code Internship} from company and role values that are already ASCII strings.
+     *
+     * @param company  the name of the company offering the internship
+     * @param role     the role or job title of the internship
+     * @param deadline the application deadline
+     * @param pay      the pay for the internship
+     */
+    public Internship(AsciiString company, AsciiString role, Date deadline, int pay) {
         this.company = company;
         this.role = role;
         this.deadline = deadline;
@@ -52,12 +68,105 @@ public class Internship implements Comparable<Internship> {
         this.status = "Pending";
     }
 
+    /**
+     * Returns a copy of this internship, including its record id.
+     *
+     * @return a new {@code Internship} holding the same values as this one
+     */
+    public Internship copy() {
+        Internship copy = new Internship(company, role, deadline, pay);
+        copy.status = status;
+        copy.id = id;
+        copy.companyCode = companyCode;
+        copy.roleCode = roleCode;
+        return copy;
+    }
+
+    /**
+     * Returns the record id assigned to this internship by the {@link InternshipList}.
+     * <p>
+     * Ids increase in the order internships are added, so comparing ids gives the list order.
+     * An internship that has never been added to the list has an id of {@code -1}.
+     * </p>
+     *
+     * @return the record id of this internship
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Sets the record id of this internship. Only the {@link InternshipList} assigns ids.
+     *
+     * @param id the record id
+     */
+    void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the code of the company in the company dictionary of the {@link InternshipList}.
+     *
+     * @return the company code, or {@code -1} if this internship is not in the list
+     */
+    public int getCompanyCode() {
+        return companyCode;
+    }
+
+    /**
+     * Returns the code of the role in the role dictionary of the {@link InternshipList}.
+     *
+     * @return the role code, or {@code -1} if this internship is not in the list
+     */
+    public int getRoleCode() {
+        return roleCode;
+    }
+
+    /**
+     * Replaces the company with the shared instance from the company dictionary.
+     * Only the {@link InternshipList} interns values.
+     *
+     * @param code    the code of the company
+     * @param company the shared company string, equal to the current company
+     */
+    void bindCompany(int code, AsciiString company) {
+        assert code < 0 || company.equals(this.company) : "Interned company must equal the current company";
+        this.companyCode = code;
+        if (code >= 0) {
+            this.company = company;
+        }
+    }
+
+    /**
+     * Replaces the role with the shared instance from the role dictionary.
+     * Only the {@link InternshipList} interns values.
+     *
+     * @param code the code of the role
+     * @param role the shared role string, equal to the current role
+     */
+    void bindRole(int code, AsciiString role) {
+        assert code < 0 || role.equals(this.role) : "Interned role must equal the current role";
+        this.roleCode = code;
+        if (code >= 0) {
+            this.role = role;
+        }
+    }
+
     /**
      * Returns the company offering this internship.
      *
      * @return the company name
      */
     public String getCompany() {
+        return company.toString();
+    }
+
+    /**
+     * Returns the company offering this internship as an {@link AsciiString}, without copying it.
+     *
+     * @return the company name
+     */
+    public AsciiString getCompanyAscii() {
         return company;
     }
 
@@ -67,7 +176,7 @@ public class Internship implements Comparable<Internship> {
      * @param company the new company name
      */
     public void setCompany(String company) {
-        this.company = company;
+        this.company = AsciiString.of(company);
     }
 
     /**
@@ -76,6 +185,15 @@ public class Internship implements Comparable<Internship> {
      * @return the internship role
      */
     public String getRole() {
+        return role.toString();
+    }
+
+    /**
+     * Returns the role for this internship as an {@link AsciiString}, without copying it.
+     *
+     * @return the internship role
+     */
+    public AsciiString getRoleAscii() {
         return role;
     }
 
@@ -85,7 +203,7 @@ public class Internship implements Comparable<Internship> {
      * @param role the new role
      */
     public void setRole(String role) {
-        this.role = role;
+        this.role = AsciiString.of(role);
     }
 
     /**
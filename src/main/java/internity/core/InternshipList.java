@@ -3,9 +3,25 @@ package internity.core;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import internity.index.CompanyAggregates;
+import internity.index.CompletionIndex;
+import internity.index.DeadlineDensity;
+import internity.index.DeadlineIndex;
+import internity.index.DuplicateIndex;
+import internity.index.MembershipFilter;
+import internity.index.PayDistribution;
+import internity.index.SavedViews;
+import internity.index.SearchIndex;
+import internity.index.StatusDeadlineIndex;
+import internity.logic.commands.CommandResult;
 import internity.logic.commands.ListCommand;
 import internity.storage.Storage;
 import internity.ui.Ui;
@@ -21,14 +37,196 @@ import internity.ui.Ui;
  * </p>
  */
 public class InternshipList {
+    /** The default largest number of matches shown by a ranked search. */
+    public static final int DEFAULT_SEARCH_LIMIT = 100;
+
     private static final Logger LOGGER = Logger.getLogger(InternshipList.class.getName());
     private static final ArrayList<Internship> internshipList = new ArrayList<>();
+    private static final String PARALLEL_THRESHOLD_PROPERTY = "internity.parallel.threshold";
+    private static final String FALSE_POSITIVE_RATE_PROPERTY = "internity.bloom.fpp";
+    private static final String SEARCH_LIMIT_PROPERTY = "internity.search.limit";
+    private static final List<InternshipListener> listeners = new ArrayList<>();
+    private static final StringDictionary companies = new StringDictionary();
+    private static final StringDictionary roles = new StringDictionary();
+    private static final SearchIndex searchIndex = new SearchIndex();
+    private static final CompletionIndex completionIndex = new CompletionIndex();
+    private static final DuplicateIndex duplicateIndex = new DuplicateIndex();
+    private static final DeadlineIndex deadlineIndex = new DeadlineIndex();
+    private static final CompanyAggregates companyAggregates = new CompanyAggregates();
+    private static final PayDistribution payDistribution = new PayDistribution();
+    private static final DeadlineDensity deadlineDensity = new DeadlineDensity();
+    private static final StatusDeadlineIndex statusDeadlineIndex = new StatusDeadlineIndex();
+    private static final MembershipFilter membershipFilter =
+            new MembershipFilter(() -> internshipList, readFalsePositiveRate());
+    private static final SavedViews savedViews = new SavedViews(() -> internshipList);
+    // lazily rebuilt map from internship to its current index, see indexOf()
+    private static final IdentityHashMap<Internship, Integer> positions = new IdentityHashMap<>();
+    private static boolean isPositionsValid = true;
+    private static int nextId = 0;
+    // incremented on every change to the list or the username, see getVersion()
+    private static long version = 0;
     private static Storage storage;
     private static String username;
+    private static int parallelThreshold =
+            Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, ParallelFilter.DEFAULT_THRESHOLD);
+    private static int searchLimit = Math.max(1, Integer.getInteger(SEARCH_LIMIT_PROPERTY, DEFAULT_SEARCH_LIMIT));
+
+    static {
+        addListener(searchIndex);
+        addListener(completionIndex);
+        addListener(membershipFilter);
+        addListener(duplicateIndex);
+        addListener(savedViews);
+        addListener(deadlineIndex);
+        addListener(companyAggregates);
+        addListener(payDistribution);
+        addListener(deadlineDensity);
+        addListener(statusDeadlineIndex);
+    }
 
     private InternshipList() {
     }
 
+    /**
+     * Registers a listener to be notified of every change to the list.
+     *
+     * @param listener the listener to register
+     */
+    public static void addListener(InternshipListener listener) {
+        assert listener != null : "Listener cannot be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously registered with {@link #addListener(InternshipListener)}.
+     *
+     * @param listener the listener to unregister
+     */
+    public static void removeListener(InternshipListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the inverted term index over the company and role of every internship in the list.
+     *
+     * @return the search index
+     */
+    public static SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the index of distinct company and role names used for completion.
+     *
+     * @return the completion index
+     */
+    public static CompletionIndex getCompletionIndex() {
+        return completionIndex;
+    }
+
+    /**
+     * Returns the Bloom filters used to skip searches that cannot match any internship.
+     *
+     * @return the membership filter
+     */
+    public static MembershipFilter getMembershipFilter() {
+        return membershipFilter;
+    }
+
+    /**
+     * Returns the dictionary of distinct company names of the internships in the list.
+     *
+     * @return the company dictionary
+     */
+    public static StringDictionary getCompanyDictionary() {
+        return companies;
+    }
+
+    /**
+     * Returns the dictionary of distinct roles of the internships in the list.
+     *
+     * @return the role dictionary
+     */
+    public static StringDictionary getRoleDictionary() {
+        return roles;
+    }
+
+    /**
+     * Returns the index of internships by their normalised company, role and deadline.
+     *
+     * @return the duplicate index
+     */
+    public static DuplicateIndex getDuplicateIndex() {
+        return duplicateIndex;
+    }
+
+    /**
+     * Returns the index of internships by deadline.
+     *
+     * @return the deadline index
+     */
+    public static DeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    /**
+     * Returns the number of deadlines per day, for counting the deadlines in a range of days.
+     *
+     * @return the deadline density
+     */
+    public static DeadlineDensity getDeadlineDensity() {
+        return deadlineDensity;
+    }
+
+    /**
+     * Returns the index of internships by status and deadline, for finding the next deadline of a status.
+     *
+     * @return the status and deadline index
+     */
+    public static StatusDeadlineIndex getStatusDeadlineIndex() {
+        return statusDeadlineIndex;
+    }
+
+    /**
+     * Returns the per-company counts, pay statistics and status breakdown.
+     *
+     * @return the company aggregates
+     */
+    public static CompanyAggregates getCompanyAggregates() {
+        return companyAggregates;
+    }
+
+    /**
+     * Returns the distribution of pay over the internships in the list.
+     *
+     * @return the pay distribution
+     */
+    public static PayDistribution getPayDistribution() {
+        return payDistribution;
+    }
+
+    /**
+     * Returns the named views whose results are kept up to date as the list changes.
+     *
+     * @return the saved views
+     */
+    public static SavedViews getSavedViews() {
+        return savedViews;
+    }
+
+    /**
+     * Returns the mutation version of the list.
+     * <p>
+     * The version changes whenever an internship is added, deleted or updated, the list is cleared,
+     * or the username is changed, so two reads at the same version see the same data.
+     * </p>
+     *
+     * @return the current version
+     */
+    public static long getVersion() {
+        return version;
+    }
+
     /**
      * Sets the storage instance for auto-saving.
      *
@@ -48,8 +246,11 @@ public class InternshipList {
             return;
         }
         ArrayList<Internship> loadedInternships = storage.load();
-        internshipList.clear();
-        internshipList.addAll(loadedInternships);
+        clear();
+        internshipList.ensureCapacity(loadedInternships.size());
+        for (Internship internship : loadedInternships) {
+            append(internship);
+        }
     }
 
     /**
@@ -77,10 +278,87 @@ public class InternshipList {
      */
     public static void add(Internship item) {
         LOGGER.info("Adding new internship to the ArrayList");
-        internshipList.add(item);
+        append(item);
         LOGGER.info("New internship has been added successfully.");
     }
 
+    /**
+     * Appends an internship to the list, assigns its record id and notifies all listeners.
+     */
+    private static void append(Internship item) {
+        internshipList.add(item);
+        version++;
+        if (item == null) {
+            isPositionsValid = false;
+            return;
+        }
+        item.setId(nextId++);
+        internCompany(item);
+        internRole(item);
+        if (isPositionsValid) {
+            positions.put(item, internshipList.size() - 1);
+        }
+        for (InternshipListener listener : listeners) {
+            listener.onAdd(item);
+        }
+    }
+
+    /**
+     * Returns the index of an internship with the same company, role and deadline as the given values.
+     * Company and role are compared ignoring case and extra whitespace.
+     *
+     * @param company  the company to look up
+     * @param role     the role to look up
+     * @param deadline the deadline to look up
+     * @return the zero-based index of an existing duplicate, or {@code -1} if there is none
+     */
+    public static int indexOfDuplicate(String company, String role, Date deadline) {
+        Internship duplicate = duplicateIndex.findDuplicate(company, role, deadline);
+        return duplicate == null ? -1 : indexOf(duplicate);
+    }
+
+    /**
+     * Removes every internship that has the same company, role and deadline as an earlier internship
+     * in the list, keeping the first of each group.
+     *
+     * <p>
+     * The list is compacted in a single pass, so the cost does not depend on the number of duplicates.
+     * If the {@link DuplicateIndex} reports no duplicates, the list is left untouched without a scan.
+     * </p>
+     *
+     * @return the number of internships removed
+     */
+    public static int removeDuplicates() {
+        if (duplicateIndex.duplicateCount() == 0) {
+            return 0;
+        }
+
+        LOGGER.info("Removing duplicate internships.");
+        Set<String> seen = new HashSet<>();
+        List<Internship> removed = new ArrayList<>();
+        int kept = 0;
+        for (Internship internship : internshipList) {
+            if (internship != null && !seen.add(DuplicateIndex.keyOf(internship.getCompany(),
+                    internship.getRole(), internship.getDeadline()))) {
+                removed.add(internship);
+                continue;
+            }
+            internshipList.set(kept++, internship);
+        }
+        internshipList.subList(kept, internshipList.size()).clear();
+        isPositionsValid = false;
+        version++;
+
+        for (Internship internship : removed) {
+            for (InternshipListener listener : listeners) {
+                listener.onRemove(internship);
+            }
+            releaseValues(internship);
+        }
+        LOGGER.info("Removed " + removed.size() + " duplicate internships.");
+        return removed.size();
+    }
+
     /**
      * Deletes an {@link Internship} from the {@code ArrayList} based on the given index.
      *
@@ -97,7 +375,16 @@ public class InternshipList {
         if (index < 0 || index >= internshipList.size()) {
             throw new InternityException("Invalid internship index: " + (index + 1));
         }
-        internshipList.remove(index);
+        Internship removed = internshipList.remove(index);
+        isPositionsValid = false;
+        version++;
+        if (removed == null) {
+            return;
+        }
+        for (InternshipListener listener : listeners) {
+            listener.onRemove(removed);
+        }
+        releaseValues(removed);
     }
 
     /**
@@ -123,6 +410,28 @@ public class InternshipList {
         return internshipList.size();
     }
 
+    /**
+     * Returns the current zero-based index of the given internship in the list.
+     * <p>
+     * Positions are cached and only recomputed after an internship has been deleted,
+     * so repeated lookups take constant time.
+     * </p>
+     *
+     * @param internship the internship to locate
+     * @return the index of the internship, or {@code -1} if it is not in the list
+     */
+    public static int indexOf(Internship internship) {
+        if (!isPositionsValid) {
+            positions.clear();
+            for (int i = 0; i < internshipList.size(); i++) {
+                positions.put(internshipList.get(i), i);
+            }
+            isPositionsValid = true;
+        }
+        Integer position = positions.get(internship);
+        return position == null ? -1 : position;
+    }
+
     /**
      * Returns a new list of internships sorted by the specified order.
      * The original internship list is not modified.
@@ -142,34 +451,27 @@ public class InternshipList {
     }
 
     /**
-     * Lists internships in a formatted table.
-     * Sorting, when requested, is applied only to a temporary copy for display.
+     * Returns the internships as a table, in the given display order.
+     * Sorting, when requested, is applied only to a temporary copy for display, and the rows are
+     * numbered in that order.
      *
      * @param order the display order type
+     * @return the table of internships, or a message if the list is empty
      * @throws InternityException if there is an error during listing
      */
-    public static void listAll(ListCommand.OrderType order) throws InternityException {
+    public static CommandResult listAll(ListCommand.OrderType order) throws InternityException {
         LOGGER.info("Listing all internships");
 
         if (InternshipList.isEmpty()) {
             LOGGER.warning("No internships found to list");
-            Ui.printInternshipListEmpty();
             assert (size() == 0) : "Internship list should be empty";
-            return;
+            return CommandResult.message(Ui.formatInternshipListEmpty());
         }
         assert (size() > 0) : "Internship list should not be empty";
 
         List<Internship> view = sortInternships(order);
-
-        Ui.printInternshipListHeader("Here are the internships in your list:");
-        int i = 0;
-        for (Internship internship : view) {
-            LOGGER.fine("Listing internship at index: " + i);
-            Ui.printInternshipListContent(i, internship);
-            i++;
-        }
-        LOGGER.info("Finished listing internships. Total: " + i);
-        assert (i == view.size()) : "All internships should be listed";
+        LOGGER.info("Finished listing internships. Total: " + view.size());
+        return CommandResult.table("Here are the internships in your list:", CommandResult.numberedRows(view));
     }
 
     // @@author {V1T0bh}
@@ -184,7 +486,9 @@ public class InternshipList {
         }
         final String normalized = Status.canonical(newStatus);
         Internship internship = internshipList.get(index);
+        Internship before = internship.copy();
         internship.setStatus(normalized);
+        fireUpdate(before, internship);
     }
 
     public static void updateCompany(int index, String newCompany) throws InternityException {
@@ -192,7 +496,11 @@ public class InternshipList {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
+        Internship before = it.copy();
         it.setCompany(newCompany);
+        internCompany(it);
+        fireUpdate(before, it);
+        companies.release(before.getCompanyCode());
     }
 
     public static void updateRole(int index, String newRole) throws InternityException {
@@ -200,7 +508,11 @@ public class InternshipList {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
+        Internship before = it.copy();
         it.setRole(newRole);
+        internRole(it);
+        fireUpdate(before, it);
+        roles.release(before.getRoleCode());
     }
 
     public static void updateDeadline(int index, Date newDeadline) throws InternityException {
@@ -208,7 +520,9 @@ public class InternshipList {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
+        Internship before = it.copy();
         it.setDeadline(newDeadline);
+        fireUpdate(before, it);
     }
 
     public static void updatePay(int index, int newPay) throws InternityException {
@@ -216,58 +530,254 @@ public class InternshipList {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
+        Internship before = it.copy();
         it.setPay(newPay);
+        fireUpdate(before, it);
     }
 
     /**
-     * Searches and prints internships that match the specified keyword in either the company name or the role.
+     * Searches for internships that match the specified keyword in either the company name or the role.
      *
      * <p>
      * This method performs a case-insensitive search across all stored internships.
-     * If no matches are found, a message is printed via {@link Ui#printNoInternshipFound()}.
-     * Otherwise, the matching internships are displayed with their original
-     * indices using {@link Ui#printInternshipListHeader(String)} and
-     * {@link Ui#printInternshipListContent(int, Internship)}.
+     * If no matches are found, the result is the message of {@link Ui#formatNoInternshipFound()}.
+     * Otherwise, it is a table of the matching internships with their original indices.
+     * </p>
+     *
+     * <p>
+     * Large lists are searched in parallel, see {@link #filterIndices(Predicate)}. Keywords that
+     * the {@link MembershipFilter} rules out are answered without scanning the list at all.
      * </p>
      *
      * @param keyword the search keyword to look for within the company or role fields
+     * @return the table of matching internships, or a message if there are none
      */
-    public static void findInternship(String keyword) {
-        // Store matching internships and their original indices
-        ArrayList<Integer> matchingIndices = new ArrayList<>();
-        ArrayList<Internship> matchingInternships = new ArrayList<>();
+    public static CommandResult findInternship(String keyword) {
+        int[] matchingIndices = findIndices(keyword);
+        if (matchingIndices.length == 0) {
+            LOGGER.info("No matching internships were found.");
+            return CommandResult.message(Ui.formatNoInternshipFound());
+        }
 
-        LOGGER.info("Searching for internships that match keyword.");
-        for (int i = 0; i < internshipList.size(); i++) {
-            Internship thisInternship = internshipList.get(i);
-            if (thisInternship.getCompany().toLowerCase().contains(keyword.toLowerCase()) ||
-                    thisInternship.getRole().toLowerCase().contains(keyword.toLowerCase())) {
-                matchingIndices.add(i);
-                matchingInternships.add(thisInternship);
-            }
+        LOGGER.info("Matching internships found.");
+        return CommandResult.table("These are the matching internships in your list:",
+                CommandResult.indexedRows(internshipList, matchingIndices));
+    }
+
+    /**
+     * Returns the indices of the internships whose company or role contain the keyword, ignoring case,
+     * in list order.
+     *
+     * @param keyword the keyword to search for
+     * @return the indices of the matching internships, empty if there are none
+     */
+    public static int[] findIndices(String keyword) {
+        // company and role are ASCII, so a keyword with any other character cannot match
+        final AsciiString lowerKeyword = AsciiString.isAscii(keyword) ? AsciiString.of(keyword).toLowerCase() : null;
+        if (lowerKeyword == null || !membershipFilter.mightContainSubstring(lowerKeyword)) {
+            LOGGER.info("Keyword is definitely absent, skipping the scan.");
+            return new int[0];
         }
+
+        LOGGER.info("Searching for internships that match keyword.");
+        int[] matchingIndices = filterIndices(internship ->
+                internship.getCompanyAscii().containsIgnoreCase(lowerKeyword)
+                        || internship.getRoleAscii().containsIgnoreCase(lowerKeyword));
         LOGGER.info("Search completed successfully.");
+        return matchingIndices;
+    }
+
+    /**
+     * Searches for internships whose company or role contain the given terms,
+     * ranked by relevance.
+     *
+     * <p>
+     * Unlike {@link #findInternship(String)}, the terms are matched as whole words using the
+     * {@link SearchIndex}, and the results are ordered by their BM25 score rather than by list order.
+     * Each result is still displayed with its original index. Only the most relevant matches are
+     * shown, up to the search limit, see {@link #setSearchLimit(int)}.
+     * </p>
+     *
+     * @param terms    the search terms
+     * @param matchAll {@code true} to only show internships containing every term,
+     *                 {@code false} to show internships containing any of the terms
+     * @return the table of matching internships, or a message if there are none
+     */
+    public static CommandResult findRanked(List<String> terms, boolean matchAll) {
+        LOGGER.info("Searching for internships ranked by relevance.");
+        if (!membershipFilter.mightMatch(terms, matchAll)) {
+            LOGGER.info("Search terms are definitely absent, skipping the index.");
+            return CommandResult.message(Ui.formatNoInternshipFound());
+        }
+        SearchIndex.Ranking ranking = searchIndex.search(terms, matchAll, searchLimit);
+        List<Internship> matches = ranking.getInternships();
+        if (matches.size() < ranking.getMatchCount()) {
+            return searchResults(matches, "These are the " + matches.size() + " most relevant of "
+                    + ranking.getMatchCount() + " matching internships in your list:");
+        }
+        return searchResults(matches, "These are the matching internships in your list, most relevant first:");
+    }
+
+    /**
+     * Searches for internships whose company or role contain words close to every given term,
+     * tolerating spelling mistakes.
+     *
+     * <p>
+     * Each term matches indexed words within a small edit distance, see
+     * {@link SearchIndex#fuzzySearch(List, int)}. Results are ordered by the number of edits needed,
+     * and each result is displayed with its original index.
+     * </p>
+     *
+     * @param terms the possibly misspelt search terms
+     * @return the table of matching internships, or a message if there are none
+     */
+    public static CommandResult findFuzzy(List<String> terms) {
+        LOGGER.info("Searching for internships with fuzzy matching.");
+        return searchResults(searchIndex.fuzzySearch(terms, -1),
+                "These are the closest matching internships in your list:");
+    }
 
-        if (matchingInternships.isEmpty()) {
+    private static CommandResult searchResults(List<Internship> matches, String header) {
+        LOGGER.info("Search completed successfully.");
+        if (matches.isEmpty()) {
             LOGGER.info("No matching internships were found.");
-            Ui.printNoInternshipFound();
-            return;
+            return CommandResult.message(Ui.formatNoInternshipFound());
         }
 
-        LOGGER.info("Matching internships found. Printing matching internships.");
-        Ui.printInternshipListHeader("These are the matching internships in your list:");
-        for (int i = 0; i < matchingInternships.size(); i++) {
-            Ui.printInternshipListContent(matchingIndices.get(i), matchingInternships.get(i));
+        List<CommandResult.Row> rows = new ArrayList<>(matches.size());
+        for (Internship internship : matches) {
+            rows.add(new CommandResult.Row(indexOf(internship), internship));
+        }
+        return CommandResult.table(header, rows);
+    }
+
+    /**
+     * Returns the indices of all internships that satisfy the given predicate, in list order.
+     *
+     * <p>
+     * Lists smaller than the parallel threshold are scanned sequentially. Larger lists are split
+     * across the common {@link ForkJoinPool}, and the partial results are merged so that the output
+     * is identical to a sequential scan.
+     * </p>
+     *
+     * @param predicate the condition an internship must satisfy to be included
+     * @return the zero-based indices of the matching internships in ascending order
+     */
+    public static int[] filterIndices(Predicate<Internship> predicate) {
+        return filterIndices(predicate, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the indices of all internships that satisfy the given predicate, using the given pool
+     * for the parallel path.
+     *
+     * @param predicate the condition an internship must satisfy to be included
+     * @param pool      the pool used once the list reaches the parallel threshold
+     * @return the zero-based indices of the matching internships in ascending order
+     */
+    public static int[] filterIndices(Predicate<Internship> predicate, ForkJoinPool pool) {
+        return ParallelFilter.filter(internshipList, predicate, parallelThreshold, pool);
+    }
+
+    /**
+     * Sets the list size from which {@link #filterIndices(Predicate)} splits work across threads.
+     * <p>
+     * The initial value can be set with the {@code internity.parallel.threshold} system property.
+     * </p>
+     *
+     * @param threshold the minimum list size for parallel filtering, must be positive
+     */
+    public static void setParallelThreshold(int threshold) {
+        assert threshold > 0 : "Parallel threshold must be positive";
+        parallelThreshold = threshold;
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the largest number of matches shown by {@link #findRanked(List, boolean)}.
+     * <p>
+     * The initial value can be set with the {@code internity.search.limit} system property.
+     * </p>
+     *
+     * @param limit the largest number of matches to show, must be positive
+     */
+    public static void setSearchLimit(int limit) {
+        assert limit > 0 : "Search limit must be positive";
+        searchLimit = limit;
+    }
+
+    /**
+     * Reads the target false positive rate of the {@link MembershipFilter} from the
+     * {@code internity.bloom.fpp} system property, falling back to the default if it is unset or invalid.
+     */
+    private static double readFalsePositiveRate() {
+        String value = System.getProperty(FALSE_POSITIVE_RATE_PROPERTY);
+        if (value == null) {
+            return MembershipFilter.DEFAULT_FALSE_POSITIVE_RATE;
+        }
+        try {
+            double rate = Double.parseDouble(value);
+            if (rate > 0 && rate < 1) {
+                return rate;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the default
+        }
+        LOGGER.warning("Ignoring invalid " + FALSE_POSITIVE_RATE_PROPERTY + ": " + value);
+        return MembershipFilter.DEFAULT_FALSE_POSITIVE_RATE;
+    }
+
+    /**
+     * Interns the company of an internship entering the list, so that it shares the dictionary instance.
+     */
+    private static void internCompany(Internship item) {
+        int code = companies.acquire(item.getCompanyAscii());
+        item.bindCompany(code, companies.valueOf(code));
+    }
+
+    /**
+     * Interns the role of an internship entering the list, so that it shares the dictionary instance.
+     */
+    private static void internRole(Internship item) {
+        int code = roles.acquire(item.getRoleAscii());
+        item.bindRole(code, roles.valueOf(code));
+    }
+
+    /**
+     * Releases the company and role codes of an internship leaving the list.
+     */
+    private static void releaseValues(Internship item) {
+        companies.release(item.getCompanyCode());
+        roles.release(item.getRoleCode());
+        item.bindCompany(-1, null);
+        item.bindRole(-1, null);
+    }
+
+    private static void fireUpdate(Internship before, Internship after) {
+        version++;
+        for (InternshipListener listener : listeners) {
+            listener.onUpdate(before, after);
         }
-        LOGGER.info("Matching internships printed successfully.");
     }
 
     public static void clear() {
         internshipList.clear();
+        version++;
+        companies.clear();
+        roles.clear();
+        positions.clear();
+        isPositionsValid = true;
+        for (InternshipListener listener : listeners) {
+            listener.onClear();
+        }
     }
 
     public static void setUsername(String username) {
         InternshipList.username = username;
+        version++;
     }
 
     public static String getUsername() {
@@ -280,9 +790,11 @@ public class InternshipList {
      * Returns a {@link AbstractMap.SimpleEntry} containing the internship with the nearest deadline
      * and the count of other internships that share the same deadline. The method first searches for
      * internships with future deadlines (including today). If none exist, it returns
-     * the most recent past deadline.
+     * the most recent past deadline. Among internships with the same deadline, the one that comes
+     * first in the list is returned.
      * </p>
      * <p>
+     * The internship is looked up in the {@link DeadlineIndex}, so the list is not scanned.
      * Assumes the internship list is non-empty.
      * </p>
      *
@@ -295,61 +807,11 @@ public class InternshipList {
         LOGGER.info("Finding internship with nearest deadline.");
         assert InternshipList.size() > 0 : "Cannot find nearest deadline in empty list";
 
-        Internship nearest = null;
+        Internship nearest = deadlineIndex.nearest(Date.getToday().toEpochDay());
         // no. of internships with same deadline as nearest
         int countSameDeadline = 0;
-
-        // check if this internship has the nearest deadline (at least as near as the current nearest)
-        boolean isNearestDeadline;
-        //  check if the deadline is in the future (including today)
-        boolean isDeadlineInFuture;
-        // check if the deadline is the same as the current nearest deadline
-        boolean isSameDeadline;
-
-        // get the internship with the nearest deadline that is in the future
-        for (int i = 0; i < InternshipList.size(); i++) {
-            Internship internship = InternshipList.get(i);
-
-            isNearestDeadline = (nearest == null)
-                    || (internship.getDeadline().compareTo(nearest.getDeadline()) <= 0);
-            isDeadlineInFuture = (Date.getToday().compareTo(internship.getDeadline()) <= 0);
-
-            if (isNearestDeadline && isDeadlineInFuture) {
-                isSameDeadline = (nearest != null)
-                        && (internship.getDeadline().compareTo(nearest.getDeadline()) == 0);
-
-                if (isSameDeadline) {
-                    countSameDeadline += 1;
-                } else {
-                    nearest = internship;
-                    countSameDeadline = 0;
-                }
-            }
-        }
-
-        // if no internships have future deadlines, get the nearest past deadline
-        if (nearest == null) {
-            LOGGER.fine("No internships with valid future deadlines found.");
-            LOGGER.info("Finding past nearest deadline.");
-
-            for (int i = 0; i < InternshipList.size(); i++) {
-                Internship internship = InternshipList.get(i);
-
-                isNearestDeadline = (nearest == null)
-                        || (internship.getDeadline().compareTo(nearest.getDeadline()) >= 0);
-
-                if (isNearestDeadline) {
-                    isSameDeadline = (nearest != null)
-                            && (internship.getDeadline().compareTo(nearest.getDeadline()) == 0);
-
-                    if (isSameDeadline) {
-                        countSameDeadline += 1;
-                    } else {
-                        nearest = internship;
-                        countSameDeadline = 0;
-                    }
-                }
-            }
+        if (nearest != null) {
+            countSameDeadline = deadlineIndex.countDueOn(nearest.getDeadline().toEpochDay()) - 1;
         }
 
         LOGGER.fine("Found nearest deadline internship: " + nearest);
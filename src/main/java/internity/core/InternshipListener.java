@@ -0,0 +1,47 @@
+package internity.core;
+
+/**
+ * Receives notifications whenever the contents of the {@link InternshipList} change.
+ *
+ * <p>
+ * Listeners are used to keep secondary structures, such as search indexes, in sync with the list
+ * without rescanning it. Every internship passed to a listener has a record id assigned by the
+ * {@link InternshipList} (see {@link Internship#getId()}), which stays the same for as long as the
+ * internship remains in the list.
+ * </p>
+ */
+public interface InternshipListener {
+    /**
+     * Called after an internship has been appended to the list.
+     *
+     * @param internship the internship that was added
+     */
+    void onAdd(Internship internship);
+
+    /**
+     * Called after an internship has been removed from the list.
+     *
+     * @param internship the internship that was removed
+     */
+    void onRemove(Internship internship);
+
+    /**
+     * Called after a field of an internship in the list has been updated.
+     * <p>
+     * The default implementation treats the update as a removal of the old values followed by an
+     * addition of the new ones.
+     * </p>
+     *
+     * @param before a copy of the internship holding the values prior to the update
+     * @param after  the internship in the list, holding the updated values
+     */
+    default void onUpdate(Internship before, Internship after) {
+        onRemove(before);
+        onAdd(after);
+    }
+
+    /**
+     * Called after all internships have been removed from the list.
+     */
+    void onClear();
+}
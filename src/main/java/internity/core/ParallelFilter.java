@@ -0,0 +1,123 @@
+package internity.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Filters a list of {@link Internship} objects and returns the indices of the matching entries.
+ *
+ * <p>
+ * Small lists are scanned sequentially. Once the list reaches the configured threshold, the
+ * index range is split recursively across a {@link ForkJoinPool}. Each half is filtered
+ * independently and the partial results are concatenated left before right, so the returned
+ * indices are always in ascending order and identical to the sequential result.
+ * </p>
+ */
+final class ParallelFilter {
+    /** Default list size from which filtering is split across the pool. */
+    static final int DEFAULT_THRESHOLD = 50_000;
+
+    /** Smallest index range that is still worth splitting further. */
+    private static final int MIN_LEAF_SIZE = 4_096;
+
+    /** Number of leaf tasks to aim for per worker thread, to smooth out uneven match rates. */
+    private static final int LEAVES_PER_WORKER = 4;
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private ParallelFilter() {
+    }
+
+    /**
+     * Returns the indices of all internships in {@code items} that satisfy {@code predicate}.
+     *
+     * @param items     the internships to filter
+     * @param predicate the condition an internship must satisfy to be included
+     * @param threshold the list size from which the range is split across {@code pool}
+     * @param pool      the pool used for the parallel path
+     * @return the matching indices in ascending order
+     */
+    static int[] filter(List<Internship> items, Predicate<Internship> predicate, int threshold, ForkJoinPool pool) {
+        assert items != null : "List to filter cannot be null";
+        assert predicate != null : "Predicate cannot be null";
+
+        int size = items.size();
+        if (size < threshold || pool.getParallelism() <= 1) {
+            return scan(items, predicate, 0, size);
+        }
+
+        int leafSize = Math.max(MIN_LEAF_SIZE, size / (pool.getParallelism() * LEAVES_PER_WORKER));
+        return pool.invoke(new FilterTask(items, predicate, 0, size, leafSize));
+    }
+
+    /**
+     * Sequentially collects the indices in {@code [from, to)} that satisfy {@code predicate}.
+     */
+    private static int[] scan(List<Internship> items, Predicate<Internship> predicate, int from, int to) {
+        int[] matches = null;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(items.get(i))) {
+                if (matches == null) {
+                    matches = new int[Math.min(16, to - i)];
+                } else if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, Math.min(count * 2, to - from));
+                }
+                matches[count++] = i;
+            }
+        }
+        if (count == 0) {
+            return NO_MATCHES;
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Fork/join task that filters the index range {@code [from, to)}.
+     */
+    private static final class FilterTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Internship> items;
+        private final Predicate<Internship> predicate;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        FilterTask(List<Internship> items, Predicate<Internship> predicate, int from, int to, int leafSize) {
+            this.items = items;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= leafSize) {
+                return scan(items, predicate, from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            FilterTask left = new FilterTask(items, predicate, from, mid, leafSize);
+            FilterTask right = new FilterTask(items, predicate, mid, to, leafSize);
+            left.fork();
+            int[] rightMatches = right.compute();
+            int[] leftMatches = left.join();
+
+            // left half holds the lower indices, so concatenating keeps the original order
+            if (leftMatches.length == 0) {
+                return rightMatches;
+            }
+            if (rightMatches.length == 0) {
+                return leftMatches;
+            }
+            int[] merged = Arrays.copyOf(leftMatches, leftMatches.length + rightMatches.length);
+            System.arraycopy(rightMatches, 0, merged, leftMatches.length, rightMatches.length);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package internity.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A reference-counted dictionary that maps each distinct {@link AsciiString} to a small integer code.
+ *
+ * <p>
+ * Acquiring a string returns its code and increments its reference count, and releasing the code
+ * decrements it. Once a code is no longer referenced, its string is dropped and the code is reused
+ * for the next new string, so codes stay dense. Every holder of a code shares the single string
+ * instance kept by the dictionary, see {@link #valueOf(int)}.
+ * </p>
+ */
+public class StringDictionary {
+    private final Map<AsciiString, Integer> codes = new HashMap<>();
+    private final List<AsciiString> values = new ArrayList<>();
+    private int[] refCounts = new int[16];
+    private int[] freeCodes = new int[16];
+    private int freeCount;
+
+    /**
+     * Returns the code of a string, adding it to the dictionary if necessary,
+     * and increments its reference count.
+     *
+     * @param value the string to intern
+     * @return the code of the string
+     */
+    public int acquire(AsciiString value) {
+        assert value != null : "Value cannot be null";
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = allocate(value);
+        }
+        refCounts[code]++;
+        return code;
+    }
+
+    /**
+     * Decrements the reference count of a code, dropping its string once it is no longer referenced.
+     *
+     * @param code a code returned by {@link #acquire(AsciiString)} and not yet released as often as acquired
+     */
+    public void release(int code) {
+        assert code >= 0 && code < values.size() && refCounts[code] > 0 : "Code is not in use: " + code;
+        refCounts[code]--;
+        if (refCounts[code] == 0) {
+            codes.remove(values.get(code));
+            values.set(code, null);
+            if (freeCount == freeCodes.length) {
+                freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+            }
+            freeCodes[freeCount++] = code;
+        }
+    }
+
+    /**
+     * Returns the shared string instance for a code.
+     *
+     * @param code a code in use
+     * @return the string the code stands for
+     */
+    public AsciiString valueOf(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Returns the code of a string without acquiring it.
+     *
+     * @param value the string to look up
+     * @return the code of the string, or {@code -1} if it is not in the dictionary
+     */
+    public int codeOf(AsciiString value) {
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Returns the number of holders of a code.
+     *
+     * @param code the code to look up
+     * @return the reference count, or {@code 0} if the code is not in use
+     */
+    public int refCount(int code) {
+        return code >= 0 && code < values.size() ? refCounts[code] : 0;
+    }
+
+    /**
+     * Returns the number of distinct strings in the dictionary.
+     *
+     * @return the number of codes in use
+     */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * Removes every string from the dictionary.
+     */
+    public void clear() {
+        codes.clear();
+        values.clear();
+        Arrays.fill(refCounts, 0);
+        freeCount = 0;
+    }
+
+    private int allocate(AsciiString value) {
+        int code;
+        if (freeCount > 0) {
+            code = freeCodes[--freeCount];
+            values.set(code, value);
+        } else {
+            code = values.size();
+            values.add(value);
+            if (code == refCounts.length) {
+                refCounts = Arrays.copyOf(refCounts, code * 2);
+            }
+        }
+        codes.put(value, code);
+        return code;
+    }
+}
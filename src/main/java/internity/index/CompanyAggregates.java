@@ -0,0 +1,185 @@
+package internity.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+import internity.core.Status;
+
+/**
+ * Per-company aggregates of the internships in the list: the number of applications, the lowest,
+ * highest and total pay, and the number of applications in each status.
+ *
+ * <p>
+ * Companies are grouped ignoring case and surrounding whitespace, like in the {@link CompletionIndex},
+ * and are shown with the spelling of the first internship that introduced them. The aggregates are
+ * updated through the {@link InternshipListener} callbacks, so reading them never scans the list.
+ * The lowest and highest pay are kept exact under removals with a count of each distinct pay.
+ * </p>
+ */
+public class CompanyAggregates implements InternshipListener {
+    private final Map<String, Summary> summaries = new TreeMap<>();
+
+    /**
+     * Returns the summary of every company in the list, ordered by company name ignoring case.
+     *
+     * @return an unmodifiable view of the summaries
+     */
+    public Collection<Summary> summaries() {
+        return Collections.unmodifiableCollection(summaries.values());
+    }
+
+    /**
+     * Returns the summary of one company.
+     *
+     * @param company the name of the company, compared ignoring case and surrounding whitespace
+     * @return the summary of the company, or {@code null} if no internship in the list is with it
+     */
+    public Summary get(String company) {
+        return summaries.get(keyOf(company));
+    }
+
+    /**
+     * Returns the number of distinct companies in the list.
+     *
+     * @return the number of companies
+     */
+    public int size() {
+        return summaries.size();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        summaries.computeIfAbsent(keyOf(internship.getCompany()), k -> new Summary(internship.getCompany().trim()))
+                .add(internship);
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        String key = keyOf(internship.getCompany());
+        Summary summary = summaries.get(key);
+        if (summary == null) {
+            return;
+        }
+        summary.remove(internship);
+        if (summary.count == 0) {
+            summaries.remove(key);
+        }
+    }
+
+    @Override
+    public void onClear() {
+        summaries.clear();
+    }
+
+    private static String keyOf(String company) {
+        return company.trim().toLowerCase();
+    }
+
+    /**
+     * The aggregates of the internships with one company.
+     */
+    public static final class Summary {
+        private final String name;
+        private final TreeMap<Integer, Integer> payCounts = new TreeMap<>();
+        private final int[] statusCounts = new int[Status.values().length];
+        private int count;
+        private long totalPay;
+
+        private Summary(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the company, as spelt by the first internship with it.
+         *
+         * @return the company name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of internships with the company.
+         *
+         * @return the number of applications
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the lowest pay of the internships with the company.
+         *
+         * @return the lowest pay
+         */
+        public int getMinPay() {
+            return payCounts.firstKey();
+        }
+
+        /**
+         * Returns the highest pay of the internships with the company.
+         *
+         * @return the highest pay
+         */
+        public int getMaxPay() {
+            return payCounts.lastKey();
+        }
+
+        /**
+         * Returns the total pay of the internships with the company.
+         *
+         * @return the sum of their pay
+         */
+        public long getTotalPay() {
+            return totalPay;
+        }
+
+        /**
+         * Returns the mean pay of the internships with the company, rounded to the nearest integer.
+         *
+         * @return the average pay
+         */
+        public long getAveragePay() {
+            return Math.round((double) totalPay / count);
+        }
+
+        /**
+         * Returns the number of internships with the company in the given status.
+         *
+         * @param status the status to count
+         * @return the number of applications in that status
+         */
+        public int getStatusCount(Status status) {
+            return statusCounts[status.ordinal()];
+        }
+
+        private void add(Internship internship) {
+            count++;
+            totalPay += internship.getPay();
+            payCounts.merge(internship.getPay(), 1, Integer::sum);
+            Status status = statusOf(internship);
+            if (status != null) {
+                statusCounts[status.ordinal()]++;
+            }
+        }
+
+        private void remove(Internship internship) {
+            count--;
+            totalPay -= internship.getPay();
+            payCounts.computeIfPresent(internship.getPay(), (pay, n) -> n == 1 ? null : n - 1);
+            Status status = statusOf(internship);
+            if (status != null) {
+                statusCounts[status.ordinal()]--;
+            }
+        }
+
+        private static Status statusOf(Internship internship) {
+            String status = internship.getStatus();
+            return Status.isValid(status) ? Status.valueOf(status.trim().toUpperCase()) : null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * An index of the distinct company and role names in the list, used to complete partially typed names.
+ *
+ * <p>
+ * Each field keeps a {@link TermTrie} of its lowercased values, where the count of a value is the
+ * number of internships that currently use it, so a name disappears once no internship refers to it
+ * any more. Completions are case-insensitive, ordered by how many internships use each name, and
+ * are returned in the spelling of the first internship that introduced the name.
+ * </p>
+ */
+public class CompletionIndex implements InternshipListener {
+    /**
+     * The fields whose values can be completed.
+     */
+    public enum Field {
+        COMPANY,
+        ROLE
+    }
+
+    private final TermTrie companies = new TermTrie();
+    private final TermTrie roles = new TermTrie();
+    // lowercased value -> the spelling shown to the user
+    private final Map<String, String> companyNames = new HashMap<>();
+    private final Map<String, String> roleNames = new HashMap<>();
+
+    /**
+     * Returns the most common values of a field that start with the given prefix, ignoring case.
+     *
+     * @param field  the field to complete
+     * @param prefix the partially typed value
+     * @param limit  the maximum number of completions to return
+     * @return up to {@code limit} completions, most common first
+     */
+    public List<String> complete(Field field, String prefix, int limit) {
+        List<String> completions = new ArrayList<>();
+        Map<String, String> names = namesOf(field);
+        for (String key : trieOf(field).complete(normalize(prefix), limit)) {
+            completions.add(names.get(key));
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the number of internships whose field has the given value, ignoring case.
+     *
+     * @param field the field to look up
+     * @param value the value to count
+     * @return the number of internships using the value
+     */
+    public int frequency(Field field, String value) {
+        return trieOf(field).count(normalize(value));
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        add(companies, companyNames, internship.getCompany());
+        add(roles, roleNames, internship.getRole());
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        remove(companies, companyNames, internship.getCompany());
+        remove(roles, roleNames, internship.getRole());
+    }
+
+    @Override
+    public void onUpdate(Internship before, Internship after) {
+        if (!normalize(before.getCompany()).equals(normalize(after.getCompany()))) {
+            remove(companies, companyNames, before.getCompany());
+            add(companies, companyNames, after.getCompany());
+        }
+        if (!normalize(before.getRole()).equals(normalize(after.getRole()))) {
+            remove(roles, roleNames, before.getRole());
+            add(roles, roleNames, after.getRole());
+        }
+    }
+
+    @Override
+    public void onClear() {
+        companies.clear();
+        roles.clear();
+        companyNames.clear();
+        roleNames.clear();
+    }
+
+    private TermTrie trieOf(Field field) {
+        return field == Field.COMPANY ? companies : roles;
+    }
+
+    private Map<String, String> namesOf(Field field) {
+        return field == Field.COMPANY ? companyNames : roleNames;
+    }
+
+    private static void add(TermTrie trie, Map<String, String> names, String value) {
+        String key = normalize(value);
+        trie.add(key);
+        names.putIfAbsent(key, value.trim());
+    }
+
+    private static void remove(TermTrie trie, Map<String, String> names, String value) {
+        String key = normalize(value);
+        trie.remove(key);
+        if (!trie.contains(key)) {
+            names.remove(key);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase();
+    }
+}
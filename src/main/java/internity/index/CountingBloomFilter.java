@@ -0,0 +1,216 @@
+package internity.index;
+
+import internity.core.AsciiString;
+
+/**
+ * A counting Bloom filter over strings, which answers whether a string may have been added.
+ *
+ * <p>
+ * A {@code false} answer from {@link #mightContain(String)} is always correct, while a {@code true}
+ * answer is wrong with a probability close to the configured false positive rate, as long as the
+ * number of distinct strings stays within the expected capacity. Each slot holds an 8-bit counter
+ * instead of a single bit so that strings can be removed again. A counter that reaches its maximum
+ * stays there for good, which can only cause false positives, never false negatives.
+ * </p>
+ *
+ * <p>
+ * The slots of a string are chosen by double hashing a 64-bit hash of its characters.
+ * </p>
+ */
+public class CountingBloomFilter {
+    private static final int MAX_COUNT = 0xFF;
+
+    private final byte[] counters;
+    private final int hashCount;
+    private final int capacity;
+    private final double falsePositiveRate;
+    private int approximateSize;
+
+    /**
+     * Creates a filter sized to hold the given number of distinct strings at the given false positive rate.
+     *
+     * @param capacity          the expected number of distinct strings
+     * @param falsePositiveRate the target probability of a false positive, between 0 and 1 exclusive
+     */
+    public CountingBloomFilter(int capacity, double falsePositiveRate) {
+        assert capacity > 0 : "Capacity must be positive";
+        assert falsePositiveRate > 0 && falsePositiveRate < 1 : "False positive rate must be between 0 and 1";
+        double ln2 = Math.log(2);
+        long slots = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.counters = new byte[(int) Math.min(Math.max(slots, 64), Integer.MAX_VALUE - 8)];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / capacity * ln2));
+        this.capacity = capacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Adds one occurrence of a string.
+     *
+     * @param value the string to add
+     */
+    public void add(String value) {
+        add(hash(value));
+    }
+
+    /**
+     * Adds one occurrence of the characters between two positions of an ASCII string.
+     * This is equivalent to adding {@code value.substring(start, end)}, without creating the substring.
+     *
+     * @param value the string holding the characters to add
+     * @param start the position of the first character, inclusive
+     * @param end   the position after the last character, exclusive
+     */
+    public void add(AsciiString value, int start, int end) {
+        add(hash(value, start, end));
+    }
+
+    private void add(long hash) {
+        if (!mightContain(hash)) {
+            approximateSize++;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int slot = slot(h1, h2, i);
+            int count = counters[slot] & MAX_COUNT;
+            if (count < MAX_COUNT) {
+                counters[slot] = (byte) (count + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes one occurrence of a string that was previously added.
+     * Removing a string that was never added can introduce false negatives.
+     *
+     * @param value the string to remove
+     */
+    public void remove(String value) {
+        remove(hash(value));
+    }
+
+    /**
+     * Removes one occurrence of the characters between two positions of an ASCII string.
+     *
+     * @param value the string holding the characters to remove
+     * @param start the position of the first character, inclusive
+     * @param end   the position after the last character, exclusive
+     */
+    public void remove(AsciiString value, int start, int end) {
+        remove(hash(value, start, end));
+    }
+
+    private void remove(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int slot = slot(h1, h2, i);
+            int count = counters[slot] & MAX_COUNT;
+            if (count > 0 && count < MAX_COUNT) {
+                counters[slot] = (byte) (count - 1);
+            }
+        }
+        if (approximateSize > 0 && !mightContain(hash)) {
+            approximateSize--;
+        }
+    }
+
+    /**
+     * Returns whether a string may have been added.
+     *
+     * @param value the string to look up
+     * @return {@code false} if the string has definitely not been added, {@code true} if it may have been
+     */
+    public boolean mightContain(String value) {
+        return mightContain(hash(value));
+    }
+
+    /**
+     * Returns whether the characters between two positions of an ASCII string may have been added.
+     *
+     * @param value the string holding the characters to look up
+     * @param start the position of the first character, inclusive
+     * @param end   the position after the last character, exclusive
+     * @return {@code false} if the characters have definitely not been added, {@code true} if they may have been
+     */
+    public boolean mightContain(AsciiString value, int start, int end) {
+        return mightContain(hash(value, start, end));
+    }
+
+    private boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (counters[slot(h1, h2, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an estimate of the number of distinct strings in the filter.
+     * The estimate is low by the number of strings that were false positives when first added.
+     *
+     * @return the approximate number of distinct strings
+     */
+    public int approximateSize() {
+        return approximateSize;
+    }
+
+    /**
+     * Returns the number of distinct strings the filter was sized for.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the target false positive rate the filter was sized for.
+     *
+     * @return the false positive rate
+     */
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    private int slot(int h1, int h2, int i) {
+        return Math.floorMod(h1 + i * h2, counters.length);
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the characters, followed by a finalising mix so that
+     * both halves are usable as independent hashes.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Computes the same hash as {@link #hash(String)} over a range of an ASCII string.
+     */
+    private static long hash(AsciiString value, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,99 @@
+package internity.index;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * The number of internships due on each day, arranged for counting the deadlines in any range of
+ * days in logarithmic time.
+ *
+ * <p>
+ * Days from {@value #WINDOW_START_YEAR} to {@value #WINDOW_END_YEAR} are counted in a Fenwick tree
+ * (binary indexed tree) indexed by epoch day, in which adding or removing a deadline and summing
+ * the deadlines before a day both take O(log w) time for a window of w days. The rare deadlines
+ * outside this window are counted per day in a sorted map instead. The counts are kept in sync
+ * through the {@link InternshipListener} callbacks, so no query reads the list.
+ * </p>
+ */
+public class DeadlineDensity implements InternshipListener {
+    static final int WINDOW_START_YEAR = 1970;
+    static final int WINDOW_END_YEAR = 2199;
+
+    // epoch day 0 is 01-01-1970, and the window ends on 31-12-2199
+    private static final int WINDOW_DAYS = 84_006;
+
+    private final int[] tree = new int[WINDOW_DAYS + 1];
+    private final TreeMap<Long, Integer> outsideWindow = new TreeMap<>();
+
+    /**
+     * Returns the number of internships due from one day up to, but excluding, another.
+     *
+     * @param fromEpochDay the first day of the range, inclusive
+     * @param toEpochDay   the day after the range, exclusive
+     * @return the number of deadlines in the range
+     */
+    public int countBetween(long fromEpochDay, long toEpochDay) {
+        if (toEpochDay <= fromEpochDay) {
+            return 0;
+        }
+        return countBefore(toEpochDay) - countBefore(fromEpochDay);
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        adjust(internship.getDeadline().toEpochDay(), 1);
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        adjust(internship.getDeadline().toEpochDay(), -1);
+    }
+
+    @Override
+    public void onUpdate(Internship before, Internship after) {
+        long beforeDay = before.getDeadline().toEpochDay();
+        long afterDay = after.getDeadline().toEpochDay();
+        if (beforeDay != afterDay) {
+            adjust(beforeDay, -1);
+            adjust(afterDay, 1);
+        }
+    }
+
+    @Override
+    public void onClear() {
+        Arrays.fill(tree, 0);
+        outsideWindow.clear();
+    }
+
+    private static boolean isInWindow(long epochDay) {
+        return epochDay >= 0 && epochDay < WINDOW_DAYS;
+    }
+
+    private void adjust(long epochDay, int delta) {
+        if (!isInWindow(epochDay)) {
+            outsideWindow.merge(epochDay, delta, (count, d) -> count + d == 0 ? null : count + d);
+            return;
+        }
+        for (int i = (int) epochDay + 1; i <= WINDOW_DAYS; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of internships due before the given day.
+     */
+    private int countBefore(long epochDay) {
+        int count = 0;
+        for (Map.Entry<Long, Integer> entry : outsideWindow.headMap(epochDay).entrySet()) {
+            count += entry.getValue();
+        }
+        for (int i = (int) Math.max(0, Math.min(epochDay, WINDOW_DAYS)); i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
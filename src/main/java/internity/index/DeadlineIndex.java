@@ -0,0 +1,104 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * A calendar index of the internships in the list by deadline, used to answer "what is due soon"
+ * questions without scanning the list.
+ *
+ * <p>
+ * Internships are kept in one sorted map whose key combines the epoch day of the deadline with the
+ * record id, so every day forms a contiguous bucket ordered by list position. The internships due in
+ * a range of days are a sub-map of the index, found in logarithmic time and walked in time
+ * proportional to their number. Weeks and months need no buckets of their own: they are ranges of
+ * days.
+ * </p>
+ */
+public class DeadlineIndex implements InternshipListener {
+    private static final int ID_BITS = 32;
+
+    private final NavigableMap<Long, Internship> byDeadline = new TreeMap<>();
+
+    /**
+     * Returns the internships due from one day up to, but excluding, another, ordered by deadline
+     * and then by their position in the list.
+     *
+     * @param fromEpochDay the first day of the range, inclusive
+     * @param toEpochDay   the day after the range, exclusive
+     * @return a new list with the internships due in the range
+     */
+    public List<Internship> dueBetween(long fromEpochDay, long toEpochDay) {
+        if (toEpochDay <= fromEpochDay) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(byDeadline.subMap(keyOf(fromEpochDay, 0), keyOf(toEpochDay, 0)).values());
+    }
+
+    /**
+     * Returns the internship with the nearest deadline on or after the given day, or, if every
+     * deadline has passed, the internship with the latest deadline. Among internships due on the
+     * same day, the one that comes first in the list is returned.
+     *
+     * @param todayEpochDay the current day
+     * @return the internship with the nearest deadline, or {@code null} if the index is empty
+     */
+    public Internship nearest(long todayEpochDay) {
+        Map.Entry<Long, Internship> next = byDeadline.ceilingEntry(keyOf(todayEpochDay, 0));
+        if (next == null) {
+            next = byDeadline.lastEntry();
+            if (next == null) {
+                return null;
+            }
+            next = byDeadline.ceilingEntry(keyOf(epochDayOf(next.getKey()), 0));
+        }
+        return next.getValue();
+    }
+
+    /**
+     * Returns the number of internships due on the given day.
+     *
+     * @param epochDay the day to count
+     * @return the number of internships with that deadline
+     */
+    public int countDueOn(long epochDay) {
+        return byDeadline.subMap(keyOf(epochDay, 0), keyOf(epochDay + 1, 0)).size();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        byDeadline.put(keyOf(internship), internship);
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        // the removed internship may be a copy taken before an update, whose deadline locates the old entry
+        byDeadline.remove(keyOf(internship));
+    }
+
+    @Override
+    public void onClear() {
+        byDeadline.clear();
+    }
+
+    private static long keyOf(Internship internship) {
+        return keyOf(internship.getDeadline().toEpochDay(), internship.getId());
+    }
+
+    /**
+     * Combines an epoch day and a record id into one key, ordered by day and then by id.
+     */
+    private static long keyOf(long epochDay, int id) {
+        return (epochDay << ID_BITS) + id;
+    }
+
+    private static long epochDayOf(long key) {
+        return key >> ID_BITS;
+    }
+}
@@ -0,0 +1,120 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * A hash index from the normalised (company, role, deadline) of every internship in the list to the
+ * internships sharing it, used to detect duplicate applications in constant time.
+ *
+ * <p>
+ * Company and role are compared ignoring case and surrounding or repeated whitespace, so that
+ * {@code "Google "} and {@code "google"} count as the same company. The index also keeps the number
+ * of surplus internships, i.e. those that duplicate an earlier one, so that checking whether the
+ * list contains any duplicates at all takes constant time as well.
+ * </p>
+ */
+public class DuplicateIndex implements InternshipListener {
+    private final Map<String, List<Internship>> groups = new HashMap<>();
+    private int duplicateCount;
+
+    /**
+     * Returns an internship with the same company, role and deadline as the given values, if any.
+     *
+     * @param company  the company to look up
+     * @param role     the role to look up
+     * @param deadline the deadline to look up
+     * @return an existing internship with the same normalised values, or {@code null} if there is none
+     */
+    public Internship findDuplicate(String company, String role, Date deadline) {
+        List<Internship> group = groups.get(keyOf(company, role, deadline));
+        return group == null ? null : group.get(0);
+    }
+
+    /**
+     * Returns the number of internships that duplicate another internship in the list.
+     * A group of three identical internships counts as two duplicates.
+     *
+     * @return the number of surplus internships
+     */
+    public int duplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Returns the key under which an internship with the given values is indexed.
+     *
+     * @param company  the company of the internship
+     * @param role     the role of the internship
+     * @param deadline the deadline of the internship
+     * @return the normalised key
+     */
+    public static String keyOf(String company, String role, Date deadline) {
+        return normalize(company) + '\n' + normalize(role) + '\n' + deadline.toString();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        List<Internship> group = groups.computeIfAbsent(keyOf(internship), k -> new ArrayList<>(1));
+        if (!group.isEmpty()) {
+            duplicateCount++;
+        }
+        group.add(internship);
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        String key = keyOf(internship);
+        List<Internship> group = groups.get(key);
+        if (group == null) {
+            return;
+        }
+        // the removed internship may be a copy taken before an update, so match by record id
+        if (!group.removeIf(member -> member.getId() == internship.getId())) {
+            return;
+        }
+        if (group.isEmpty()) {
+            groups.remove(key);
+        } else {
+            duplicateCount--;
+        }
+    }
+
+    @Override
+    public void onClear() {
+        groups.clear();
+        duplicateCount = 0;
+    }
+
+    private static String keyOf(Internship internship) {
+        return keyOf(internship.getCompany(), internship.getRole(), internship.getDeadline());
+    }
+
+    /**
+     * Lowercases the value and collapses each run of whitespace into one space, dropping it at either
+     * end, in a single pass without a regular expression.
+     */
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean isAfterSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ') {
+                isAfterSpace = true;
+                continue;
+            }
+            if (isAfterSpace && normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            isAfterSpace = false;
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package internity.index;
+
+/**
+ * Computes the Levenshtein (edit) distance between two terms.
+ */
+public final class Levenshtein {
+    private Levenshtein() {
+    }
+
+    /**
+     * Returns the minimum number of single-character insertions, deletions and substitutions
+     * needed to turn {@code a} into {@code b}.
+     *
+     * @param a the first term
+     * @param b the second term
+     * @return the edit distance between the two terms
+     */
+    public static int distance(String a, String b) {
+        return distance(a, b, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Returns the edit distance between {@code a} and {@code b} if it is at most {@code limit},
+     * or {@code limit + 1} otherwise.
+     * <p>
+     * Stops as soon as every cell of the current row exceeds the limit, which makes checks against
+     * distant terms much cheaper than computing their exact distance.
+     * </p>
+     *
+     * @param a     the first term
+     * @param b     the second term
+     * @param limit the largest distance of interest
+     * @return the edit distance, capped at {@code limit + 1}
+     */
+    public static int distance(String a, String b, int limit) {
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+        if (a.length() - b.length() > limit) {
+            return limit + 1;
+        }
+
+        // two rows of the dynamic programming table, sized by the shorter term
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = (c == b.charAt(j - 1)) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    /**
+     * Returns the default number of edits tolerated when fuzzily matching the given term.
+     * Short terms tolerate fewer edits, since almost any short term is close to many others.
+     *
+     * @param term the query term
+     * @return {@code 0} for terms of up to 2 characters, {@code 1} for up to 5 characters, {@code 2} otherwise
+     */
+    public static int defaultMaxEdits(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+}
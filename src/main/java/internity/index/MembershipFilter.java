@@ -0,0 +1,173 @@
+package internity.index;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import internity.core.AsciiString;
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * Bloom filters over the words and short substrings of every company and role in the list, used to
+ * answer searches that cannot match anything without scanning the list or consulting the
+ * {@link SearchIndex}.
+ *
+ * <p>
+ * The word filter holds the terms produced by {@link Tokenizer}, and answers ranked searches. The
+ * substring filter holds every occurrence of a substring of up to {@value #MAX_GRAM_LENGTH} characters
+ * of the lowercased company and role, and answers keyword searches: a keyword can only occur in a
+ * field if every one of its substrings of that length occurs there too.
+ * </p>
+ *
+ * <p>
+ * Both filters are {@link CountingBloomFilter}s kept in sync through the {@link InternshipListener}
+ * callbacks. When the number of distinct entries outgrows a filter, both filters are rebuilt at
+ * twice the capacity from the current contents of the list, which keeps the false positive rate
+ * close to its target.
+ * </p>
+ */
+public class MembershipFilter implements InternshipListener {
+    /** The default target false positive rate of each filter. */
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    static final int MAX_GRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Supplier<List<Internship>> contents;
+    private final double falsePositiveRate;
+    private CountingBloomFilter words;
+    private CountingBloomFilter grams;
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param contents          supplies the current internships, used to rebuild the filters when they grow
+     * @param falsePositiveRate the target false positive rate of each filter
+     */
+    public MembershipFilter(Supplier<List<Internship>> contents, double falsePositiveRate) {
+        this.contents = contents;
+        this.falsePositiveRate = falsePositiveRate;
+        this.words = new CountingBloomFilter(INITIAL_CAPACITY, falsePositiveRate);
+        this.grams = new CountingBloomFilter(INITIAL_CAPACITY, falsePositiveRate);
+    }
+
+    /**
+     * Returns whether some internship may contain the keyword in its company or role, ignoring case.
+     *
+     * @param lowerKeyword the lowercased keyword
+     * @return {@code false} if no internship contains the keyword, {@code true} if one may
+     */
+    public boolean mightContainSubstring(AsciiString lowerKeyword) {
+        int length = Math.min(MAX_GRAM_LENGTH, lowerKeyword.length());
+        if (length == 0) {
+            return true;
+        }
+        for (int i = 0; i + length <= lowerKeyword.length(); i++) {
+            if (!grams.mightContain(lowerKeyword, i, i + length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a ranked search for the given terms may match some internship.
+     *
+     * @param terms    the query terms, each of which is tokenized like the indexed fields
+     * @param matchAll {@code true} if every term must occur, {@code false} if any one is enough
+     * @return {@code false} if the search cannot match anything, {@code true} if it may
+     */
+    public boolean mightMatch(List<String> terms, boolean matchAll) {
+        boolean hasTerms = false;
+        for (String term : terms) {
+            for (String token : Tokenizer.tokenize(term)) {
+                hasTerms = true;
+                boolean isPresent = words.mightContain(token);
+                if (matchAll && !isPresent) {
+                    return false;
+                }
+                if (!matchAll && isPresent) {
+                    return true;
+                }
+            }
+        }
+        return matchAll && hasTerms;
+    }
+
+    /**
+     * Returns the target false positive rate of each filter.
+     *
+     * @return the false positive rate
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        insert(words, grams, internship);
+        if (words.approximateSize() > words.capacity() || grams.approximateSize() > grams.capacity()) {
+            rebuild(Math.max(words.capacity(), grams.capacity()) * 2);
+        }
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        for (String word : wordsOf(internship)) {
+            words.remove(word);
+        }
+        forEachGram(internship.getCompanyAscii().toLowerCase(), grams::remove);
+        forEachGram(internship.getRoleAscii().toLowerCase(), grams::remove);
+    }
+
+    @Override
+    public void onClear() {
+        words = new CountingBloomFilter(INITIAL_CAPACITY, falsePositiveRate);
+        grams = new CountingBloomFilter(INITIAL_CAPACITY, falsePositiveRate);
+    }
+
+    private void rebuild(int capacity) {
+        words = new CountingBloomFilter(capacity, falsePositiveRate);
+        grams = new CountingBloomFilter(capacity, falsePositiveRate);
+        for (Internship internship : contents.get()) {
+            if (internship != null) {
+                insert(words, grams, internship);
+            }
+        }
+    }
+
+    private static void insert(CountingBloomFilter words, CountingBloomFilter grams, Internship internship) {
+        for (String word : wordsOf(internship)) {
+            words.add(word);
+        }
+        forEachGram(internship.getCompanyAscii().toLowerCase(), grams::add);
+        forEachGram(internship.getRoleAscii().toLowerCase(), grams::add);
+    }
+
+    private static Set<String> wordsOf(Internship internship) {
+        Set<String> distinct = new HashSet<>(Tokenizer.tokenize(internship.getCompanyAscii()));
+        distinct.addAll(Tokenizer.tokenize(internship.getRoleAscii()));
+        return distinct;
+    }
+
+    /**
+     * Passes every substring of up to {@value #MAX_GRAM_LENGTH} characters of a field to an action,
+     * once per occurrence, as a range of the field.
+     */
+    private static void forEachGram(AsciiString field, GramAction action) {
+        for (int i = 0; i < field.length(); i++) {
+            for (int length = 1; length <= MAX_GRAM_LENGTH && i + length <= field.length(); length++) {
+                action.apply(field, i, i + length);
+            }
+        }
+    }
+
+    /**
+     * An operation on a range of characters of an ASCII string.
+     */
+    private interface GramAction {
+        void apply(AsciiString value, int start, int end);
+    }
+}
@@ -0,0 +1,213 @@
+package internity.index;
+
+import java.util.Arrays;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * The distribution of pay over the internships in the list, used for the pay panel of the dashboard.
+ *
+ * <p>
+ * Pay values are kept in an order-statistic tree: a treap keyed by distinct pay, where every node
+ * stores how many internships have its pay and how many internships its subtree holds. Adding or
+ * removing an internship and finding the pay at a given rank, such as the median, take O(log d) time
+ * for d distinct pay values. Unlike a streaming sketch, the tree supports removals and its
+ * percentiles are exact. The number of internships in each band of {@link #BAND_LOWER_BOUNDS} is
+ * counted alongside, so the histogram is read in constant time.
+ * </p>
+ */
+public class PayDistribution implements InternshipListener {
+    /** The lowest pay of each histogram band, in increasing order. The last band has no upper bound. */
+    public static final int[] BAND_LOWER_BOUNDS = {0, 1, 2000, 4000, 6000, 8000};
+
+    private final int[] bandCounts = new int[BAND_LOWER_BOUNDS.length];
+    private Node root;
+
+    /**
+     * Returns the number of internships in the distribution.
+     *
+     * @return the number of pay values
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the pay at the given percentile using the nearest-rank method: the smallest pay such
+     * that at least {@code percentile} percent of the internships are paid at most that much.
+     *
+     * @param percentile the percentile, from {@code 0} exclusive to {@code 100} inclusive
+     * @return the pay at that percentile
+     * @throws IllegalStateException if the distribution is empty
+     */
+    public int percentile(double percentile) {
+        assert percentile > 0 && percentile <= 100 : "Percentile must be in (0, 100]";
+        if (root == null) {
+            throw new IllegalStateException("No pay values");
+        }
+        long rank = (long) Math.ceil(percentile / 100 * root.size);
+        return select(root, (int) Math.max(1, rank));
+    }
+
+    /**
+     * Returns the number of internships whose pay falls in each band of {@link #BAND_LOWER_BOUNDS}.
+     *
+     * @return a new array with one count per band
+     */
+    public int[] bandCounts() {
+        return bandCounts.clone();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        root = insert(root, internship.getPay());
+        bandCounts[bandOf(internship.getPay())]++;
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        root = delete(root, internship.getPay());
+        bandCounts[bandOf(internship.getPay())]--;
+    }
+
+    @Override
+    public void onUpdate(Internship before, Internship after) {
+        if (before.getPay() != after.getPay()) {
+            onRemove(before);
+            onAdd(after);
+        }
+    }
+
+    @Override
+    public void onClear() {
+        root = null;
+        Arrays.fill(bandCounts, 0);
+    }
+
+    private static int bandOf(int pay) {
+        int band = BAND_LOWER_BOUNDS.length - 1;
+        while (band > 0 && pay < BAND_LOWER_BOUNDS[band]) {
+            band--;
+        }
+        return band;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns the pay with the given 1-based rank in the subtree, counting every internship.
+     */
+    private static int select(Node node, int rank) {
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (rank <= leftSize) {
+                node = node.left;
+            } else if (rank <= leftSize + node.count) {
+                return node.pay;
+            } else {
+                rank -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    private static Node insert(Node node, int pay) {
+        if (node == null) {
+            return new Node(pay);
+        }
+        if (pay == node.pay) {
+            node.count++;
+        } else if (pay < node.pay) {
+            node.left = insert(node.left, pay);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, pay);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, int pay) {
+        if (node == null) {
+            return null;
+        }
+        if (pay < node.pay) {
+            node.left = delete(node.left, pay);
+        } else if (pay > node.pay) {
+            node.right = delete(node.right, pay);
+        } else if (node.count > 1) {
+            node.count--;
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.priority > node.right.priority) {
+            node = rotateRight(node);
+            node.right = delete(node.right, pay);
+        } else {
+            node = rotateLeft(node);
+            node.left = delete(node.left, pay);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    /**
+     * A distinct pay value in the treap.
+     */
+    private static final class Node {
+        private final int pay;
+        private final int priority;
+        private int count = 1;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(int pay) {
+            this.pay = pay;
+            this.priority = mix(pay);
+        }
+
+        private void update() {
+            size = sizeOf(left) + count + sizeOf(right);
+        }
+
+        /**
+         * Scrambles the pay into a pseudo-random priority, so that the shape of the treap does not
+         * depend on the order in which pay values are inserted.
+         */
+        private static int mix(int value) {
+            int h = value * 0x9E3779B9;
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * Named filters over the internship list whose results are materialized once and then kept up to
+ * date incrementally, so that showing a saved view never rescans the list.
+ *
+ * <p>
+ * Each view holds its matching internships in a sorted map in the order of its
+ * {@link ViewFilter}. When an internship is added, it is inserted into every view it matches; when
+ * it is removed, it is removed from every view; and when it is updated, the copy taken before the
+ * update is removed and the updated internship is inserted again if it still matches. Views are kept
+ * for the current session only and are not saved to storage.
+ * </p>
+ */
+public class SavedViews implements InternshipListener {
+    private final Supplier<List<Internship>> contents;
+    private final Map<String, View> views = new LinkedHashMap<>();
+
+    /**
+     * Creates a registry without views.
+     *
+     * @param contents supplies the current internships, used to materialize a view when it is saved
+     */
+    public SavedViews(Supplier<List<Internship>> contents) {
+        this.contents = contents;
+    }
+
+    /**
+     * Saves a view under the given name, replacing any view with the same name,
+     * and materializes its results from the current contents of the list.
+     *
+     * @param name   the name of the view, compared ignoring case
+     * @param filter the criteria and order of the view
+     * @return the number of internships in the view
+     */
+    public int save(String name, ViewFilter filter) {
+        View view = new View(name, filter);
+        for (Internship internship : contents.get()) {
+            if (internship != null && filter.matches(internship)) {
+                view.insert(internship);
+            }
+        }
+        views.put(keyOf(name), view);
+        return view.members.size();
+    }
+
+    /**
+     * Returns the internships in a view, in the order of the view.
+     *
+     * @param name the name of the view
+     * @return a new list with the internships in the view, or {@code null} if no view has that name
+     */
+    public List<Internship> get(String name) {
+        View view = views.get(keyOf(name));
+        return view == null ? null : new ArrayList<>(view.members.values());
+    }
+
+    /**
+     * Returns the filter of a view.
+     *
+     * @param name the name of the view
+     * @return the filter of the view, or {@code null} if no view has that name
+     */
+    public ViewFilter getFilter(String name) {
+        View view = views.get(keyOf(name));
+        return view == null ? null : view.filter;
+    }
+
+    /**
+     * Returns the names of the saved views, as last saved, in the order they were first saved.
+     *
+     * @return the names of the views
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>(views.size());
+        for (View view : views.values()) {
+            names.add(view.name);
+        }
+        return names;
+    }
+
+    /**
+     * Removes every saved view.
+     */
+    public void clear() {
+        views.clear();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        for (View view : views.values()) {
+            if (view.filter.matches(internship)) {
+                view.insert(internship);
+            }
+        }
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        for (View view : views.values()) {
+            view.remove(internship);
+        }
+    }
+
+    @Override
+    public void onUpdate(Internship before, Internship after) {
+        for (View view : views.values()) {
+            view.remove(before);
+            if (view.filter.matches(after)) {
+                view.insert(after);
+            }
+        }
+    }
+
+    /**
+     * Empties every view, keeping the views themselves so that they are filled again as
+     * internships are added.
+     */
+    @Override
+    public void onClear() {
+        for (View view : views.values()) {
+            view.members.clear();
+        }
+    }
+
+    private static String keyOf(String name) {
+        return name.toLowerCase();
+    }
+
+    /**
+     * A saved filter together with its current results.
+     *
+     * <p>
+     * Results are keyed by their sort key and record id at the time they were inserted rather than
+     * ordered by the internships themselves, because an internship is updated in place before the
+     * listeners are notified. The entry of an updated internship is found again through the copy
+     * holding its values prior to the update.
+     * </p>
+     */
+    private static final class View {
+        private final String name;
+        private final ViewFilter filter;
+        private final NavigableMap<Position, Internship> members = new TreeMap<>();
+
+        private View(String name, ViewFilter filter) {
+            this.name = name;
+            this.filter = filter;
+        }
+
+        private void insert(Internship internship) {
+            members.put(new Position(filter.sortKey(internship), internship.getId()), internship);
+        }
+
+        private void remove(Internship internship) {
+            members.remove(new Position(filter.sortKey(internship), internship.getId()));
+        }
+    }
+
+    /**
+     * The position of an internship within a view.
+     */
+    private static final class Position implements Comparable<Position> {
+        private final long sortKey;
+        private final int id;
+
+        private Position(long sortKey, int id) {
+            this.sortKey = sortKey;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            int bySortKey = Long.compare(sortKey, other.sortKey);
+            return bySortKey != 0 ? bySortKey : Integer.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Position && compareTo((Position) other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(sortKey) * 31 + id;
+        }
+    }
+}
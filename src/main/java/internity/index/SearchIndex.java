@@ -0,0 +1,593 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+
+/**
+ * An inverted index over the company and role terms of every internship in the list,
+ * used to answer ranked multi-term searches.
+ *
+ * <p>
+ * For each term the index keeps a posting list: primitive arrays of record ids, sorted ascending,
+ * with the term frequency and document length (number of terms) of each internship alongside, so a
+ * query is scored from the postings alone without boxing or a lookup per match. Each indexed
+ * internship also keeps the postings of the distinct terms it was indexed under, so that it can be
+ * removed again without re-tokenizing. Removed entries are only marked, and a posting list is
+ * compacted once half of it is removed. The index is updated incrementally through the
+ * {@link InternshipListener} callbacks.
+ * </p>
+ *
+ * <p>
+ * Matches are ranked with the Okapi BM25 scoring function, using the company and role terms as a
+ * single field. Postings of the query terms are intersected or merged in id order, and the best
+ * matches are kept in a bounded heap, so asking for the top {@code k} of {@code n} matches takes
+ * {@code O(n log k)} time and {@code O(k)} extra space.
+ * </p>
+ *
+ * <p>
+ * The distinct terms are also kept in a {@link TermTrie}, so that misspelt query terms can be
+ * matched against the dictionary of indexed terms by edit distance.
+ * </p>
+ */
+public class SearchIndex implements InternshipListener {
+    /** Term frequency saturation parameter of BM25. */
+    static final double K1 = 1.2;
+    /** Document length normalisation parameter of BM25. */
+    static final double B = 0.75;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final TermTrie dictionary = new TermTrie();
+    private long totalLength;
+
+    /**
+     * Returns all indexed internships that match the given terms, ordered by descending BM25 score.
+     * Internships with equal scores are returned by record id, which is the order they were added
+     * and so also their order in the list.
+     *
+     * @param terms    the query terms, each of which is tokenized like the indexed fields
+     * @param matchAll {@code true} if every term must occur in a matching internship,
+     *                 {@code false} if any one of the terms is enough
+     * @return the matching internships, best match first
+     */
+    public List<Internship> search(List<String> terms, boolean matchAll) {
+        return search(terms, matchAll, Integer.MAX_VALUE).getInternships();
+    }
+
+    /**
+     * Returns the best matches for the given terms, ordered as by {@link #search(List, boolean)}, along
+     * with the number of internships that matched.
+     *
+     * @param terms    the query terms, each of which is tokenized like the indexed fields
+     * @param matchAll {@code true} if every term must occur in a matching internship,
+     *                 {@code false} if any one of the terms is enough
+     * @param limit    the largest number of internships to return
+     * @return the best matches, best match first
+     */
+    public Ranking search(List<String> terms, boolean matchAll, int limit) {
+        assert limit > 0 : "Limit must be positive";
+        List<String> queryTerms = normalize(terms);
+        List<Posting> termPostings = new ArrayList<>();
+        for (String term : queryTerms) {
+            Posting posting = postings.get(term);
+            if (posting == null) {
+                if (matchAll) {
+                    return Ranking.EMPTY;
+                }
+                continue;
+            }
+            termPostings.add(posting);
+        }
+        if (termPostings.isEmpty()) {
+            return Ranking.EMPTY;
+        }
+
+        Posting[] query = termPostings.toArray(new Posting[0]);
+        double[] idfs = new double[query.length];
+        // the most internships that can match, so the heap is never larger than the matches
+        long maxMatches = matchAll ? Integer.MAX_VALUE : 0;
+        for (int t = 0; t < query.length; t++) {
+            int documentFrequency = query[t].liveCount();
+            idfs[t] = idf(documentFrequency);
+            maxMatches = matchAll ? Math.min(maxMatches, documentFrequency) : maxMatches + documentFrequency;
+        }
+        TopMatches top = new TopMatches((int) Math.min(limit, maxMatches));
+        if (matchAll) {
+            scoreAll(query, idfs, top);
+        } else {
+            scoreAny(query, idfs, top);
+        }
+
+        int[] ids = top.sortedIds();
+        List<Internship> results = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            results.add(documents.get(id).internship);
+        }
+        return new Ranking(results, top.matchCount);
+    }
+
+    /**
+     * Returns all indexed internships that fuzzily match every one of the given terms.
+     *
+     * <p>
+     * Each query term is looked up in the term dictionary, and matches any indexed term within
+     * {@code maxEdits} edits of it. An internship matches if each query term matches at least one of
+     * its terms. Results are ordered by the total number of edits needed, then by record id, which is
+     * their order in the list.
+     * </p>
+     *
+     * @param terms    the query terms, each of which is tokenized like the indexed fields
+     * @param maxEdits the maximum edit distance per term, or a negative value to use
+     *                 {@link Levenshtein#defaultMaxEdits(String)} for each term
+     * @return the matching internships, closest match first
+     */
+    public List<Internship> fuzzySearch(List<String> terms, int maxEdits) {
+        List<String> queryTerms = normalize(terms);
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // record id -> total edits, kept only for ids that matched every query term so far
+        Map<Integer, Integer> edits = null;
+        for (String queryTerm : queryTerms) {
+            int limit = maxEdits < 0 ? Levenshtein.defaultMaxEdits(queryTerm) : maxEdits;
+            Map<Integer, Integer> termEdits = new HashMap<>();
+            for (Map.Entry<String, Integer> match : dictionary.search(queryTerm, limit).entrySet()) {
+                Posting posting = postings.get(match.getKey());
+                for (int i = 0; i < posting.size; i++) {
+                    if (posting.frequencies[i] > 0) {
+                        termEdits.merge(posting.ids[i], match.getValue(), Math::min);
+                    }
+                }
+            }
+
+            if (edits == null) {
+                edits = termEdits;
+            } else {
+                Map<Integer, Integer> combined = new HashMap<>();
+                for (Map.Entry<Integer, Integer> entry : edits.entrySet()) {
+                    Integer termEdit = termEdits.get(entry.getKey());
+                    if (termEdit != null) {
+                        combined.put(entry.getKey(), entry.getValue() + termEdit);
+                    }
+                }
+                edits = combined;
+            }
+            if (edits.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(edits.entrySet());
+        ranked.sort(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+        List<Internship> results = new ArrayList<>(ranked.size());
+        for (Map.Entry<Integer, Integer> entry : ranked) {
+            results.add(documents.get(entry.getKey()).internship);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of internships that contain the given term.
+     *
+     * @param term a lowercase term
+     * @return the document frequency of the term
+     */
+    public int documentFrequency(String term) {
+        Posting posting = postings.get(term);
+        return posting == null ? 0 : posting.liveCount();
+    }
+
+    /**
+     * Returns the number of times the given term occurs in the company and role of an internship.
+     *
+     * @param term the lowercase term
+     * @param id   the record id of the internship
+     * @return the term frequency, or {@code 0} if the term does not occur
+     */
+    public int termFrequency(String term, int id) {
+        Posting posting = postings.get(term);
+        if (posting == null) {
+            return 0;
+        }
+        int i = posting.find(id);
+        return i < 0 ? 0 : posting.frequencies[i];
+    }
+
+    /**
+     * Returns the number of indexed internships.
+     *
+     * @return the document count
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        assert !documents.containsKey(internship.getId()) : "Internship is already indexed";
+
+        List<String> terms = Tokenizer.tokenize(internship.getCompanyAscii());
+        terms.addAll(Tokenizer.tokenize(internship.getRoleAscii()));
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        Posting[] documentPostings = new Posting[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            Posting posting = postings.computeIfAbsent(entry.getKey(), this::createPosting);
+            posting.put(internship.getId(), entry.getValue(), terms.size());
+            documentPostings[i++] = posting;
+        }
+
+        documents.put(internship.getId(), new Document(internship, terms.size(), documentPostings));
+        totalLength += terms.size();
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        Document document = documents.remove(internship.getId());
+        if (document == null) {
+            return;
+        }
+        for (Posting posting : document.postings) {
+            posting.remove(internship.getId());
+            if (posting.liveCount() == 0) {
+                postings.remove(posting.term);
+                dictionary.remove(posting.term);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    @Override
+    public void onUpdate(Internship before, Internship after) {
+        onRemove(before);
+        onAdd(after);
+    }
+
+    @Override
+    public void onClear() {
+        postings.clear();
+        documents.clear();
+        dictionary.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Creates the posting list for a term seen for the first time, and adds the term to the dictionary.
+     */
+    private Posting createPosting(String term) {
+        dictionary.add(term);
+        return new Posting(term);
+    }
+
+    /**
+     * Scores the internships in every posting list, walking the shortest list and seeking the same id
+     * in the others, which only move forward.
+     */
+    private void scoreAll(Posting[] query, double[] idfs, TopMatches top) {
+        int shortest = 0;
+        for (int t = 1; t < query.length; t++) {
+            if (query[t].liveCount() < query[shortest].liveCount()) {
+                shortest = t;
+            }
+        }
+        Posting driver = query[shortest];
+        int[] cursors = new int[query.length];
+        double averageLength = (double) totalLength / documents.size();
+        for (int i = 0; i < driver.size; i++) {
+            if (driver.frequencies[i] == 0) {
+                continue;
+            }
+            int id = driver.ids[i];
+            double score = 0;
+            boolean isInAll = true;
+            for (int t = 0; t < query.length; t++) {
+                Posting posting = query[t];
+                int j = t == shortest ? i : posting.seek(id, cursors[t]);
+                cursors[t] = j;
+                if (j == posting.size || posting.ids[j] != id || posting.frequencies[j] == 0) {
+                    isInAll = false;
+                    break;
+                }
+                score += termScore(idfs[t], posting.frequencies[j], posting.lengths[j], averageLength);
+            }
+            if (isInAll) {
+                top.offer(id, score);
+            }
+        }
+    }
+
+    /**
+     * Scores the internships in any posting list, merging the lists in id order so each internship is
+     * scored once, from the entries at the heads of the lists.
+     */
+    private void scoreAny(Posting[] query, double[] idfs, TopMatches top) {
+        int[] cursors = new int[query.length];
+        double averageLength = (double) totalLength / documents.size();
+        while (true) {
+            int id = Integer.MAX_VALUE;
+            for (int t = 0; t < query.length; t++) {
+                Posting posting = query[t];
+                while (cursors[t] < posting.size && posting.frequencies[cursors[t]] == 0) {
+                    cursors[t]++;
+                }
+                if (cursors[t] < posting.size) {
+                    id = Math.min(id, posting.ids[cursors[t]]);
+                }
+            }
+            if (id == Integer.MAX_VALUE) {
+                return;
+            }
+            double score = 0;
+            for (int t = 0; t < query.length; t++) {
+                Posting posting = query[t];
+                int j = cursors[t];
+                if (j < posting.size && posting.ids[j] == id) {
+                    score += termScore(idfs[t], posting.frequencies[j], posting.lengths[j], averageLength);
+                    cursors[t]++;
+                }
+            }
+            top.offer(id, score);
+        }
+    }
+
+    private double idf(int documentFrequency) {
+        int documentCount = documents.size();
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * Computes the BM25 contribution of one query term to the score of an internship.
+     */
+    private static double termScore(double idf, int frequency, int length, double averageLength) {
+        double norm = K1 * (1 - B + B * length / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    /**
+     * Tokenizes the query terms and removes duplicates, keeping the first occurrence.
+     */
+    private static List<String> normalize(List<String> terms) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String term : terms) {
+            normalized.addAll(Tokenizer.tokenize(term));
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    /**
+     * The best matches of a search and the number of internships that matched.
+     */
+    public static final class Ranking {
+        private static final Ranking EMPTY = new Ranking(Collections.emptyList(), 0);
+
+        private final List<Internship> internships;
+        private final int matchCount;
+
+        private Ranking(List<Internship> internships, int matchCount) {
+            this.internships = internships;
+            this.matchCount = matchCount;
+        }
+
+        /**
+         * Returns the best matches, best match first.
+         *
+         * @return the matching internships, at most as many as the limit of the search
+         */
+        public List<Internship> getInternships() {
+            return internships;
+        }
+
+        /**
+         * Returns the number of internships that matched, including those beyond the limit.
+         *
+         * @return the number of matches
+         */
+        public int getMatchCount() {
+            return matchCount;
+        }
+    }
+
+    /**
+     * A bounded min-heap of the best scored ids seen so far, kept in primitive arrays. The root is the
+     * worst kept match: the lowest score, and among equal scores the highest id.
+     */
+    private static final class TopMatches {
+        private final int[] ids;
+        private final double[] scores;
+        private int size;
+        private int matchCount;
+
+        TopMatches(int capacity) {
+            ids = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        void offer(int id, double score) {
+            matchCount++;
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (isWorse(ids[0], scores[0], id, score)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Empties the heap into the ids of the kept matches, best match first.
+         */
+        int[] sortedIds() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return Arrays.copyOf(ids, size);
+        }
+
+        private static boolean isWorse(int id, double score, int otherId, double otherScore) {
+            return score < otherScore || (score == otherScore && id > otherId);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!isWorse(ids[i], scores[i], ids[parent], scores[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                int worst = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < end; child++) {
+                    if (isWorse(ids[child], scores[child], ids[worst], scores[worst])) {
+                        worst = child;
+                    }
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    /**
+     * The posting list of a single term: the ids of the internships that contain it in ascending
+     * order, with the term frequency and document length of each. A removed entry keeps its id with a
+     * frequency of {@code 0} until the list is compacted.
+     */
+    private static final class Posting {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final String term;
+        private int[] ids = new int[INITIAL_CAPACITY];
+        private int[] frequencies = new int[INITIAL_CAPACITY];
+        private int[] lengths = new int[INITIAL_CAPACITY];
+        private int size;
+        private int removedCount;
+
+        Posting(String term) {
+            this.term = term;
+        }
+
+        int liveCount() {
+            return size - removedCount;
+        }
+
+        /**
+         * Returns the position of the entry for the id, or a negative value if there is none.
+         */
+        int find(int id) {
+            int i = Arrays.binarySearch(ids, 0, size, id);
+            return i >= 0 && frequencies[i] > 0 ? i : -1;
+        }
+
+        /**
+         * Returns the position of the first entry at or after {@code from} whose id is not below the
+         * given id, or {@code size} if there is none.
+         */
+        int seek(int id, int from) {
+            int i = Arrays.binarySearch(ids, from, size, id);
+            return i >= 0 ? i : -i - 1;
+        }
+
+        void put(int id, int frequency, int length) {
+            int i = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (i >= 0) {
+                // the id was removed and is added again, as on an update
+                assert frequencies[i] == 0 : "Id is already in the posting list";
+                frequencies[i] = frequency;
+                lengths[i] = length;
+                removedCount--;
+                return;
+            }
+            i = -i - 1;
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            System.arraycopy(ids, i, ids, i + 1, size - i);
+            System.arraycopy(frequencies, i, frequencies, i + 1, size - i);
+            System.arraycopy(lengths, i, lengths, i + 1, size - i);
+            ids[i] = id;
+            frequencies[i] = frequency;
+            lengths[i] = length;
+            size++;
+        }
+
+        void remove(int id) {
+            int i = find(id);
+            if (i < 0) {
+                return;
+            }
+            frequencies[i] = 0;
+            removedCount++;
+            if (removedCount * 2 > size) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (frequencies[i] > 0) {
+                    ids[kept] = ids[i];
+                    frequencies[kept] = frequencies[i];
+                    lengths[kept] = lengths[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            removedCount = 0;
+        }
+    }
+
+    /**
+     * The indexed state of a single internship. It refers to the postings of its distinct terms
+     * rather than to its own copies of the terms, so each term string is held once by the index.
+     */
+    private static final class Document {
+        private final Internship internship;
+        private final int length;
+        private final Posting[] postings;
+
+        Document(Internship internship, int length, Posting[] postings) {
+            this.internship = internship;
+            this.length = length;
+            this.postings = postings;
+        }
+    }
+}
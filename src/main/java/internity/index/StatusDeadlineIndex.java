@@ -0,0 +1,100 @@
+package internity.index;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import internity.core.Internship;
+import internity.core.InternshipListener;
+import internity.core.Status;
+
+/**
+ * A compound index of the internships in the list by status and then by deadline, used to answer
+ * "what is the next deadline among the internships with this status" with a single seek.
+ *
+ * <p>
+ * Each internship is keyed by the ordinal of its {@link Status}, the epoch day of its deadline and
+ * its record id, so the internships with one status form a contiguous range of the index, ordered
+ * by deadline and then by list position. The next deadline of a status from a given day is the
+ * first entry at or after that day within the status range, found in logarithmic time. Status and
+ * deadline updates move the entry through the default remove-then-add of
+ * {@link InternshipListener#onUpdate}.
+ * </p>
+ */
+public class StatusDeadlineIndex implements InternshipListener {
+    private final NavigableMap<Key, Internship> byStatusAndDeadline = new TreeMap<>();
+
+    /**
+     * Returns the internship with the given status whose deadline is the nearest on or after the
+     * given day. Among internships due on the same day, the one that comes first in the list is
+     * returned.
+     *
+     * @param status        the status to look up
+     * @param todayEpochDay the current day
+     * @return the next internship with that status, or {@code null} if none is due from that day on
+     */
+    public Internship next(Status status, long todayEpochDay) {
+        Map.Entry<Key, Internship> next = byStatusAndDeadline.ceilingEntry(
+                new Key(status.ordinal(), todayEpochDay, Integer.MIN_VALUE));
+        if (next == null || next.getKey().statusOrdinal != status.ordinal()) {
+            return null;
+        }
+        return next.getValue();
+    }
+
+    @Override
+    public void onAdd(Internship internship) {
+        byStatusAndDeadline.put(keyOf(internship), internship);
+    }
+
+    @Override
+    public void onRemove(Internship internship) {
+        // the removed internship may be a copy taken before an update, whose status and deadline locate the old entry
+        byStatusAndDeadline.remove(keyOf(internship));
+    }
+
+    @Override
+    public void onClear() {
+        byStatusAndDeadline.clear();
+    }
+
+    private static Key keyOf(Internship internship) {
+        int statusOrdinal = Status.valueOf(internship.getStatus().toUpperCase()).ordinal();
+        return new Key(statusOrdinal, internship.getDeadline().toEpochDay(), internship.getId());
+    }
+
+    /**
+     * The position of an internship within the index, ordered by status, then deadline, then id.
+     */
+    private static final class Key implements Comparable<Key> {
+        private final int statusOrdinal;
+        private final long epochDay;
+        private final int id;
+
+        private Key(int statusOrdinal, long epochDay, int id) {
+            this.statusOrdinal = statusOrdinal;
+            this.epochDay = epochDay;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byStatus = Integer.compare(statusOrdinal, other.statusOrdinal);
+            if (byStatus != 0) {
+                return byStatus;
+            }
+            int byDeadline = Long.compare(epochDay, other.epochDay);
+            return byDeadline != 0 ? byDeadline : Integer.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && compareTo((Key) other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return (statusOrdinal * 31 + Long.hashCode(epochDay)) * 31 + id;
+        }
+    }
+}
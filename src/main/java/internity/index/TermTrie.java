@@ -0,0 +1,337 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A reference-counted trie over a dictionary of distinct terms.
+ *
+ * <p>
+ * Each term is stored once, together with the number of times it has been added. Removing a term
+ * decrements its count, and the term disappears from the dictionary once the count reaches zero.
+ * Children of a node are kept in a sorted array indexed by character, which keeps nodes small for
+ * the sparse branching typical of words.
+ * </p>
+ *
+ * <p>
+ * Fuzzy lookups simulate a Levenshtein automaton over the trie: one row of the edit distance table
+ * is computed per trie node, shared by every term with that prefix, and a branch is abandoned as
+ * soon as every entry of its row exceeds the allowed number of edits. Only a small part of the trie
+ * is therefore visited, regardless of the size of the dictionary.
+ * </p>
+ *
+ * <p>
+ * Every node also records the highest count found in its subtree, so that the most frequent
+ * completions of a prefix can be found best-first without visiting the whole subtree.
+ * </p>
+ */
+public class TermTrie {
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of a term.
+     *
+     * @param term the term to add
+     */
+    public void add(String term) {
+        assert term != null : "Term cannot be null";
+        Node[] path = new Node[term.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < term.length(); i++) {
+            path[i + 1] = path[i].getOrCreateChild(term.charAt(i));
+        }
+
+        Node node = path[term.length()];
+        if (node.count == 0) {
+            size++;
+        }
+        node.count++;
+        updateMaxCounts(path);
+    }
+
+    /**
+     * Removes one occurrence of a term. The term is removed from the dictionary once all of its
+     * occurrences have been removed. Removing a term that is not present has no effect.
+     *
+     * @param term the term to remove
+     */
+    public void remove(String term) {
+        Node[] path = new Node[term.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < term.length(); i++) {
+            path[i + 1] = path[i].child(term.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node node = path[term.length()];
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count == 0) {
+            size--;
+            // unlink the nodes that no longer lead to any term
+            for (int i = term.length(); i > 0 && path[i].count == 0 && path[i].keys.length == 0; i--) {
+                path[i - 1].removeChild(term.charAt(i - 1));
+            }
+        }
+        updateMaxCounts(path);
+    }
+
+    /**
+     * Returns the number of occurrences of a term.
+     *
+     * @param term the term to look up
+     * @return the number of times the term has been added and not removed
+     */
+    public int count(String term) {
+        Node node = find(term);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns whether the dictionary contains a term.
+     *
+     * @param term the term to look up
+     * @return {@code true} if the term has at least one occurrence
+     */
+    public boolean contains(String term) {
+        return count(term) > 0;
+    }
+
+    /**
+     * Returns the number of distinct terms in the dictionary.
+     *
+     * @return the number of distinct terms
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all terms from the dictionary.
+     */
+    public void clear() {
+        root.keys = Node.NO_KEYS;
+        root.children = Node.NO_CHILDREN;
+        root.count = 0;
+        root.maxCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the most frequent terms that start with the given prefix.
+     * Terms are ordered by descending count, and terms with equal counts in lexicographic order.
+     *
+     * @param prefix the prefix to complete, which is itself returned if it is a term
+     * @param limit  the maximum number of terms to return
+     * @return up to {@code limit} completions of the prefix, most frequent first
+     */
+    public List<String> complete(String prefix, int limit) {
+        assert limit >= 0 : "Limit cannot be negative";
+        List<String> completions = new ArrayList<>();
+        Node start = find(prefix);
+        if (start == null || start.maxCount == 0 || limit == 0) {
+            return completions;
+        }
+
+        // best-first search: a subtree is expanded only once no known term is more frequent than it can be
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(prefix, start, start.maxCount));
+        while (!queue.isEmpty() && completions.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.node == null) {
+                completions.add(candidate.text);
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.count > 0) {
+                queue.add(new Candidate(candidate.text, null, node.count));
+            }
+            for (int i = 0; i < node.keys.length; i++) {
+                queue.add(new Candidate(candidate.text + node.keys[i], node.children[i], node.children[i].maxCount));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns every term within the given edit distance of the query, paired with its distance.
+     *
+     * @param query    the term to search around
+     * @param maxEdits the maximum number of single-character insertions, deletions or substitutions
+     * @return a map from each matching term to its edit distance from the query
+     */
+    public Map<String, Integer> search(String query, int maxEdits) {
+        assert maxEdits >= 0 : "Edit distance cannot be negative";
+        Map<String, Integer> matches = new HashMap<>();
+
+        int[] firstRow = new int[query.length() + 1];
+        for (int j = 0; j <= query.length(); j++) {
+            firstRow[j] = j;
+        }
+        if (root.count > 0 && firstRow[query.length()] <= maxEdits) {
+            matches.put("", firstRow[query.length()]);
+        }
+
+        FuzzySearch search = new FuzzySearch(query, maxEdits, matches);
+        for (int i = 0; i < root.keys.length; i++) {
+            search.visit(root.children[i], root.keys[i], firstRow);
+        }
+        return matches;
+    }
+
+    /**
+     * Recomputes the subtree maximum of every node on a path, from the deepest node up to the root.
+     */
+    private static void updateMaxCounts(Node[] path) {
+        for (int i = path.length - 1; i >= 0; i--) {
+            Node node = path[i];
+            int max = node.count;
+            for (Node child : node.children) {
+                max = Math.max(max, child.maxCount);
+            }
+            node.maxCount = max;
+        }
+    }
+
+    private Node find(String term) {
+        Node node = root;
+        for (int i = 0; i < term.length() && node != null; i++) {
+            node = node.child(term.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * The state of a single fuzzy lookup: the query, and the prefix and rows of the current branch.
+     */
+    private static final class FuzzySearch {
+        private final String query;
+        private final int maxEdits;
+        private final Map<String, Integer> matches;
+        private final StringBuilder prefix = new StringBuilder();
+
+        FuzzySearch(String query, int maxEdits, Map<String, Integer> matches) {
+            this.query = query;
+            this.maxEdits = maxEdits;
+            this.matches = matches;
+        }
+
+        void visit(Node node, char c, int[] previousRow) {
+            int columns = query.length() + 1;
+            int[] row = new int[columns];
+            row[0] = previousRow[0] + 1;
+            int rowMin = row[0];
+            for (int j = 1; j < columns; j++) {
+                int cost = (query.charAt(j - 1) == c) ? 0 : 1;
+                row[j] = Math.min(Math.min(row[j - 1] + 1, previousRow[j] + 1), previousRow[j - 1] + cost);
+                rowMin = Math.min(rowMin, row[j]);
+            }
+            if (rowMin > maxEdits) {
+                return;
+            }
+
+            prefix.append(c);
+            if (node.count > 0 && row[columns - 1] <= maxEdits) {
+                matches.put(prefix.toString(), row[columns - 1]);
+            }
+            for (int i = 0; i < node.keys.length; i++) {
+                visit(node.children[i], node.keys[i], row);
+            }
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    /**
+     * An entry in the completion queue: either a term with its count, or a subtree with the
+     * highest count found in it.
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+        private final String text;
+        private final Node node;
+        private final int priority;
+
+        Candidate(String text, Node node, int priority) {
+            this.text = text;
+            this.node = node;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            int byPriority = Integer.compare(other.priority, priority);
+            if (byPriority != 0) {
+                return byPriority;
+            }
+            int byText = text.compareTo(other.text);
+            if (byText != 0) {
+                return byText;
+            }
+            // a term is emitted before the subtree that shares its text
+            return Boolean.compare(node != null, other.node != null);
+        }
+    }
+
+    /**
+     * A trie node with its children sorted by character.
+     */
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int count;
+        private int maxCount;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            int insertAt = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package internity.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import internity.core.AsciiString;
+
+/**
+ * Splits company and role values into lowercase search terms.
+ *
+ * <p>
+ * A term is a maximal run of ASCII letters and digits. All other characters (spaces, punctuation)
+ * separate terms and are discarded. For example, {@code "Software Engineer (C++)"} is split into
+ * {@code ["software", "engineer", "c"]}.
+ * </p>
+ */
+public final class Tokenizer {
+    private Tokenizer() {
+    }
+
+    /**
+     * Returns the terms contained in the given text, in order of appearance.
+     * Repeated terms are returned once per occurrence.
+     *
+     * @param text the text to split, may be {@code null}
+     * @return the lowercase terms of the text
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermChar = i < text.length() && isTermChar(text.charAt(i));
+            if (isTermChar && start < 0) {
+                start = i;
+            } else if (!isTermChar && start >= 0) {
+                terms.add(toLowerAscii(text, start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the terms contained in the given ASCII text, in order of appearance.
+     * The terms are cut from the cached lowercase form of the text, so no character is lowercased again.
+     *
+     * @param text the text to split
+     * @return the lowercase terms of the text
+     */
+    public static List<String> tokenize(AsciiString text) {
+        List<String> terms = new ArrayList<>();
+        AsciiString lower = text.toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean isTermChar = i < lower.length() && isTermChar(lower.charAt(i));
+            if (isTermChar && start < 0) {
+                start = i;
+            } else if (!isTermChar && start >= 0) {
+                terms.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static boolean isTermChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static String toLowerAscii(String text, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            chars[i - start] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+}
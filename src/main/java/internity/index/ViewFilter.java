@@ -0,0 +1,127 @@
+package internity.index;
+
+import internity.core.AsciiString;
+import internity.core.Date;
+import internity.core.Internship;
+import internity.logic.commands.ListCommand;
+
+/**
+ * The criteria and display order of a saved view, see {@link SavedViews}.
+ *
+ * <p>
+ * An internship matches a filter if it satisfies every criterion that is set: its status equals the
+ * given status, its company or role contains the given keyword ignoring case, and its pay lies
+ * within the given bounds, which are inclusive. Criteria that are {@code null} are not checked, so a
+ * filter without criteria matches every internship.
+ * </p>
+ */
+public final class ViewFilter {
+    private final String status;
+    private final AsciiString company;
+    private final AsciiString role;
+    private final Integer minPay;
+    private final Integer maxPay;
+    private final ListCommand.OrderType order;
+
+    /**
+     * Creates a filter from the given criteria.
+     *
+     * @param status  the required status, or {@code null}
+     * @param company a keyword the company must contain, or {@code null}
+     * @param role    a keyword the role must contain, or {@code null}
+     * @param minPay  the lowest accepted pay, or {@code null}
+     * @param maxPay  the highest accepted pay, or {@code null}
+     * @param order   the order in which matching internships are listed
+     */
+    public ViewFilter(String status, String company, String role, Integer minPay, Integer maxPay,
+                      ListCommand.OrderType order) {
+        assert order != null : "Order cannot be null";
+        this.status = status;
+        this.company = company == null ? null : AsciiString.of(company).toLowerCase();
+        this.role = role == null ? null : AsciiString.of(role).toLowerCase();
+        this.minPay = minPay;
+        this.maxPay = maxPay;
+        this.order = order;
+    }
+
+    /**
+     * Returns whether an internship satisfies every criterion of this filter.
+     *
+     * @param internship the internship to test
+     * @return {@code true} if the internship belongs in the view
+     */
+    public boolean matches(Internship internship) {
+        if (status != null && !status.equalsIgnoreCase(internship.getStatus())) {
+            return false;
+        }
+        if (company != null && !internship.getCompanyAscii().containsIgnoreCase(company)) {
+            return false;
+        }
+        if (role != null && !internship.getRoleAscii().containsIgnoreCase(role)) {
+            return false;
+        }
+        if (minPay != null && internship.getPay() < minPay) {
+            return false;
+        }
+        return maxPay == null || internship.getPay() <= maxPay;
+    }
+
+    /**
+     * Returns the primary sort key of an internship in the view. Internships are listed by increasing
+     * key, and internships with equal keys by increasing record id.
+     *
+     * <p>
+     * The key is the deadline for {@link ListCommand.OrderType#ASCENDING}, the negated deadline for
+     * {@link ListCommand.OrderType#DESCENDING} and constant otherwise. Since record ids are assigned
+     * in list order, internships with the same deadline keep their relative order in the list, as in
+     * {@link internity.core.InternshipList#sortInternships}.
+     * </p>
+     *
+     * @param internship the internship to compute the key for
+     * @return the sort key
+     */
+    public long sortKey(Internship internship) {
+        Date deadline = internship.getDeadline();
+        long key = deadline.getYear() * 10000L + deadline.getMonth() * 100L + deadline.getDay();
+        switch (order) {
+        case ASCENDING:
+            return key;
+        case DESCENDING:
+            return -key;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the filter in the syntax of the {@code view save} command, e.g.
+     * {@code "status/Offer minpay/5000 sort/asc"}.
+     *
+     * @return the criteria of the filter, or {@code "(all)"} if it has none
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        appendCriterion(sb, "status/", status);
+        appendCriterion(sb, "company/", company);
+        appendCriterion(sb, "role/", role);
+        appendCriterion(sb, "minpay/", minPay);
+        appendCriterion(sb, "maxpay/", maxPay);
+        if (order == ListCommand.OrderType.ASCENDING) {
+            appendCriterion(sb, "sort/", "asc");
+        } else if (order == ListCommand.OrderType.DESCENDING) {
+            appendCriterion(sb, "sort/", "desc");
+        }
+        return sb.length() == 0 ? "(all)" : sb.toString();
+    }
+
+    private static void appendCriterion(StringBuilder sb, String tag, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (sb.length() > 0) {
+            sb.append(' ');
+        }
+        sb.append(tag).append(value);
+    }
+}
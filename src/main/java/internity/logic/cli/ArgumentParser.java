@@ -1,17 +1,27 @@
 package internity.logic.cli;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import internity.core.Date;
 import internity.core.InternityException;
 import internity.core.InternshipList;
 import internity.core.Status;
+import internity.index.CompletionIndex;
+import internity.index.Tokenizer;
+import internity.index.ViewFilter;
 import internity.logic.commands.AddCommand;
+import internity.logic.commands.CompleteCommand;
+import internity.logic.commands.DashboardCommand;
 import internity.logic.commands.DeleteCommand;
+import internity.logic.commands.DueCommand;
 import internity.logic.commands.FindCommand;
 import internity.logic.commands.ListCommand;
+import internity.logic.commands.NextCommand;
+import internity.logic.commands.OutputFormat;
 import internity.logic.commands.UpdateCommand;
 import internity.logic.commands.UsernameCommand;
+import internity.logic.commands.ViewCommand;
 import internity.ui.Ui;
 import internity.utils.DateFormatter;
 
@@ -28,6 +38,10 @@ import internity.utils.DateFormatter;
  *      <li>{@link UpdateCommand}</li>
  *      <li>{@link ListCommand}</li>
  *      <li>{@link UsernameCommand}</li>
+ *      <li>{@link CompleteCommand}</li>
+ *      <li>{@link DueCommand}</li>
+ *      <li>{@link NextCommand}</li>
+ *      <li>{@link ViewCommand}</li>
  * </ul>
  */
 public final class ArgumentParser {
@@ -36,8 +50,20 @@ public final class ArgumentParser {
     private static final int IDX_ROLE = 1;
     private static final int IDX_DEADLINE = 2;
     private static final int IDX_PAY = 3;
-    private static final String PARSE_LOGIC_ADD = "\\s+(?=company/|role/|deadline/|pay/)";
-    private static final String PARSE_LOGIC_UPDATE = "\\s+(?=company/|role/|deadline/|pay/|status/)";
+    private static final String[] ADD_TAGS = {"company/", "role/", "deadline/", "pay/"};
+    private static final String[] UPDATE_TAGS = {"company/", "role/", "deadline/", "pay/", "status/"};
+    private static final String FIND_ALL_TAG = "all/";
+    private static final String FIND_ANY_TAG = "any/";
+    private static final String FIND_FUZZY_TAG = "fuzzy/";
+    private static final String COMPANY_TAG = "company/";
+    private static final String ROLE_TAG = "role/";
+    private static final String DUE_WEEK_TAG = "week/";
+    private static final String DUE_MONTH_TAG = "month/";
+    private static final String STATUS_TAG = "status/";
+    private static final String VIEW_SAVE_KEYWORD = "save";
+    private static final String[] VIEW_TAGS = {"status/", "company/", "role/", "minpay/", "maxpay/", "sort/"};
+    private static final String SORT_TAG = "sort/";
+    private static final String FORMAT_TAG = "format/";
 
     private static final Logger logger = Logger.getLogger(ArgumentParser.class.getName());
 
@@ -62,8 +88,8 @@ public final class ArgumentParser {
      * <p>
      * The parsing process performs the following steps:
      * <ul>
-     *     <li>Splits the input string using the predefined delimiter
-     *         {@code PARSE_LOGIC_ADD} into exactly four parts.</li>
+     *     <li>Splits the input string with {@link CommandLexer#splitAtTags(String, String...)}
+     *         before each of the {@code ADD_TAGS} into exactly four parts.</li>
      *     <li>Verifies that all required fields exist and appear in the correct order:
      *         "company/", "role/", "deadline/", and "pay/".</li>
      *     <li>Extracts the actual values for each field by removing their respective prefixes
@@ -110,37 +136,44 @@ public final class ArgumentParser {
 
         assert !args.isBlank() : "Arguments cannot be blank after validation";
 
-        String[] parts = args.split(PARSE_LOGIC_ADD);
+        List<CommandLexer.Field> fields = CommandLexer.splitFields(args, ADD_TAGS);
 
         // throw exception if number of fields provided is not exactly 4
-        if (parts.length != ADD_COMMAND_PARTS) {
-            throw InternityException.invalidAddCommand();
+        if (fields.size() < ADD_COMMAND_PARTS) {
+            throw InternityException.invalidAddCommand(args.length() + 1);
+        }
+        if (fields.size() > ADD_COMMAND_PARTS) {
+            throw InternityException.invalidAddCommand(fields.get(ADD_COMMAND_PARTS).getColumn());
         }
 
         // throw exception if fields are not provided in the specified order
-        if (!parts[IDX_COMPANY].startsWith("company/")) {
+        if (!fields.get(IDX_COMPANY).getText().startsWith("company/")) {
             logger.severe("The first field is not company");
-            throw InternityException.noFieldForAdd("company/ should be the first field.");
+            throw InternityException.noFieldForAdd("company/ should be the first field",
+                    fields.get(IDX_COMPANY).getColumn());
         }
-        if (!parts[IDX_ROLE].startsWith("role/")) {
+        if (!fields.get(IDX_ROLE).getText().startsWith("role/")) {
             logger.severe("The second field is not role.");
-            throw InternityException.noFieldForAdd("role/ should be the second field.");
+            throw InternityException.noFieldForAdd("role/ should be the second field",
+                    fields.get(IDX_ROLE).getColumn());
         }
-        if (!parts[IDX_DEADLINE].startsWith("deadline/")) {
+        if (!fields.get(IDX_DEADLINE).getText().startsWith("deadline/")) {
             logger.severe("The third field is not deadline.");
-            throw InternityException.noFieldForAdd("deadline/ should be the third field.");
+            throw InternityException.noFieldForAdd("deadline/ should be the third field",
+                    fields.get(IDX_DEADLINE).getColumn());
         }
-        if (!parts[IDX_PAY].startsWith("pay/")) {
+        if (!fields.get(IDX_PAY).getText().startsWith("pay/")) {
             logger.severe("The fourth field is not pay.");
-            throw InternityException.noFieldForAdd("pay/ should be the fourth field.");
+            throw InternityException.noFieldForAdd("pay/ should be the fourth field",
+                    fields.get(IDX_PAY).getColumn());
         }
 
         logger.info("All 4 fields of AddCommand were provided and parsed successfully.");
 
-        String company = parts[IDX_COMPANY].substring("company/".length()).trim();
-        String role = parts[IDX_ROLE].substring("role/".length()).trim();
-        String deadlineString = parts[IDX_DEADLINE].substring("deadline/".length()).trim();
-        String payString = parts[IDX_PAY].substring("pay/".length()).trim();
+        String company = valueAfterTag(fields.get(IDX_COMPANY).getText(), "company/");
+        String role = valueAfterTag(fields.get(IDX_ROLE).getText(), "role/");
+        String deadlineString = valueAfterTag(fields.get(IDX_DEADLINE).getText(), "deadline/");
+        String payString = valueAfterTag(fields.get(IDX_PAY).getText(), "pay/");
 
         // throw exception if max length is exceeded
         if (company.length() > Ui.COMPANY_MAXLEN) {
@@ -225,15 +258,49 @@ public final class ArgumentParser {
      * company name or role of internships. The search is case-insensitive.
      * </p>
      *
+     * <p>
+     * If the arguments start with {@code all/} or {@code any/}, the rest of the input is split into
+     * whole-word terms for a ranked search that requires every term or any term to match respectively.
+     * If they start with {@code fuzzy/}, the terms are matched allowing for spelling mistakes.
+     * </p>
+     *
+     * <p>
+     * A trailing {@code format/FORMAT} field chooses how the matches are printed, see {@link OutputFormat}.
+     * If it names no known format, it is searched for as part of the keyword instead.
+     * </p>
+     *
      * @param args the search keyword provided by the user for the find command
      * @return a new {@link FindCommand} instance constructed from the parsed keyword
-     * @throws InternityException if the argument string is {@code null} or blank
+     * @throws InternityException if the argument string is {@code null} or blank,
+     *                            or a ranked search contains no terms
      */
     public static FindCommand parseFindCommandArgs(String args) throws InternityException {
         if (args == null || args.isBlank()) {
             throw InternityException.invalidFindCommand();
         }
-        return new FindCommand(args);
+
+        String[] searchAndFormat = splitFormat(args);
+        String search = searchAndFormat[0];
+        OutputFormat format = searchAndFormat[1] == null ? null : OutputFormat.fromName(searchAndFormat[1]);
+        if (format == null) {
+            search = args;
+            format = OutputFormat.TABLE;
+        }
+        if (search.isBlank()) {
+            throw InternityException.invalidFindCommand();
+        }
+
+        String trimmed = search.trim();
+        if (trimmed.startsWith(FIND_ALL_TAG)) {
+            return new FindCommand(parseSearchTerms(trimmed, FIND_ALL_TAG), FindCommand.SearchType.ALL_TERMS, format);
+        }
+        if (trimmed.startsWith(FIND_ANY_TAG)) {
+            return new FindCommand(parseSearchTerms(trimmed, FIND_ANY_TAG), FindCommand.SearchType.ANY_TERM, format);
+        }
+        if (trimmed.startsWith(FIND_FUZZY_TAG)) {
+            return new FindCommand(parseSearchTerms(trimmed, FIND_FUZZY_TAG), FindCommand.SearchType.FUZZY, format);
+        }
+        return new FindCommand(search, format);
     }
 
     /**
@@ -253,8 +320,10 @@ public final class ArgumentParser {
         }
 
         String tagged = requireTagged(idxAndTagged[1]);
+        // tagged ends where args ends once trimmed, so its last occurrence is where it was cut from
+        int taggedOffset = args.lastIndexOf(tagged);
 
-        String[] parts = tagged.split(PARSE_LOGIC_UPDATE);
+        List<CommandLexer.Field> fields = CommandLexer.splitFields(tagged, UPDATE_TAGS);
         String company = null;
         String role = null;
         Date deadline = null;
@@ -262,8 +331,8 @@ public final class ArgumentParser {
         String status = null;
 
         try {
-            for (String part : parts) {
-                String p = part.trim();
+            for (CommandLexer.Field field : fields) {
+                String p = field.getText().trim();
                 if (p.isEmpty()) {
                     continue;
                 }
@@ -308,7 +377,7 @@ public final class ArgumentParser {
                         throw InternityException.invalidStatus(status);
                     }
                 } else {
-                    throw InternityException.unknownUpdateField(p);
+                    throw InternityException.unknownUpdateField(p, taggedOffset + field.getColumn());
                 }
             }
         } catch (NumberFormatException e) {
@@ -324,6 +393,8 @@ public final class ArgumentParser {
 
     /**
      * Parses the arguments for List Command to create an {@link ListCommand} instance.
+     * The arguments are an optional {@code sort/asc} or {@code sort/desc}, followed by an optional
+     * {@code format/FORMAT}, see {@link OutputFormat}.
      *
      * @param args arguments for {@link ListCommand}
      * @return an instance of ListCommand constructed from the parsed arguments.
@@ -335,23 +406,271 @@ public final class ArgumentParser {
             return new ListCommand(ListCommand.OrderType.DEFAULT); // Default order
         }
 
-        if (!args.startsWith("sort/")) {
-            throw InternityException.invalidListCommand();
+        String[] orderAndFormat = splitFormat(args);
+        String sort = orderAndFormat[0];
+        OutputFormat format = parseOutputFormat(orderAndFormat[1]);
+        if (sort.isEmpty()) {
+            return new ListCommand(ListCommand.OrderType.DEFAULT, format);
+        }
+
+        // sort starts at the first character of args that is not a space
+        int sortOffset = args.indexOf(sort);
+        if (!sort.startsWith(SORT_TAG)) {
+            throw InternityException.invalidListCommand(sortOffset + 1);
         }
 
-        String[] splitArgs = args.split("\\s+sort/");
-        if (splitArgs.length > 1) {
-            throw InternityException.invalidListCommand();
+        List<CommandLexer.Field> fields = CommandLexer.splitFields(sort, SORT_TAG);
+        if (fields.size() > 1) {
+            throw InternityException.invalidListCommand(sortOffset + fields.get(1).getColumn());
         }
 
-        String order = splitArgs[0].substring("sort/".length()).trim();
+        String order = valueAfterTag(fields.get(0).getText(), SORT_TAG);
         if (order.equals("asc")) {
-            return new ListCommand(ListCommand.OrderType.ASCENDING);
+            return new ListCommand(ListCommand.OrderType.ASCENDING, format);
         } else if (order.equals("desc")) {
-            return new ListCommand(ListCommand.OrderType.DESCENDING);
+            return new ListCommand(ListCommand.OrderType.DESCENDING, format);
         } else {
-            throw InternityException.invalidListCommand();
+            throw InternityException.invalidListCommand(sortOffset + SORT_TAG.length() + 1);
+        }
+    }
+
+    /**
+     * Parses the arguments for Dashboard Command to create a {@link DashboardCommand} instance.
+     * Arguments other than a trailing {@code format/FORMAT} are ignored, as they always have been.
+     *
+     * @param args arguments for {@link DashboardCommand}
+     * @return an instance of {@link DashboardCommand} printing in the given format
+     * @throws InternityException if the format is unknown
+     */
+    public static DashboardCommand parseDashboardCommandArgs(String args) throws InternityException {
+        if (args == null || args.isBlank()) {
+            return new DashboardCommand();
+        }
+        return new DashboardCommand(parseOutputFormat(splitFormat(args)[1]));
+    }
+
+    /**
+     * Parses the arguments for Complete Command to create a {@link CompleteCommand} instance.
+     *
+     * <p>
+     * A {@code company/} or {@code role/} tag restricts the completion to that field, in which case
+     * the prefix may be empty to list the most common names. Without a tag, both fields are completed
+     * and a prefix is required.
+     * </p>
+     *
+     * @param args arguments for {@link CompleteCommand}
+     * @return an instance of {@link CompleteCommand} constructed from the parsed arguments.
+     * @throws InternityException if the arguments are missing.
+     */
+    public static CompleteCommand parseCompleteCommandArgs(String args) throws InternityException {
+        if (args == null || args.isBlank()) {
+            throw InternityException.invalidCompleteCommand();
+        }
+
+        String trimmed = args.trim();
+        if (trimmed.startsWith(COMPANY_TAG)) {
+            return new CompleteCommand(CompletionIndex.Field.COMPANY, valueAfterTag(trimmed, COMPANY_TAG));
+        }
+        if (trimmed.startsWith(ROLE_TAG)) {
+            return new CompleteCommand(CompletionIndex.Field.ROLE, valueAfterTag(trimmed, ROLE_TAG));
+        }
+        return new CompleteCommand(null, trimmed);
+    }
+
+    /**
+     * Parses the arguments for Due Command to create a {@link DueCommand} instance.
+     *
+     * @param args arguments for {@link DueCommand}, either {@code week/} or {@code month/}
+     * @return an instance of {@link DueCommand} constructed from the parsed arguments.
+     * @throws InternityException if the arguments are missing or invalid.
+     */
+    public static DueCommand parseDueCommandArgs(String args) throws InternityException {
+        String trimmed = args == null ? "" : args.trim();
+        if (trimmed.equals(DUE_WEEK_TAG)) {
+            return new DueCommand(DueCommand.Horizon.WEEK);
+        }
+        if (trimmed.equals(DUE_MONTH_TAG)) {
+            return new DueCommand(DueCommand.Horizon.MONTH);
+        }
+        throw InternityException.invalidDueCommand();
+    }
+
+    /**
+     * Parses the arguments for Next Command to create a {@link NextCommand} instance.
+     *
+     * @param args arguments for {@link NextCommand}, a {@code status/} tag with any valid status, in any case
+     * @return an instance of {@link NextCommand} constructed from the parsed arguments.
+     * @throws InternityException if the tag is missing or the status is invalid.
+     */
+    public static NextCommand parseNextCommandArgs(String args) throws InternityException {
+        String trimmed = args == null ? "" : args.trim();
+        if (!trimmed.startsWith(STATUS_TAG)) {
+            throw InternityException.invalidNextCommand();
+        }
+        String value = valueAfterTag(trimmed, STATUS_TAG);
+        if (!Status.isValid(value)) {
+            throw InternityException.invalidStatus(value);
+        }
+        return new NextCommand(Status.valueOf(value.trim().toUpperCase()));
+    }
+
+    /**
+     * Parses the arguments for View Command to create a {@link ViewCommand} instance.
+     *
+     * <p>
+     * {@code save NAME} followed by optional filter tags saves a view, a name on its own shows that
+     * view, and no arguments lists the saved views. A view name consists of letters, digits,
+     * {@code -} and {@code _}. The filter tags are {@code status/}, {@code company/}, {@code role/},
+     * {@code minpay/}, {@code maxpay/} and {@code sort/}, each given at most once, in any order.
+     * </p>
+     *
+     * @param args arguments for {@link ViewCommand}
+     * @return an instance of {@link ViewCommand} constructed from the parsed arguments.
+     * @throws InternityException if the name or any filter tag is missing or invalid.
+     */
+    public static ViewCommand parseViewCommandArgs(String args) throws InternityException {
+        if (args == null || args.isBlank()) {
+            return new ViewCommand();
+        }
+
+        String[] nameAndFilter = CommandLexer.splitFirstWord(args);
+        if (!nameAndFilter[0].equalsIgnoreCase(VIEW_SAVE_KEYWORD)) {
+            if (nameAndFilter.length > 1 || !isViewName(nameAndFilter[0])) {
+                throw InternityException.invalidViewCommand();
+            }
+            return new ViewCommand(nameAndFilter[0]);
+        }
+
+        if (nameAndFilter.length < 2) {
+            throw InternityException.invalidViewCommand();
+        }
+        String[] saveArgs = CommandLexer.splitFirstWord(nameAndFilter[1]);
+        String name = saveArgs[0];
+        if (!isViewName(name) || name.equalsIgnoreCase(VIEW_SAVE_KEYWORD)) {
+            throw InternityException.invalidViewCommand();
+        }
+        String filterArgs = saveArgs.length > 1 ? saveArgs[1] : "";
+        return new ViewCommand(name, parseViewFilter(filterArgs));
+    }
+
+    private static ViewFilter parseViewFilter(String args) throws InternityException {
+        String status = null;
+        String company = null;
+        String role = null;
+        Integer minPay = null;
+        Integer maxPay = null;
+        ListCommand.OrderType order = null;
+
+        for (String part : CommandLexer.splitAtTags(args.trim(), VIEW_TAGS)) {
+            String p = part.trim();
+            if (p.isEmpty()) {
+                continue;
+            }
+            if (p.startsWith("status/") && status == null) {
+                String value = valueAfterTag(p, "status/");
+                if (!Status.isValid(value)) {
+                    throw InternityException.invalidStatus(value);
+                }
+                status = Status.canonical(value);
+            } else if (p.startsWith(COMPANY_TAG) && company == null) {
+                company = requireFilterValue(valueAfterTag(p, COMPANY_TAG), "Company");
+            } else if (p.startsWith(ROLE_TAG) && role == null) {
+                role = requireFilterValue(valueAfterTag(p, ROLE_TAG), "Role");
+            } else if (p.startsWith("minpay/") && minPay == null) {
+                minPay = parsePayBound(valueAfterTag(p, "minpay/"));
+            } else if (p.startsWith("maxpay/") && maxPay == null) {
+                maxPay = parsePayBound(valueAfterTag(p, "maxpay/"));
+            } else if (p.startsWith(SORT_TAG) && order == null) {
+                order = parseSortOrder(valueAfterTag(p, SORT_TAG));
+            } else {
+                throw InternityException.invalidViewCommand();
+            }
+        }
+        return new ViewFilter(status, company, role, minPay, maxPay,
+                order == null ? ListCommand.OrderType.DEFAULT : order);
+    }
+
+    private static boolean isViewName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean isNameChar = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_' || c == '-';
+            if (!isNameChar) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String requireFilterValue(String value, String field) throws InternityException {
+        if (value.isEmpty()) {
+            throw InternityException.emptyField(field);
+        }
+        return value;
+    }
+
+    private static int parsePayBound(String value) throws InternityException {
+        try {
+            int pay = Integer.parseInt(value);
+            if (pay < 0) {
+                throw InternityException.invalidPayFormat();
+            }
+            return pay;
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidPayFormat();
+        }
+    }
+
+    private static ListCommand.OrderType parseSortOrder(String value) throws InternityException {
+        if (value.equals("asc")) {
+            return ListCommand.OrderType.ASCENDING;
+        }
+        if (value.equals("desc")) {
+            return ListCommand.OrderType.DESCENDING;
+        }
+        throw InternityException.invalidViewCommand();
+    }
+
+    /**
+     * Splits a trailing {@code format/FORMAT} field off the arguments. Only the last such field is
+     * taken, and it must come after every other argument.
+     *
+     * @param args the arguments, which must not be {@code null}
+     * @return an array of the arguments before the field, with trailing whitespace removed, and the
+     *         value of the field, or of the unchanged arguments and {@code null} if there is no field
+     */
+    private static String[] splitFormat(String args) {
+        String trimmed = args.trim();
+        List<String> parts = CommandLexer.splitAtTags(trimmed, FORMAT_TAG);
+        String field = parts.get(parts.size() - 1);
+        if (!field.startsWith(FORMAT_TAG)) {
+            return new String[] {args, null};
+        }
+        String rest = trimmed.substring(0, trimmed.length() - field.length());
+        return new String[] {rest.trim(), valueAfterTag(field, FORMAT_TAG)};
+    }
+
+    private static OutputFormat parseOutputFormat(String value) throws InternityException {
+        if (value == null) {
+            return OutputFormat.TABLE;
+        }
+        OutputFormat format = OutputFormat.fromName(value);
+        if (format == null) {
+            throw InternityException.invalidOutputFormat();
+        }
+        return format;
+    }
+
+    private static List<String> parseSearchTerms(String args, String tag) throws InternityException {
+        List<String> terms = Tokenizer.tokenize(args.substring(tag.length()));
+        if (terms.isEmpty()) {
+            logger.severe("Find with " + tag + " has no search terms.");
+            throw InternityException.invalidFindCommand();
         }
+        return terms;
     }
 
     private static String requireArgs(String args) throws InternityException {
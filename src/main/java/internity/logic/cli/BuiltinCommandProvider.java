@@ -0,0 +1,37 @@
+package internity.logic.cli;
+
+import internity.logic.commands.CompaniesCommand;
+import internity.logic.commands.DedupCommand;
+import internity.logic.commands.ExitCommand;
+import internity.logic.commands.HelpCommand;
+import internity.logic.commands.StatsCommand;
+
+/**
+ * Registers the commands that come with Internity, with their aliases.
+ *
+ * <p>
+ * Commands that take arguments are parsed by {@link ArgumentParser}. The {@code companies},
+ * {@code stats}, {@code dedup}, {@code help} and {@code exit} commands ignore their arguments.
+ * </p>
+ */
+public class BuiltinCommandProvider implements CommandProvider {
+    @Override
+    public void registerCommands(CommandRegistry registry) {
+        registry.register("add", ArgumentParser::parseAddCommandArgs);
+        registry.register("delete", ArgumentParser::parseDeleteCommandArgs, "rm");
+        registry.register("find", ArgumentParser::parseFindCommandArgs);
+        registry.register("update", ArgumentParser::parseUpdateCommandArgs);
+        registry.register("list", ArgumentParser::parseListCommandArgs, "ls");
+        registry.register("username", ArgumentParser::parseUsernameCommandArgs);
+        registry.register("complete", ArgumentParser::parseCompleteCommandArgs);
+        registry.register("due", ArgumentParser::parseDueCommandArgs);
+        registry.register("next", ArgumentParser::parseNextCommandArgs);
+        registry.register("view", ArgumentParser::parseViewCommandArgs);
+        registry.register("dashboard", ArgumentParser::parseDashboardCommandArgs);
+        registry.register("companies", args -> new CompaniesCommand());
+        registry.register("stats", args -> new StatsCommand());
+        registry.register("dedup", args -> new DedupCommand());
+        registry.register("help", args -> new HelpCommand());
+        registry.register("exit", args -> new ExitCommand(), "quit");
+    }
+}
@@ -0,0 +1,25 @@
+package internity.logic.cli;
+
+import internity.core.InternityException;
+import internity.logic.commands.Command;
+
+/**
+ * Turns the arguments of one command word into the {@link Command} that handles them.
+ *
+ * <p>
+ * Each command word in a {@link CommandRegistry} is paired with one parser. Most parsers are
+ * static methods of {@link ArgumentParser}; commands that ignore their arguments simply construct
+ * the command.
+ * </p>
+ */
+@FunctionalInterface
+public interface CommandArgsParser {
+    /**
+     * Parses the arguments that follow the command word.
+     *
+     * @param args the arguments, which may be empty
+     * @return the command to execute
+     * @throws InternityException if the arguments are missing or invalid
+     */
+    Command parse(String args) throws InternityException;
+}
@@ -0,0 +1,208 @@
+package internity.logic.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import internity.core.InternityException;
+
+/**
+ * A hand-written lexer for user input, used by {@link CommandParser} and {@link ArgumentParser}
+ * in place of regular expressions.
+ *
+ * <p>
+ * {@link #splitCommand(String)} checks that the input is printable ASCII, finds the command word and
+ * returns the rest as arguments in a single pass. {@link #splitAtTags(String, String...)} cuts the
+ * arguments into tagged fields such as {@code company/...} or {@code sort/...}, also in a single pass,
+ * and {@link #splitFields(String, String...)} does the same while keeping where each field starts, so
+ * that errors can report the column of the field at fault.
+ * No pattern is compiled and no character is visited more than a constant number of times, so parsing
+ * takes linear time in the length of the input, however it is crafted.
+ * </p>
+ *
+ * <p>
+ * The results are the same as those of the regular expressions they replace: a command word ends at
+ * the first run of spaces ({@code \s+}), and a tagged field ends at the run of spaces before the next
+ * tag ({@code \s+(?=company/|role/|...)}). Spaces are the only whitespace left to match, since
+ * {@link #splitCommand(String)} rejects every other character below {@code ' '}.
+ * </p>
+ */
+public final class CommandLexer {
+    private static final char FIRST_PRINTABLE = 32;
+    private static final char LAST_PRINTABLE = 126;
+
+    /**
+     * Private constructor to prevent instantiation of the CommandLexer class.
+     */
+    private CommandLexer() {
+    }
+
+    /**
+     * Checks that the input is printable ASCII and splits it into its lowercased command word and
+     * its arguments, with the whitespace between them removed.
+     *
+     * @param input the raw user input, which must not be blank
+     * @return an array of the command word and the arguments, which may be empty
+     * @throws InternityException if the input contains a character that is not printable ASCII,
+     *                            reporting its column, counted from 1
+     */
+    public static String[] splitCommand(String input) throws InternityException {
+        int length = input.length();
+        int wordStart = -1;
+        int wordEnd = -1;
+        int argsStart = -1;
+        int argsEnd = -1;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < FIRST_PRINTABLE || c > LAST_PRINTABLE) {
+                throw InternityException.invalidCharacter(c, i + 1);
+            }
+            if (isWhitespace(c)) {
+                if (wordStart >= 0 && wordEnd < 0) {
+                    wordEnd = i;
+                }
+                continue;
+            }
+            if (wordStart < 0) {
+                wordStart = i;
+            } else if (wordEnd >= 0 && argsStart < 0) {
+                argsStart = i;
+            }
+            argsEnd = i + 1;
+        }
+
+        assert wordStart >= 0 : "Input should not be blank";
+        String commandWord = input.substring(wordStart, wordEnd < 0 ? length : wordEnd).toLowerCase();
+        String args = argsStart < 0 ? "" : input.substring(argsStart, argsEnd);
+        return new String[] {commandWord, args};
+    }
+
+    /**
+     * Cuts the arguments at every run of whitespace that is followed by one of the tags. Each part
+     * starts with the tag that follows the cut, except the first, which is everything before the
+     * first cut and is empty if the arguments start with whitespace and a tag.
+     *
+     * @param args the arguments to cut
+     * @param tags the tags that start a new part, such as {@code "company/"}
+     * @return the parts, in order
+     */
+    public static List<String> splitAtTags(String args, String... tags) {
+        List<Field> fields = splitFields(args, tags);
+        List<String> parts = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            parts.add(field.getText());
+        }
+        return parts;
+    }
+
+    /**
+     * Cuts the arguments as {@link #splitAtTags(String, String...)} does, keeping the column at which
+     * each part starts.
+     *
+     * @param args the arguments to cut
+     * @param tags the tags that start a new part, such as {@code "company/"}
+     * @return the parts, in order
+     */
+    public static List<Field> splitFields(String args, String... tags) {
+        List<Field> fields = new ArrayList<>();
+        int length = args.length();
+        int partStart = 0;
+        int i = 0;
+        while (i < length) {
+            if (!isWhitespace(args.charAt(i))) {
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < length && isWhitespace(args.charAt(i))) {
+                i++;
+            }
+            if (startsWithTag(args, i, tags)) {
+                fields.add(new Field(args.substring(partStart, runStart), partStart + 1));
+                partStart = i;
+            }
+        }
+        fields.add(new Field(args.substring(partStart), partStart + 1));
+        return fields;
+    }
+
+    /**
+     * Splits text at its first run of whitespace, after removing leading and trailing whitespace.
+     *
+     * @param text the text to split
+     * @return an array of the first word alone if there is no whitespace within the text, or of the
+     *         first word and the rest of the text otherwise
+     */
+    public static String[] splitFirstWord(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        int wordEnd = start;
+        while (wordEnd < end && !isWhitespace(text.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        if (wordEnd == end) {
+            return new String[] {text.substring(start, end)};
+        }
+        int restStart = wordEnd;
+        while (isWhitespace(text.charAt(restStart))) {
+            restStart++;
+        }
+        return new String[] {text.substring(start, wordEnd), text.substring(restStart, end)};
+    }
+
+    /**
+     * Returns whether the character separates words. This is only the space, as
+     * {@link #splitCommand(String)} rejects the other whitespace characters.
+     *
+     * @param c the character to check
+     * @return {@code true} for a space
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ';
+    }
+
+    private static boolean startsWithTag(String args, int offset, String... tags) {
+        for (String tag : tags) {
+            if (args.startsWith(tag, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A part of the arguments cut by {@link #splitFields(String, String...)}.
+     */
+    public static final class Field {
+        private final String text;
+        private final int column;
+
+        private Field(String text, int column) {
+            this.text = text;
+            this.column = column;
+        }
+
+        /**
+         * Returns the text of the part, including its tag.
+         *
+         * @return the text of the part
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Returns the position of the start of the part within the arguments, counted from 1.
+         *
+         * @return the column of the part
+         */
+        public int getColumn() {
+            return column;
+        }
+    }
+}
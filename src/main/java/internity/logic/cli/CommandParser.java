@@ -24,36 +24,42 @@ public class CommandParser {
         logger.setLevel(Level.WARNING);
     }
 
+    private final CommandFactory commandFactory = new CommandFactory();
+
     /**
      * Parses the given input string and returns the corresponding {@link Command}. <br>
-     * The first token (before the first space) is treated as the command keyword.
+     * The first token (before the first space) is treated as the command keyword. The input is
+     * checked and split by {@link CommandLexer} in a single pass.
      *
      * @param input raw user input
      * @return a {@link Command} corresponding to the input
-     * @throws InternityException if input is null or blank or unknown command is entered
+     * @throws InternityException if input is null or blank, contains a character that is not printable
+     *                            ASCII, or unknown command is entered
      */
     public Command parseInput(String input) throws InternityException {
         if (input == null || input.isBlank()) {
             throw InternityException.invalidInput();
         }
 
-        validateValidAscii(input);
-
-        assert !input.isBlank() : "Input should not be blank after validation";
-
-        String[] parts = input.trim().split("\\s+", 2);
-        assert parts.length >= 1 : "Splitting input should result in at least one part";
+        String[] parts = CommandLexer.splitCommand(input);
+        assert parts.length == 2 : "Lexing input should result in a command word and arguments";
 
-        String commandWord = parts[0].toLowerCase();
-        String args = parts.length > 1 ? parts[1] : "";
+        String commandWord = parts[0];
+        String args = parts[1];
 
         logger.fine(() -> "Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
 
         assert !commandWord.isBlank() : "Command keyword must not be blank";
         assert args != null : "Args should never be null (may be empty string)";
 
-        CommandFactory commandFactory = new CommandFactory();
-        Command command = commandFactory.createCommand(commandWord, args);
+        Command command;
+        try {
+            command = commandFactory.createCommand(commandWord, args);
+        } catch (InternityException e) {
+            // args ends at the last character of input that is not a space, so its last occurrence is
+            // where it starts, and columns counted within args are moved to columns of the whole input
+            throw e.shiftColumn(input.lastIndexOf(args));
+        }
 
         logger.fine(() -> "Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
 
@@ -62,27 +68,4 @@ public class CommandParser {
         logger.info(() -> "Successfully created command: " + command.getClass().getSimpleName());
         return command;
     }
-
-    /**
-     * Validates that the given input string contains only printable ASCII characters.
-     *
-     * <p>This method checks each character in the input string to ensure that:
-     * <ul>
-     *     <li>All characters are printable ASCII characters, including uppercase and lowercase letters,
-     *         digits, and symbols.</li>
-     *     <li>Printable ASCII characters have values ranging from 32 (space) to 126 (tilde ~).</li>
-     * </ul>
-     * </p>
-     *
-     * @param input the string to validate
-     * @throws InternityException if the input contains non-printable ASCII characters
-     */
-    public void validateValidAscii(String input) throws InternityException {
-        for (char c : input.toCharArray()) {
-            if (c < 32 || c > 126) { // non-printable ASCII or Unicode
-                logger.warning("Input contains invalid character: " + c);
-                throw InternityException.invalidCharacter(c);
-            }
-        }
-    }
 }
@@ -0,0 +1,20 @@
+package internity.logic.cli;
+
+/**
+ * A source of commands for the {@link CommandRegistry}.
+ *
+ * <p>
+ * The built-in commands come from {@link BuiltinCommandProvider}. Extra commands can be added without
+ * editing Internity by implementing this interface and listing the implementation in a
+ * {@code META-INF/services/internity.logic.cli.CommandProvider} file on the class path, from where it
+ * is found by {@link java.util.ServiceLoader} when the registry is first used.
+ * </p>
+ */
+public interface CommandProvider {
+    /**
+     * Registers the commands of this provider.
+     *
+     * @param registry the registry to add the commands to
+     */
+    void registerCommands(CommandRegistry registry);
+}
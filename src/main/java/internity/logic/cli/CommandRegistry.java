@@ -0,0 +1,152 @@
+package internity.logic.cli;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.logic.commands.Command;
+
+/**
+ * A table of command words, each paired with the {@link CommandArgsParser} that turns its arguments
+ * into a {@link Command}.
+ *
+ * <p>
+ * A command is registered under its name and any number of aliases. It can also be typed as any
+ * abbreviation of its name of at least {@value #MIN_ABBREVIATION_LENGTH} characters that no other
+ * command name starts with, such as {@code dash} for {@code dashboard}. Names and aliases always win
+ * over abbreviations.
+ * </p>
+ *
+ * <p>
+ * Every word that resolves to a command, including every unambiguous abbreviation, is precomputed
+ * into one hash map whenever a command is registered, so looking up a word is a single map access
+ * that allocates nothing. Commands are registered once, when {@link #getDefault()} is first called:
+ * the built-in commands of {@link BuiltinCommandProvider}, then those of every {@link CommandProvider}
+ * found by {@link ServiceLoader}.
+ * </p>
+ */
+public class CommandRegistry {
+    /** The fewest characters of a command name that are accepted as an abbreviation. */
+    public static final int MIN_ABBREVIATION_LENGTH = 2;
+
+    private static final Logger logger = Logger.getLogger(CommandRegistry.class.getName());
+    private static CommandRegistry defaultRegistry;
+
+    private final Map<String, CommandArgsParser> commands = new LinkedHashMap<>();
+    private final Map<String, CommandArgsParser> aliases = new HashMap<>();
+    private Map<String, CommandArgsParser> lookup = new HashMap<>();
+
+    /**
+     * Returns the registry of the built-in commands and the commands of every {@link CommandProvider}
+     * on the class path, creating it on first use.
+     *
+     * @return the default registry
+     */
+    public static synchronized CommandRegistry getDefault() {
+        if (defaultRegistry == null) {
+            CommandRegistry registry = new CommandRegistry();
+            new BuiltinCommandProvider().registerCommands(registry);
+            for (CommandProvider provider : ServiceLoader.load(CommandProvider.class)) {
+                logger.info("Registering commands from " + provider.getClass().getName());
+                provider.registerCommands(registry);
+            }
+            defaultRegistry = registry;
+        }
+        return defaultRegistry;
+    }
+
+    /**
+     * Registers a command under its name and aliases.
+     *
+     * @param name    the command word, in lowercase
+     * @param parser  the parser of the arguments of the command
+     * @param aliases other words for the command, in lowercase
+     * @throws IllegalArgumentException if the name or an alias is already registered
+     */
+    public void register(String name, CommandArgsParser parser, String... aliases) {
+        assert parser != null : "Parser cannot be null";
+        requireUnused(name);
+        for (String alias : aliases) {
+            requireUnused(alias);
+        }
+
+        commands.put(name, parser);
+        for (String alias : aliases) {
+            this.aliases.put(alias, parser);
+        }
+        lookup = buildLookup();
+    }
+
+    /**
+     * Returns the parser of the command that a word stands for, whether a name, an alias or an
+     * unambiguous abbreviation.
+     *
+     * @param word the command word as typed, in lowercase
+     * @return the parser of the command, or {@code null} if the word stands for no command
+     */
+    public CommandArgsParser lookup(String word) {
+        return lookup.get(word);
+    }
+
+    /**
+     * Parses the arguments of the command that a word stands for.
+     *
+     * @param word the command word as typed, in lowercase
+     * @param args the arguments of the command
+     * @return the command to execute
+     * @throws InternityException if the word stands for no command, or the arguments are invalid
+     */
+    public Command parse(String word, String args) throws InternityException {
+        CommandArgsParser parser = lookup.get(word);
+        if (parser == null) {
+            throw InternityException.unknownCommand(word);
+        }
+        return parser.parse(args);
+    }
+
+    /**
+     * Returns the names of the registered commands, in order of registration.
+     *
+     * @return an unmodifiable view of the command names
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(commands.keySet());
+    }
+
+    private void requireUnused(String word) {
+        if (commands.containsKey(word) || aliases.containsKey(word)) {
+            throw new IllegalArgumentException("Command word already registered: " + word);
+        }
+    }
+
+    /**
+     * Maps every name, alias and abbreviation shared by exactly one command name to its parser.
+     */
+    private Map<String, CommandArgsParser> buildLookup() {
+        Map<String, Integer> prefixCounts = new HashMap<>();
+        for (String name : commands.keySet()) {
+            for (int length = MIN_ABBREVIATION_LENGTH; length < name.length(); length++) {
+                prefixCounts.merge(name.substring(0, length), 1, Integer::sum);
+            }
+        }
+
+        Map<String, CommandArgsParser> words = new HashMap<>();
+        for (Map.Entry<String, CommandArgsParser> command : commands.entrySet()) {
+            String name = command.getKey();
+            for (int length = MIN_ABBREVIATION_LENGTH; length < name.length(); length++) {
+                String prefix = name.substring(0, length);
+                if (prefixCounts.get(prefix) == 1) {
+                    words.put(prefix, command.getValue());
+                }
+            }
+        }
+        words.putAll(aliases);
+        words.putAll(commands);
+        return words;
+    }
+}
@@ -52,19 +52,29 @@ public class AddCommand extends Command {
      * Executes the add command by creating a new {@link Internship} object and
      * adding it to the global static {@link InternshipList}.
      * <p>
-     * Once added, the {@link Ui} class is used to show a confirmation message.
+     * Once added, the {@link Ui} class provides the confirmation message.
      * </p>
      *
-     * @throws InternityException if an error occurs.
+     * <p>
+     * An internship with the same company, role and deadline as an existing one is rejected.
+     * </p>
+     *
+     * @return the confirmation message
+     * @throws InternityException if the internship is a duplicate or another error occurs.
      */
     @Override
-    public void execute() throws InternityException {
+    public CommandResult run() throws InternityException {
         logger.info("Executing add command");
+        int duplicateIndex = InternshipList.indexOfDuplicate(company, role, deadline);
+        if (duplicateIndex >= 0) {
+            logger.warning("Rejected duplicate internship.");
+            throw InternityException.duplicateInternship(duplicateIndex + 1);
+        }
         Internship internship = new Internship(company, role, deadline, pay);
         InternshipList.add(internship);
         String internshipInfo = internship.toString();
-        Ui.printAddInternship(internshipInfo, InternshipList.size());
         logger.info("Add command executed successfully.");
+        return CommandResult.message(Ui.formatAddInternship(internshipInfo, InternshipList.size()));
     }
 
     /**
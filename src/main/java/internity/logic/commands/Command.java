@@ -1,6 +1,7 @@
 package internity.logic.commands;
 
 import internity.core.InternityException;
+import internity.ui.ResultRenderer;
 
 /**
  * Represents an abstract command in the system. <br>
@@ -9,19 +10,35 @@ import internity.core.InternityException;
  *
  * <p>Subclasses must implement:
  * <ul>
- *     <li>{@link #execute()} - performs the action defined by the command</li>
+ *     <li>{@link #run()} - performs the action defined by the command and returns its outcome</li>
  *     <li>{@link #isExit()} - indicates whether the command ends the program</li>
  * </ul>
  * </p>
  *
+ * <p>Commands do not print anything themselves. {@link #execute()} runs the command and prints its
+ * {@link CommandResult} through the {@link ResultRenderer}, while other callers such as the
+ * {@link ResultCache} can use the result directly.</p>
+ *
  * <p>This design follows the <b>Command Pattern</b>,
  * allowing user inputs to be decoupled from their execution logic.</p>
  */
 public abstract class Command {
     /**
-     * Executes the action associated with this command.
+     * Performs the action associated with this command.
+     *
+     * @return the outcome of the command, to be displayed to the user
+     * @throws InternityException if the command cannot be performed
+     */
+    public abstract CommandResult run() throws InternityException;
+
+    /**
+     * Performs the action associated with this command and prints its outcome.
+     *
+     * @throws InternityException if the command cannot be performed
      */
-    public abstract void execute() throws InternityException;
+    public void execute() throws InternityException {
+        ResultRenderer.print(run());
+    }
 
     /**
      * Determines whether this command signals program termination.
@@ -29,4 +46,18 @@ public abstract class Command {
      * @return {@code true} if the command exits the program, {@code false} otherwise
      */
     public abstract boolean isExit();
+
+    /**
+     * Returns a key identifying the output of this command, for commands that only read the
+     * internship list and always print the same output for the same list.
+     * <p>
+     * Commands with a key are executed through the {@link ResultCache}. Two commands must have the
+     * same key only if they print the same output when executed against the same list.
+     * </p>
+     *
+     * @return the cache key, or {@code null} if the output of this command must not be cached
+     */
+    public String cacheKey() {
+        return null;
+    }
 }
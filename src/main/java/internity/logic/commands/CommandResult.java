@@ -0,0 +1,174 @@
+package internity.logic.commands;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import internity.core.Internship;
+
+/**
+ * The outcome of running a {@link Command}, kept apart from how it is displayed.
+ *
+ * <p>
+ * A result is either a list of message lines, such as a confirmation, or a table of internships under
+ * a title. Table rows keep the internships themselves, with the index to display for each, so the
+ * same result can be rendered as the table printed by {@link internity.ui.ResultRenderer}, as JSON,
+ * or into a cached buffer, without running the command again.
+ * </p>
+ */
+public final class CommandResult {
+    private final List<String> messages;
+    private final String title;
+    private final List<Row> rows;
+
+    private CommandResult(List<String> messages, String title, List<Row> rows) {
+        this.messages = messages;
+        this.title = title;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns a result made of message lines.
+     *
+     * @param lines the lines to display, in order
+     * @return the result
+     */
+    public static CommandResult message(List<String> lines) {
+        return new CommandResult(Collections.unmodifiableList(lines), null, Collections.emptyList());
+    }
+
+    /**
+     * Returns a result made of message lines.
+     *
+     * @param lines the lines to display, in order
+     * @return the result
+     */
+    public static CommandResult message(String... lines) {
+        return message(Arrays.asList(lines));
+    }
+
+    /**
+     * Returns a result made of a table of internships.
+     *
+     * @param title the line displayed above the table
+     * @param rows  the rows of the table, in display order
+     * @return the result
+     */
+    public static CommandResult table(String title, List<Row> rows) {
+        assert title != null : "Table title cannot be null";
+        return new CommandResult(Collections.emptyList(), title, Collections.unmodifiableList(rows));
+    }
+
+    /**
+     * Returns table rows for the internships of a list, numbered by their position in it.
+     * <p>
+     * The rows are a view rather than a copy: each one is created as it is read, so a long table is
+     * streamed to its renderer without holding a row object per internship. The view must be read
+     * before the underlying list changes.
+     * </p>
+     *
+     * @param internships the internships of the table, in display order
+     * @return the rows
+     */
+    public static List<Row> numberedRows(List<Internship> internships) {
+        return new AbstractList<>() {
+            @Override
+            public Row get(int position) {
+                return new Row(position, internships.get(position));
+            }
+
+            @Override
+            public int size() {
+                return internships.size();
+            }
+        };
+    }
+
+    /**
+     * Returns table rows for some internships of a list, each numbered by its index in that list.
+     * <p>
+     * Like {@link #numberedRows(List)}, the rows are created as they are read.
+     * </p>
+     *
+     * @param internships the whole list
+     * @param indices     the indices in the list of the internships of the table, in display order
+     * @return the rows
+     */
+    public static List<Row> indexedRows(List<Internship> internships, int[] indices) {
+        return new AbstractList<>() {
+            @Override
+            public Row get(int position) {
+                return new Row(indices[position], internships.get(indices[position]));
+            }
+
+            @Override
+            public int size() {
+                return indices.length;
+            }
+        };
+    }
+
+    /**
+     * Returns whether this result is a table of internships.
+     *
+     * @return {@code true} for a table, {@code false} for message lines
+     */
+    public boolean isTable() {
+        return title != null;
+    }
+
+    /**
+     * Returns the message lines of this result.
+     *
+     * @return the lines, empty for a table
+     */
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Returns the line displayed above the table.
+     *
+     * @return the title, or {@code null} if this result is not a table
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the rows of the table.
+     *
+     * @return the rows in display order, empty if this result is not a table
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * One internship of a table, with the index it is displayed with.
+     */
+    public static final class Row {
+        private final int index;
+        private final Internship internship;
+
+        /**
+         * Creates a row.
+         *
+         * @param index      the zero-based index to display, shown one-based
+         * @param internship the internship of the row
+         */
+        public Row(int index, Internship internship) {
+            this.index = index;
+            this.internship = internship;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Internship getInternship() {
+            return internship;
+        }
+    }
+}
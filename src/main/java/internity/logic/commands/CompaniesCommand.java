@@ -0,0 +1,58 @@
+package internity.logic.commands;
+
+import java.util.logging.Logger;
+
+import internity.core.InternshipList;
+import internity.index.CompanyAggregates;
+import internity.ui.Ui;
+
+/**
+ * Represents the {@code companies} command, which lists every company with its number of
+ * applications, pay statistics and status breakdown.
+ *
+ * <p>
+ * The summary is read from the {@link CompanyAggregates}, so it takes time proportional to the
+ * number of companies rather than the number of internships.
+ * </p>
+ *
+ * <p>Command format: {@code companies}</p>
+ */
+public class CompaniesCommand extends Command {
+    private static final Logger logger = Logger.getLogger(CompaniesCommand.class.getName());
+
+    /**
+     * Executes the companies command by summarising every company.
+     *
+     * @return the table of company summaries, or a message if the list is empty
+     */
+    @Override
+    public CommandResult run() {
+        logger.info("Executing companies command");
+        CompanyAggregates aggregates = InternshipList.getCompanyAggregates();
+        if (aggregates.size() == 0) {
+            return CommandResult.message(Ui.formatInternshipListEmpty());
+        }
+        logger.info("Companies command executed successfully.");
+        return CommandResult.message(Ui.formatCompanySummaries(aggregates.summaries()));
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns a constant key, since the summary only depends on the list.
+     *
+     * @return the cache key of the summary
+     */
+    @Override
+    public String cacheKey() {
+        return "companies";
+    }
+}
@@ -0,0 +1,86 @@
+package internity.logic.commands;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import internity.core.InternshipList;
+import internity.index.CompletionIndex;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that lists the existing company or role names starting with a prefix,
+ * most common first.
+ *
+ * <p>
+ * The command parses a user input string in the following format:
+ * <pre>
+ *     complete PREFIX
+ *     complete company/PREFIX
+ *     complete role/PREFIX
+ * </pre>
+ * Without a field tag, both company and role names are completed.
+ * </p>
+ */
+public class CompleteCommand extends Command {
+    /** The maximum number of completions listed per field. */
+    public static final int DEFAULT_LIMIT = 5;
+
+    private static final Logger logger = Logger.getLogger(CompleteCommand.class.getName());
+
+    private final CompletionIndex.Field field;
+    private final String prefix;
+
+    /**
+     * Constructs a {@code CompleteCommand} for the given field and prefix.
+     *
+     * @param field  the field to complete, or {@code null} to complete both company and role
+     * @param prefix the partially typed name, which may be empty
+     */
+    public CompleteCommand(CompletionIndex.Field field, String prefix) {
+        assert prefix != null : "Prefix cannot be null";
+        this.field = field;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Executes the complete command by looking up the prefix in the {@link CompletionIndex}
+     * and listing the matching names with the number of internships using each.
+     *
+     * @return the completed names of each requested field
+     */
+    @Override
+    public CommandResult run() {
+        logger.info("Executing complete command");
+        List<String> lines = new ArrayList<>();
+        if (field == null || field == CompletionIndex.Field.COMPANY) {
+            lines.addAll(Ui.formatCompletions("Companies", prefix, completions(CompletionIndex.Field.COMPANY)));
+        }
+        if (field == null || field == CompletionIndex.Field.ROLE) {
+            lines.addAll(Ui.formatCompletions("Roles", prefix, completions(CompletionIndex.Field.ROLE)));
+        }
+        logger.info("Complete command executed successfully.");
+        return CommandResult.message(lines);
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    private Map<String, Integer> completions(CompletionIndex.Field completedField) {
+        CompletionIndex index = InternshipList.getCompletionIndex();
+        Map<String, Integer> completions = new LinkedHashMap<>();
+        for (String name : index.complete(completedField, prefix, DEFAULT_LIMIT)) {
+            completions.put(name, index.frequency(completedField, name));
+        }
+        return completions;
+    }
+}
@@ -1,5 +1,6 @@
 package internity.logic.commands;
 
+import internity.core.Date;
 import internity.core.InternityException;
 import internity.ui.DashboardUi;
 
@@ -11,18 +12,42 @@ import internity.ui.DashboardUi;
  * and a breakdown of internships by status.
  * </p>
  *
- * <p>Command format: {@code dashboard}</p>
+ * <p>Command format: {@code dashboard [format/json]}</p>
  *
+ * <p>With {@code format/json}, the dashboard is printed as a single-line JSON summary instead, see
+ * {@link DashboardUi#formatDashboardJson()}.</p>
  */
 public class DashboardCommand extends Command {
+    private final OutputFormat format;
+
+    /**
+     * Constructs a {@code DashboardCommand} that prints the dashboard for people.
+     */
+    public DashboardCommand() {
+        this(OutputFormat.TABLE);
+    }
+
+    /**
+     * Constructs a {@code DashboardCommand} that prints the dashboard in the given format.
+     *
+     * @param format the format of the dashboard
+     */
+    public DashboardCommand(OutputFormat format) {
+        this.format = format;
+    }
+
     /**
-     * Executes the dashboard command by printing the dashboard UI.
+     * Executes the dashboard command by building the dashboard UI.
      *
+     * @return the lines of the dashboard, or its JSON summary as a single line
      * @throws InternityException if an error occurs while accessing internship data
      */
     @Override
-    public void execute() throws InternityException {
-        DashboardUi.printDashboard();
+    public CommandResult run() throws InternityException {
+        if (format == OutputFormat.JSON) {
+            return CommandResult.message(DashboardUi.formatDashboardJson());
+        }
+        return CommandResult.message(DashboardUi.formatDashboard());
     }
 
     /**
@@ -34,4 +59,14 @@ public class DashboardCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns a key made of the format and today's date, since the nearest deadline shown depends on it.
+     *
+     * @return the cache key of the dashboard
+     */
+    @Override
+    public String cacheKey() {
+        return "dashboard " + format + " " + Date.getToday();
+    }
 }
@@ -0,0 +1,43 @@
+package internity.logic.commands;
+
+import java.util.logging.Logger;
+
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents the {@code dedup} command, which removes duplicate internship applications.
+ * <p>
+ * Two applications are duplicates if they have the same company, role and deadline, ignoring case
+ * and extra whitespace. The first application of each group is kept and the rest are removed.
+ * </p>
+ *
+ * <p>Command format: {@code dedup}</p>
+ */
+public class DedupCommand extends Command {
+    private static final Logger logger = Logger.getLogger(DedupCommand.class.getName());
+
+    /**
+     * Executes the dedup command by compacting the {@link InternshipList} and reporting how many
+     * applications were removed.
+     *
+     * @return the number of applications removed and left
+     */
+    @Override
+    public CommandResult run() {
+        logger.info("Executing dedup command");
+        int removedCount = InternshipList.removeDuplicates();
+        logger.info("Dedup command executed successfully.");
+        return CommandResult.message(Ui.formatRemoveDuplicates(removedCount, InternshipList.size()));
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
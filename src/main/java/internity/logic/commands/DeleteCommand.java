@@ -26,12 +26,13 @@ public class DeleteCommand extends Command {
 
     /**
      * Executes the delete command by removing the internship at the specified index.
-     * Displays the deleted internship information and the updated total count.
+     * Reports the deleted internship information and the updated total count.
      *
+     * @return the confirmation message
      * @throws InternityException If the index is out of bounds or deletion fails.
      */
     @Override
-    public void execute() throws InternityException {
+    public CommandResult run() throws InternityException {
         logger.info("Executing delete command for index: " + index);
 
         // Get the internship before deleting to display its info
@@ -48,9 +49,8 @@ public class DeleteCommand extends Command {
         int totalItems = InternshipList.size();
         assert totalItems >= 0 : "Size cannot be negative after deletion";
 
-        // Print the removal message
-        Ui.printRemoveInternship(internshipInfo, totalItems);
         logger.info("Delete command executed successfully. Remaining items: " + totalItems);
+        return CommandResult.message(Ui.formatRemoveInternship(internshipInfo, totalItems));
     }
 
     /**
@@ -0,0 +1,102 @@
+package internity.logic.commands;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.DeadlineIndex;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that lists the internships due within the coming week or month,
+ * nearest deadline first.
+ *
+ * <p>
+ * The command parses a user input string in the following format:
+ * <pre>
+ *     due week/
+ *     due month/
+ * </pre>
+ * {@code week/} covers today and the following six days, and {@code month/} covers today up to the
+ * day before the same date next month. The internships are looked up in the {@link DeadlineIndex}.
+ * </p>
+ */
+public class DueCommand extends Command {
+    /**
+     * The periods over which upcoming deadlines can be listed.
+     */
+    public enum Horizon {
+        /** Today and the following six days. */
+        WEEK("in the next 7 days"),
+        /** Today up to the day before the same date next month. */
+        MONTH("within the next month");
+
+        private final String description;
+
+        Horizon(String description) {
+            this.description = description;
+        }
+    }
+
+    private static final Logger logger = Logger.getLogger(DueCommand.class.getName());
+
+    private final Horizon horizon;
+
+    /**
+     * Constructs a {@code DueCommand} for the given period.
+     *
+     * @param horizon the period over which deadlines are listed
+     */
+    public DueCommand(Horizon horizon) {
+        assert horizon != null : "Horizon cannot be null";
+        this.horizon = horizon;
+    }
+
+    /**
+     * Executes the due command by collecting the internships due within the period, with their
+     * indices in the list.
+     *
+     * @return the table of internships due, or a message if there are none
+     */
+    @Override
+    public CommandResult run() {
+        logger.info("Executing due command");
+        LocalDate today = LocalDate.ofEpochDay(Date.getToday().toEpochDay());
+        LocalDate end = horizon == Horizon.WEEK ? today.plusWeeks(1) : today.plusMonths(1);
+        List<Internship> due = InternshipList.getDeadlineIndex().dueBetween(today.toEpochDay(), end.toEpochDay());
+
+        if (due.isEmpty()) {
+            return CommandResult.message(Ui.formatNoInternshipDue(horizon.description));
+        }
+        List<CommandResult.Row> rows = new ArrayList<>(due.size());
+        for (Internship internship : due) {
+            rows.add(new CommandResult.Row(InternshipList.indexOf(internship), internship));
+        }
+        logger.info("Due command executed successfully.");
+        return CommandResult.table("These internships are due " + horizon.description + ":", rows);
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns a key made of the period and today's date, since the period starts today.
+     *
+     * @return the cache key of this listing
+     */
+    @Override
+    public String cacheKey() {
+        return "due " + horizon + " " + Date.getToday();
+    }
+}
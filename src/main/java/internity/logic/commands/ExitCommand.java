@@ -15,12 +15,14 @@ public class ExitCommand extends Command {
     /**
      * Executes the {@code exit} command.
      * <p>
-     * Prints an exit message.
+     * Returns the exit message.
      * </p>
+     *
+     * @return the exit message
      */
     @Override
-    public void execute() {
-        Ui.printExit();
+    public CommandResult run() {
+        return CommandResult.message(Ui.formatExit());
     }
 
     /**
@@ -1,9 +1,11 @@
 package internity.logic.commands;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import internity.core.InternityException;
 import internity.core.InternshipList;
+import internity.ui.ResultRenderer;
 
 /**
  * Represents a command that allows the user to find internships with
@@ -20,11 +22,43 @@ import internity.core.InternshipList;
  *     find Software Engineer
  * </pre>
  * </p>
+ *
+ * <p>
+ * Several whole-word terms can also be searched for, with the results ranked by relevance
+ * or by closeness to possibly misspelt terms:
+ * <pre>
+ *     find all/TERM [MORE_TERMS]...     (every term must match)
+ *     find any/TERM [MORE_TERMS]...     (at least one term must match)
+ *     find fuzzy/TERM [MORE_TERMS]...   (every term must match, allowing typos)
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Any of these can end with {@code format/json} to print the matches as JSON Lines, see
+ * {@link OutputFormat#JSON}.
+ * </p>
  */
 public class FindCommand extends Command {
+    /**
+     * The ways in which a find command can match internships.
+     */
+    public enum SearchType {
+        /** The keyword occurs anywhere in the company or role. */
+        KEYWORD,
+        /** Every term occurs as a whole word, ranked by relevance. */
+        ALL_TERMS,
+        /** At least one term occurs as a whole word, ranked by relevance. */
+        ANY_TERM,
+        /** Every term is within a few edits of a word, ranked by closeness. */
+        FUZZY
+    }
+
     private static final Logger logger = Logger.getLogger(FindCommand.class.getName());
 
     private final String keyword;
+    private final List<String> terms;
+    private final SearchType searchType;
+    private final OutputFormat format;
 
     /**
      * Constructs a {@code FindCommand} with the specified keyword to search for internships.
@@ -32,7 +66,47 @@ public class FindCommand extends Command {
      * @param keyword the keyword used to search for matching internships.
      */
     public FindCommand(String keyword) {
+        this(keyword, OutputFormat.TABLE);
+    }
+
+    /**
+     * Constructs a {@code FindCommand} with the specified keyword, printing its matches in the given format.
+     *
+     * @param keyword the keyword used to search for matching internships
+     * @param format  the format in which the matches are printed
+     */
+    public FindCommand(String keyword, OutputFormat format) {
         this.keyword = keyword;
+        this.terms = null;
+        this.searchType = SearchType.KEYWORD;
+        this.format = format;
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that searches for the given terms as words.
+     *
+     * @param terms      the terms to search for
+     * @param searchType how the terms are matched, one of {@code ALL_TERMS}, {@code ANY_TERM} or {@code FUZZY}
+     */
+    public FindCommand(List<String> terms, SearchType searchType) {
+        this(terms, searchType, OutputFormat.TABLE);
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that searches for the given terms as words, printing its
+     * matches in the given format.
+     *
+     * @param terms      the terms to search for
+     * @param searchType how the terms are matched, one of {@code ALL_TERMS}, {@code ANY_TERM} or {@code FUZZY}
+     * @param format     the format in which the matches are printed
+     */
+    public FindCommand(List<String> terms, SearchType searchType, OutputFormat format) {
+        assert terms != null && !terms.isEmpty() : "Search terms cannot be empty";
+        assert searchType != SearchType.KEYWORD : "Keyword searches take a single keyword";
+        this.keyword = null;
+        this.terms = terms;
+        this.searchType = searchType;
+        this.format = format;
     }
 
     /**
@@ -43,13 +117,43 @@ public class FindCommand extends Command {
      * the internships based on the given keyword.
      * </p>
      *
+     * @return the table of matching internships, or a message if there are none
      * @throws InternityException if an error occurs while executing the find command.
      */
     @Override
-    public void execute() throws InternityException {
+    public CommandResult run() throws InternityException {
         logger.info("Executing find command");
-        InternshipList.findInternship(keyword);
+        CommandResult result;
+        switch (searchType) {
+        case ALL_TERMS:
+            result = InternshipList.findRanked(terms, true);
+            break;
+        case ANY_TERM:
+            result = InternshipList.findRanked(terms, false);
+            break;
+        case FUZZY:
+            result = InternshipList.findFuzzy(terms);
+            break;
+        default:
+            result = InternshipList.findInternship(keyword);
+            break;
+        }
         logger.info("Find command executed successfully.");
+        return result;
+    }
+
+    /**
+     * Prints the matching internships, as a table or as one JSON object per line.
+     *
+     * @throws InternityException if an error occurs while executing the find command
+     */
+    @Override
+    public void execute() throws InternityException {
+        if (format == OutputFormat.JSON) {
+            ResultRenderer.printJsonLines(run());
+        } else {
+            super.execute();
+        }
     }
 
     /**
@@ -61,4 +165,22 @@ public class FindCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns a key made of the search type and its arguments. Keyword searches ignore case, so the
+     * keyword is lowercased, and search terms are already lowercase.
+     * <p>
+     * Searches printed as JSON are not cached, since their output is streamed rather than held in memory.
+     * </p>
+     *
+     * @return the cache key of this search, or {@code null} for JSON output
+     */
+    @Override
+    public String cacheKey() {
+        if (format == OutputFormat.JSON) {
+            return null;
+        }
+        String arguments = searchType == SearchType.KEYWORD ? keyword.toLowerCase() : String.join(" ", terms);
+        return "find " + searchType + " " + arguments;
+    }
 }
@@ -23,14 +23,16 @@ public class HelpCommand extends Command {
     /**
      * Executes the {@code help} command.
      * <p>
-     * Prints an ordered list of all available commands.
+     * Returns an ordered list of all available commands.
      * </p>
+     *
+     * @return the list of commands
      */
     @Override
-    public void execute() throws InternityException {
+    public CommandResult run() throws InternityException {
         logger.info("Executing help command");
-        Ui.printHelp();
         logger.info("Help command executed successfully.");
+        return CommandResult.message(Ui.formatHelp());
     }
 
     /**
@@ -4,13 +4,14 @@ import java.util.logging.Logger;
 
 import internity.core.InternityException;
 import internity.core.InternshipList;
+import internity.ui.ResultRenderer;
 
 /**
  * Represents a command that lists all internship applications
  * as a formatted table.
  * <br>
  * Command format:
- * {@code list [sort/asc|sort/desc]}
+ * {@code list [sort/asc|sort/desc] [format/json]}
  *
  * Sorting is non-persistent: the underlying list order is not modified.
  */
@@ -23,22 +24,51 @@ public class ListCommand extends Command {
 
     private static final Logger logger = Logger.getLogger(ListCommand.class.getName());
     OrderType order;
+    private final OutputFormat format;
 
     public ListCommand(OrderType o) {
+        this(o, OutputFormat.TABLE);
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that prints the internships in the given order and format.
+     *
+     * @param o      the display order
+     * @param format the format in which the internships are printed
+     */
+    public ListCommand(OrderType o, OutputFormat format) {
         order = o;
+        this.format = format;
     }
 
     /**
      * Executes the {@code list} command.
      * <p>
-     * Prints a formatted table with all internship applications.
+     * Returns a table with all internship applications.
      * </p>
+     *
+     * @return the table of internships, or a message if the list is empty
      */
     @Override
-    public void execute() throws InternityException {
+    public CommandResult run() throws InternityException {
         logger.info("Executing list command");
-        InternshipList.listAll(order);
+        CommandResult result = InternshipList.listAll(order);
         logger.info("List command executed successfully.");
+        return result;
+    }
+
+    /**
+     * Prints the internships, as a table or as one JSON object per line.
+     *
+     * @throws InternityException if an error occurs while listing
+     */
+    @Override
+    public void execute() throws InternityException {
+        if (format == OutputFormat.JSON) {
+            ResultRenderer.printJsonLines(run());
+        } else {
+            super.execute();
+        }
     }
 
     /**
@@ -50,4 +80,18 @@ public class ListCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns a key made of the display order. Listings printed as JSON are not cached, since their
+     * output is streamed rather than held in memory.
+     *
+     * @return the cache key of this listing, or {@code null} for JSON output
+     */
+    @Override
+    public String cacheKey() {
+        if (format == OutputFormat.JSON) {
+            return null;
+        }
+        return "list " + order;
+    }
 }
@@ -0,0 +1,79 @@
+package internity.logic.commands;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.Status;
+import internity.index.StatusDeadlineIndex;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that shows the internship with the given status whose deadline comes next.
+ *
+ * <p>
+ * The command parses a user input string in the following format:
+ * <pre>
+ *     next status/STATUS
+ * </pre>
+ * Only deadlines from today onwards are considered. The internship is found with a single seek in the
+ * {@link StatusDeadlineIndex}.
+ * </p>
+ */
+public class NextCommand extends Command {
+    private static final Logger logger = Logger.getLogger(NextCommand.class.getName());
+
+    private final Status status;
+
+    /**
+     * Constructs a {@code NextCommand} for the given status.
+     *
+     * @param status the status whose next deadline is shown
+     */
+    public NextCommand(Status status) {
+        assert status != null : "Status cannot be null";
+        this.status = status;
+    }
+
+    /**
+     * Executes the next command by finding the internship with the status whose deadline is the
+     * nearest from today, with its index in the list.
+     *
+     * @return a one-row table of the internship, or a message if there is none
+     */
+    @Override
+    public CommandResult run() {
+        logger.info("Executing next command");
+        String statusName = Status.canonical(status.name());
+        Internship next = InternshipList.getStatusDeadlineIndex().next(status, Date.getToday().toEpochDay());
+
+        if (next == null) {
+            return CommandResult.message(Ui.formatNoUpcomingDeadline(statusName));
+        }
+        logger.info("Next command executed successfully.");
+        return CommandResult.table("The next deadline among " + statusName + " internships:",
+                List.of(new CommandResult.Row(InternshipList.indexOf(next), next)));
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns a key made of the status and today's date, since only deadlines from today are considered.
+     *
+     * @return the cache key of this lookup
+     */
+    @Override
+    public String cacheKey() {
+        return "next " + status + " " + Date.getToday();
+    }
+}
@@ -0,0 +1,29 @@
+package internity.logic.commands;
+
+/**
+ * The ways in which the result of a listing command can be printed, chosen with {@code format/FORMAT}.
+ */
+public enum OutputFormat {
+    /** The fixed-width table of {@link internity.ui.Ui}, for people. */
+    TABLE,
+    /**
+     * One JSON object per line, for scripts. Tables are printed one internship per line as they are
+     * read, and the dashboard as a single summary object.
+     */
+    JSON;
+
+    /**
+     * Returns the format with the given name, as written after {@code format/}.
+     *
+     * @param name the name of the format, ignoring case
+     * @return the format, or {@code null} if there is no format of that name
+     */
+    public static OutputFormat fromName(String name) {
+        for (OutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,190 @@
+package internity.logic.commands;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.InternshipList;
+import internity.ui.ResultRenderer;
+
+/**
+ * A bounded least-recently-used cache of the output printed by read-only commands.
+ *
+ * <p>
+ * The output is the {@link CommandResult} of the command as rendered by {@link ResultRenderer}, so
+ * caching needs no capture of standard output. Results that are too long to cache are never rendered
+ * into one string, see {@link ResultRenderer#minimumLength(CommandResult)}.
+ * </p>
+ *
+ * <p>
+ * A command opts in by returning a key from {@link Command#cacheKey()} that identifies its normalized
+ * arguments. Every entry belongs to the mutation version of the {@link InternshipList} it was
+ * computed for, see {@link InternshipList#getVersion()}. Entries of an older version can never be
+ * hit again, so the whole cache is dropped as soon as the version changes, rather than leaving the
+ * stale output to age out.
+ * </p>
+ *
+ * <p>
+ * The capacity defaults to {@value #DEFAULT_CAPACITY} entries and can be changed with the
+ * {@code internity.cache.size} system property. A capacity of {@code 0} disables caching. The
+ * cached text is also limited to {@value #MAX_CHARACTERS} characters in total, and output longer
+ * than {@value #MAX_ENTRY_CHARACTERS} characters, such as the listing of a large list, is printed
+ * without being cached.
+ * </p>
+ */
+public final class ResultCache {
+    /** The default maximum number of cached results. */
+    public static final int DEFAULT_CAPACITY = 64;
+    /** The largest number of characters of output held by the cache at once. */
+    public static final int MAX_CHARACTERS = 4 * 1024 * 1024;
+    /** The largest number of characters of output a single entry can have. */
+    public static final int MAX_ENTRY_CHARACTERS = 256 * 1024;
+
+    private static final String CAPACITY_PROPERTY = "internity.cache.size";
+    private static final Logger logger = Logger.getLogger(ResultCache.class.getName());
+
+    private static int capacity = Math.max(0, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+    // keyed by cache key alone, as every entry belongs to entriesVersion
+    private static final Map<String, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static long entriesVersion = -1;
+    private static long characters;
+    private static long hits;
+    private static long misses;
+
+    private ResultCache() {
+    }
+
+    /**
+     * Executes a command, replaying its cached output instead if the same command has already been
+     * executed against the current version of the list.
+     *
+     * <p>
+     * Commands without a cache key are executed directly. Otherwise, on a miss the command is run,
+     * and its result is rendered, printed and stored. A result too long to be cached is printed in
+     * chunks by {@link ResultRenderer#print(CommandResult)} instead, without being rendered as a whole.
+     * </p>
+     *
+     * @param command the command to execute
+     * @throws InternityException if the command fails
+     */
+    public static void execute(Command command) throws InternityException {
+        String commandKey = command.cacheKey();
+        if (commandKey == null || capacity == 0) {
+            command.execute();
+            return;
+        }
+
+        long version = InternshipList.getVersion();
+        if (version != entriesVersion) {
+            removeAll();
+            entriesVersion = version;
+        }
+        String output = entries.get(commandKey);
+        if (output != null) {
+            hits++;
+            logger.fine("Result cache hit for " + commandKey);
+            ResultRenderer.print(output);
+            return;
+        }
+
+        misses++;
+        logger.fine("Result cache miss for " + commandKey);
+        CommandResult result = command.run();
+        if (ResultRenderer.minimumLength(result) > MAX_ENTRY_CHARACTERS) {
+            // too long to cache, so it is printed in chunks without ever holding the whole text
+            ResultRenderer.print(result);
+            return;
+        }
+        output = ResultRenderer.render(result);
+        ResultRenderer.print(output);
+        if (output.length() <= MAX_ENTRY_CHARACTERS) {
+            entries.put(commandKey, output);
+            characters += output.length();
+            evict();
+        }
+    }
+
+    /**
+     * Returns the number of commands whose output was replayed from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public static long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of cacheable commands that had to be executed.
+     *
+     * @return the number of cache misses
+     */
+    public static long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of results currently cached.
+     *
+     * @return the number of entries
+     */
+    public static int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of results kept in the cache.
+     *
+     * @return the capacity
+     */
+    public static int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the maximum number of results kept in the cache, evicting the least recently used
+     * results if there are too many.
+     *
+     * @param newCapacity the new capacity, or {@code 0} to disable caching
+     */
+    public static void setCapacity(int newCapacity) {
+        assert newCapacity >= 0 : "Capacity cannot be negative";
+        capacity = newCapacity;
+        evict();
+    }
+
+    /**
+     * Removes every cached result and resets the hit and miss counters.
+     */
+    public static void clear() {
+        removeAll();
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns the number of characters of output currently cached.
+     *
+     * @return the total length of the cached output
+     */
+    public static long getCharacters() {
+        return characters;
+    }
+
+    /**
+     * Removes least recently used results until the cache is within its capacity and character limit.
+     */
+    private static void evict() {
+        Iterator<String> eldest = entries.values().iterator();
+        while (entries.size() > capacity || characters > MAX_CHARACTERS) {
+            characters -= eldest.next().length();
+            eldest.remove();
+        }
+    }
+
+    private static void removeAll() {
+        entries.clear();
+        characters = 0;
+    }
+}
@@ -0,0 +1,37 @@
+package internity.logic.commands;
+
+import java.util.logging.Logger;
+
+import internity.ui.Ui;
+
+/**
+ * Represents the {@code stats} command, which displays the hit and miss counters of the
+ * {@link ResultCache}.
+ *
+ * <p>Command format: {@code stats}</p>
+ */
+public class StatsCommand extends Command {
+    private static final Logger logger = Logger.getLogger(StatsCommand.class.getName());
+
+    /**
+     * Executes the stats command by reporting the result cache counters.
+     *
+     * @return the counters
+     */
+    @Override
+    public CommandResult run() {
+        logger.info("Executing stats command");
+        return CommandResult.message(Ui.formatCacheStats(ResultCache.getHits(), ResultCache.getMisses(),
+                ResultCache.size(), ResultCache.getCapacity()));
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -69,13 +69,14 @@ public class UpdateCommand extends Command {
      * </p>
      *
      * <p>
-     * After performing the update, a confirmation message is displayed through {@link Ui#printUpdateSummary()}.
+     * After performing the update, a confirmation message is built by {@link Ui#formatUpdateSummary}.
      * </p>
      *
+     * @return the summary of the update
      * @throws InternityException if the index is invalid or no fields are provided.
      */
     @Override
-    public void execute() throws InternityException {
+    public CommandResult run() throws InternityException {
         boolean isUpdated = false;
         Internship internship = InternshipList.get(index);
         Internship oldInternship = new Internship(
@@ -109,7 +110,7 @@ public class UpdateCommand extends Command {
                 "Provide at least one field to update: company/, role/, deadline/, pay/, status/"
             );
         }
-        Ui.printUpdateSummary(index, oldInternship, internship);
+        return CommandResult.message(Ui.formatUpdateSummary(index, oldInternship, internship));
     }
 
     /**
@@ -42,20 +42,21 @@ public class UsernameCommand extends Command {
      *
      * <p>
      * This method sets Internity's current username to the provided value,
-     * updates it in the {@link InternshipList}, and prints a confirmation message
-     * to the user interface.
+     * updates it in the {@link InternshipList}, and returns a confirmation message.
      * </p>
+     *
+     * @return the confirmation message
      */
     @Override
-    public void execute() {
+    public CommandResult run() {
         assert username != null && !username.isEmpty()
                 : "Username must be non-null and non-empty before execution";
         LOGGER.log(Level.INFO, "Executing UsernameCommand: setting username to {0}", username);
         InternshipList.setUsername(username);
-        Ui.printSetUsername(username);
         assert username.equals(InternshipList.getUsername())
                 : "Username was incorrectly set in InternshipList";
-        LOGGER.log(Level.FINE, "Username successfully set in InternshipList and printed to UI");
+        LOGGER.log(Level.FINE, "Username successfully set in InternshipList");
+        return CommandResult.message(Ui.formatSetUsername(username));
     }
 
     /**
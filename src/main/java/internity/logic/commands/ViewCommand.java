@@ -0,0 +1,116 @@
+package internity.logic.commands;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.SavedViews;
+import internity.index.ViewFilter;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that saves a named filter over the internship list, shows the internships
+ * in a saved view, or lists the saved views.
+ *
+ * <p>
+ * The command parses a user input string in the following format:
+ * <pre>
+ *     view save NAME [status/STATUS] [company/KEYWORD] [role/KEYWORD] [minpay/AMOUNT] [maxpay/AMOUNT]
+ *         [sort/asc|sort/desc]
+ *     view NAME
+ *     view
+ * </pre>
+ * The results of a saved view are kept up to date as internships are added, deleted and updated,
+ * see {@link SavedViews}.
+ * </p>
+ */
+public class ViewCommand extends Command {
+    private static final Logger logger = Logger.getLogger(ViewCommand.class.getName());
+
+    private final String name;
+    private final ViewFilter filter;
+
+    /**
+     * Constructs a {@code ViewCommand} that lists the saved views.
+     */
+    public ViewCommand() {
+        this(null, null);
+    }
+
+    /**
+     * Constructs a {@code ViewCommand} that shows the internships in the view with the given name.
+     *
+     * @param name the name of the view to show
+     */
+    public ViewCommand(String name) {
+        this(name, null);
+    }
+
+    /**
+     * Constructs a {@code ViewCommand} that saves a view under the given name.
+     *
+     * @param name   the name of the view to save
+     * @param filter the criteria and order of the view, or {@code null} to show the view instead
+     */
+    public ViewCommand(String name, ViewFilter filter) {
+        this.name = name;
+        this.filter = filter;
+    }
+
+    /**
+     * Executes the view command by saving, showing or listing views.
+     *
+     * @return the outcome of saving, the internships of the view, or the saved views
+     * @throws InternityException if the view to show does not exist
+     */
+    @Override
+    public CommandResult run() throws InternityException {
+        logger.info("Executing view command");
+        SavedViews views = InternshipList.getSavedViews();
+        CommandResult result;
+        if (name == null) {
+            Map<String, ViewFilter> filters = new LinkedHashMap<>();
+            for (String viewName : views.names()) {
+                filters.put(viewName, views.getFilter(viewName));
+            }
+            result = CommandResult.message(Ui.formatSavedViews(filters));
+        } else if (filter != null) {
+            int count = views.save(name, filter);
+            result = CommandResult.message(Ui.formatSaveView(name, filter, count));
+        } else {
+            List<Internship> members = views.get(name);
+            if (members == null) {
+                throw InternityException.unknownView(name);
+            }
+            result = viewResult(members);
+        }
+        logger.info("View command executed successfully.");
+        return result;
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    private CommandResult viewResult(List<Internship> members) {
+        if (members.isEmpty()) {
+            return CommandResult.message(Ui.formatViewEmpty(name));
+        }
+        List<CommandResult.Row> rows = new ArrayList<>(members.size());
+        for (Internship internship : members) {
+            rows.add(new CommandResult.Row(InternshipList.indexOf(internship), internship));
+        }
+        return CommandResult.table("Here are the internships in view \"" + name + "\":", rows);
+    }
+}
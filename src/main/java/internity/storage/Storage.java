@@ -1,11 +1,10 @@
 package internity.storage;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
@@ -44,6 +43,8 @@ public class Storage {
     private static final int LEN_REQUIRED_FIELDS = 5;
 
     private static final String PIPE_URL_ENCODED = "%7C";
+    private static final byte[] FIELD_SEPARATOR = " | ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
 
     private final Path filePath;
 
@@ -258,16 +259,16 @@ public class Storage {
             // Write to a temporary file first for atomic save
             Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
 
-            try (PrintWriter pw = new PrintWriter(new BufferedWriter(
-                    new OutputStreamWriter(Files.newOutputStream(tempFile), StandardCharsets.UTF_8)))) {
+            // company and role are ASCII, so every field is written as raw bytes without encoding
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
                 // Write username header and value
-                pw.println("Username (in line below):");
+                writeLine(out, "Username (in line below):");
                 String username = InternshipList.getUsername();
-                pw.println(username != null ? username : "");
+                writeLine(out, username != null ? username : "");
 
                 // Write internships
                 for (Internship internship : internships) {
-                    pw.println(formatInternshipForFile(internship));
+                    writeInternship(out, internship);
                 }
             }
 
@@ -311,26 +312,38 @@ public class Storage {
     }
 
     /**
-     * Formats an internship for storage in the file.
+     * Writes an internship to the storage file as one line.
      * Pipe characters in company and role are URL-encoded to prevent delimiter conflicts.
      *
-     * @param internship The internship to format.
-     * @return A pipe-delimited string representation of the internship.
+     * @param out The stream to write to.
+     * @param internship The internship to write.
+     * @throws IOException If writing to the stream fails.
      */
-    private String formatInternshipForFile(Internship internship) {
+    private void writeInternship(OutputStream out, Internship internship) throws IOException {
         assert internship != null : "Internship to format cannot be null";
-        assert internship.getCompany() != null : "Company cannot be null";
-        assert internship.getRole() != null : "Role cannot be null";
+        assert internship.getCompanyAscii() != null : "Company cannot be null";
+        assert internship.getRoleAscii() != null : "Role cannot be null";
         assert internship.getDeadline() != null : "Deadline cannot be null";
         assert internship.getStatus() != null : "Status cannot be null";
 
-        String encodedCompany = internship.getCompany().replace("|", PIPE_URL_ENCODED);
-        String encodedRole = internship.getRole().replace("|", PIPE_URL_ENCODED);
-
-        return encodedCompany + " | "
-                + encodedRole + " | "
-                + internship.getDeadline().toString() + " | "
+        internship.getCompanyAscii().writeTo(out, '|', PIPE_URL_ENCODED);
+        out.write(FIELD_SEPARATOR);
+        internship.getRoleAscii().writeTo(out, '|', PIPE_URL_ENCODED);
+        out.write(FIELD_SEPARATOR);
+        writeLine(out, internship.getDeadline().toString() + " | "
                 + internship.getPay() + " | "
-                + internship.getStatus();
+                + internship.getStatus());
+    }
+
+    /**
+     * Writes a line of text to the storage file, followed by the platform line separator.
+     *
+     * @param out The stream to write to.
+     * @param line The text of the line.
+     * @throws IOException If writing to the stream fails.
+     */
+    private static void writeLine(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write(LINE_SEPARATOR);
     }
 }
@@ -1,14 +1,21 @@
 package internity.ui;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
+import internity.core.Date;
 import internity.core.InternityException;
 import internity.core.Internship;
 import internity.core.InternshipList;
+import internity.core.Status;
+import internity.index.DeadlineDensity;
+import internity.index.PayDistribution;
+import internity.index.StatusDeadlineIndex;
 
 /**
  * Provides a command-line dashboard interface for the Internity application.
@@ -19,58 +26,170 @@ import internity.core.InternshipList;
  *     <li>Username</li>
  *     <li>Total number of internships</li>
  *     <li>Nearest internship deadline</li>
+ *     <li>Next deadline of each status that still needs action</li>
+ *     <li>Number of deadlines in each of the coming weeks</li>
  *     <li>Status breakdown of internships</li>
+ *     <li>Pay distribution of internships</li>
  * </ul>
+ * The same information is also available as a JSON object, see {@link #formatDashboardJson()}.
  * </p>
  */
 public class DashboardUi {
     private static final Logger logger = Logger.getLogger(DashboardUi.class.getName());
     private static final String INDENT = "  ";
+    private static final int HISTOGRAM_WIDTH = 20;
+    private static final int TIMELINE_WEEKS = 8;
+    private static final int CRUNCH_THRESHOLD = 3;
+    private static final List<Status> OPEN_STATUSES = List.of(
+            Status.PENDING, Status.INTERESTED, Status.APPLIED, Status.INTERVIEWING, Status.OFFER
+    );
 
     /**
-     * Prints the complete dashboard to the console.
+     * Returns the lines of the complete dashboard.
      * <p>
      * The dashboard includes:
      * <ul>
      *     <li>Current user's username</li>
      *     <li>Total internships</li>
      *     <li>Nearest internship deadline</li>
+     *     <li>Next deadline of each open status</li>
+     *     <li>Deadlines per week for the coming weeks</li>
      *     <li>Status overview of all internships</li>
+     *     <li>Pay distribution of all internships</li>
      * </ul>
      * </p>
+     *
+     * @return the dashboard, one line per element
+     * @throws InternityException if an error occurs while accessing internship data
+     */
+    public static List<String> formatDashboard() throws InternityException {
+        List<String> lines = new ArrayList<>();
+        addUser(lines);
+        addInternshipCount(lines);
+        addNearestDeadline(lines);
+        addNextDeadlineByStatus(lines);
+        addDeadlineTimeline(lines);
+        addStatusOverview(lines);
+        addPayDistribution(lines);
+        return lines;
+    }
+
+    /**
+     * Prints the complete dashboard to the console, as returned by {@link #formatDashboard()}.
+     *
+     * @throws InternityException if an error occurs while accessing internship data
      */
     public static void printDashboard() throws InternityException {
-        printUser();
-        printInternshipCount();
-        printNearestDeadline();
-        printStatusOverview();
+        for (String line : formatDashboard()) {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Returns the dashboard as a single-line JSON object, for scripts and the HTTP API.
+     * <p>
+     * The object holds the same information as {@link #formatDashboard()}:
+     * <ul>
+     *     <li>{@code username}, {@code total} and {@code today}</li>
+     *     <li>{@code nearestDeadline}, an internship or {@code null}, and {@code nearestOverdue}</li>
+     *     <li>{@code nextDeadlineByStatus}, an internship or {@code null} for each open status</li>
+     *     <li>{@code deadlinesPerWeek}, the start, count and crunch flag of each coming week</li>
+     *     <li>{@code statusCounts}, the number of internships of each status</li>
+     *     <li>{@code medianPay} and {@code p90Pay}, {@code null} for an empty list, and {@code payBands}</li>
+     * </ul>
+     * Internships are written as by {@link Json#appendInternship}, with their one-based index.
+     * </p>
+     *
+     * @return the dashboard as JSON, without a trailing line separator
+     * @throws InternityException if an error occurs while accessing internship data
+     */
+    public static String formatDashboardJson() throws InternityException {
+        StringBuilder json = new StringBuilder("{\"username\":");
+        String username = InternshipList.getUsername();
+        if (username == null) {
+            json.append("null");
+        } else {
+            Json.appendString(json, username);
+        }
+        json.append(",\"total\":").append(InternshipList.size());
+        json.append(",\"today\":");
+        Json.appendString(json, Date.getToday().toString());
+
+        Internship nearest = InternshipList.size() == 0
+                ? null
+                : InternshipList.findNearestDeadlineInternship().getKey();
+        appendInternship(json.append(",\"nearestDeadline\":"), nearest);
+        json.append(",\"nearestOverdue\":")
+                .append(nearest != null && nearest.getDeadline().compareTo(Date.getToday()) < 0);
+
+        StatusDeadlineIndex index = InternshipList.getStatusDeadlineIndex();
+        long today = Date.getToday().toEpochDay();
+        json.append(",\"nextDeadlineByStatus\":{");
+        for (Status status : OPEN_STATUSES) {
+            Json.appendString(json, Status.canonical(status.name())).append(':');
+            appendInternship(json, index.next(status, today)).append(',');
+        }
+        Json.closeWith(json, '}');
+
+        DeadlineDensity density = InternshipList.getDeadlineDensity();
+        json.append(",\"deadlinesPerWeek\":[");
+        for (int week = 0; week < TIMELINE_WEEKS; week++) {
+            long start = today + 7L * week;
+            int count = density.countBetween(start, start + 7);
+            json.append("{\"weekOf\":");
+            Json.appendString(json, Date.ofEpochDay(start).toString()).append(",\"count\":").append(count);
+            json.append(",\"crunch\":").append(count >= CRUNCH_THRESHOLD).append("},");
+        }
+        Json.closeWith(json, ']');
+
+        int[] statusCounts = new int[Status.values().length];
+        for (int i = 0; i < InternshipList.size(); i++) {
+            statusCounts[Status.valueOf(InternshipList.get(i).getStatus().toUpperCase()).ordinal()]++;
+        }
+        json.append(",\"statusCounts\":{");
+        for (Status status : Status.values()) {
+            Json.appendString(json, Status.canonical(status.name())).append(':')
+                    .append(statusCounts[status.ordinal()]).append(',');
+        }
+        Json.closeWith(json, '}');
+
+        PayDistribution pay = InternshipList.getPayDistribution();
+        json.append(",\"medianPay\":").append(pay.size() == 0 ? "null" : String.valueOf(pay.percentile(50)));
+        json.append(",\"p90Pay\":").append(pay.size() == 0 ? "null" : String.valueOf(pay.percentile(90)));
+        json.append(",\"payBands\":[");
+        int[] counts = pay.bandCounts();
+        for (int band = 0; band < counts.length; band++) {
+            json.append("{\"band\":");
+            Json.appendString(json, bandLabel(band)).append(",\"count\":").append(counts[band]).append("},");
+        }
+        return Json.closeWith(json, ']').append('}').toString();
     }
 
     /**
-     * Prints the current user's username to the console.
+     * Adds the current user's username to the dashboard.
      * <p>
      * If no username is set, displays {@code Guest} as the default.
      * </p>
      */
-    public static void printUser() {
+    private static void addUser(List<String> lines) {
         String user = InternshipList.getUsername();
-        System.out.println("User: " + (user != null ? user : "Guest"));
+        lines.add("User: " + (user != null ? user : "Guest"));
         assert user != null : "Username should not be null";
         logger.fine("Displayed user: " + user);
     }
 
     /**
-     * Prints the total number of internships currently tracked.
+     * Adds the total number of internships currently tracked.
      */
-    public static void printInternshipCount() {
+    private static void addInternshipCount(List<String> lines) {
         int count = InternshipList.size();
-        System.out.println("Total Internships: " + count);
+        lines.add("Total Internships: " + count);
         assert count >= 0 : "Internship count should never be negative";
         logger.fine("Total internships: " + count);
     }
 
     /**
-     * Prints a breakdown of internships by their application status.
+     * Adds a breakdown of internships by their application status.
      * <p>
      * Statuses are displayed in the following fixed order:
      * {@code Pending, Interested, Applied, Interviewing, Offer, Accepted, Rejected}.
@@ -78,9 +197,10 @@ public class DashboardUi {
      *
      * @throws InternityException if an error occurs while accessing internship data
      */
-    public static void printStatusOverview() throws InternityException {
+    private static void addStatusOverview(List<String> lines) throws InternityException {
         if (InternshipList.size() == 0) {
-            System.out.println("\nStatus Overview: No internships found.");
+            lines.add("");
+            lines.add("Status Overview: No internships found.");
             logger.warning("Status overview requested but internship list is empty");
             return;
         }
@@ -106,22 +226,24 @@ public class DashboardUi {
             }
         }
 
-        System.out.println("\nStatus Overview:");
+        lines.add("");
+        lines.add("Status Overview:");
         for (String status : statusOrder) {
-            System.out.printf("%s%-15s : %d%n", INDENT, status, statusCount.get(status));
+            lines.add(String.format("%s%-15s : %d", INDENT, status, statusCount.get(status)));
         }
-        logger.fine("Status overview printed");
+        logger.fine("Status overview added");
     }
 
     /**
-     * Prints the internship with the nearest upcoming deadline.
+     * Adds the internship with the nearest upcoming deadline.
      * <p>
-     * If there are no internships, or none with valid deadlines, prints an appropriate message.
+     * If there are no internships, or none with valid deadlines, adds an appropriate message.
      * </p>
      */
-    public static void printNearestDeadline() throws InternityException {
+    private static void addNearestDeadline(List<String> lines) throws InternityException {
         if (InternshipList.size() == 0) {
-            System.out.println("\nNearest Deadline: No internships found.");
+            lines.add("");
+            lines.add("Nearest Deadline: No internships found.");
             logger.warning("Nearest deadline requested but internship list is empty");
             return;
         }
@@ -131,23 +253,130 @@ public class DashboardUi {
         int countNearest = nearestResult.getValue();
 
         if (nearest == null) {
-            System.out.println("\nNearest Deadline: No valid deadlines found.");
+            lines.add("");
+            lines.add("Nearest Deadline: No valid deadlines found.");
             return;
         }
 
-        boolean isDeadlineInPast = nearest.getDeadline().compareTo(internity.core.Date.getToday()) < 0;
+        boolean isDeadlineInPast = nearest.getDeadline().compareTo(Date.getToday()) < 0;
 
-        System.out.println("\nNearest Deadline:");
-        System.out.printf("  %s | %s @ %s %s%n",
+        lines.add("");
+        lines.add("Nearest Deadline:");
+        lines.add(String.format("  %s | %s @ %s %s",
                 nearest.getDeadline().toString(),
                 nearest.getRole(),
                 nearest.getCompany(),
-                (isDeadlineInPast)? "(OVERDUE!)" : "");
+                (isDeadlineInPast)? "(OVERDUE!)" : ""));
         if (countNearest > 0) {
-            System.out.printf(INDENT + "(Found %d other internship(s) with the same deadline)%n", countNearest);
+            lines.add(String.format(INDENT + "(Found %d other internship(s) with the same deadline)",
+                    countNearest));
         }
 
         logger.fine("Nearest deadline displayed: " + nearest);
     }
 
+
+    /**
+     * Adds, for each status that still needs action, the internship with that status whose deadline
+     * is the nearest from today.
+     * <p>
+     * Each line is a single seek in the {@link StatusDeadlineIndex}. Accepted and rejected internships
+     * are left out, since they have nothing left to do.
+     * </p>
+     */
+    private static void addNextDeadlineByStatus(List<String> lines) {
+        if (InternshipList.size() == 0) {
+            return;
+        }
+
+        StatusDeadlineIndex index = InternshipList.getStatusDeadlineIndex();
+        long today = Date.getToday().toEpochDay();
+        lines.add("");
+        lines.add("Next Deadline by Status:");
+        for (Status status : OPEN_STATUSES) {
+            Internship next = index.next(status, today);
+            String name = Status.canonical(status.name());
+            if (next == null) {
+                lines.add(String.format("%s%-15s : -", INDENT, name));
+            } else {
+                lines.add(String.format("%s%-15s : %s | %s @ %s", INDENT, name,
+                        next.getDeadline(), next.getRole(), next.getCompany()));
+            }
+        }
+        logger.fine("Next deadline by status added");
+    }
+
+    /**
+     * Adds the number of deadlines in each of the next {@value #TIMELINE_WEEKS} weeks, starting today,
+     * and flags weeks with at least {@value #CRUNCH_THRESHOLD} deadlines as crunch weeks.
+     * <p>
+     * Each week is counted with a range query on the {@link DeadlineDensity}, so the panel does not
+     * iterate over the internship list.
+     * </p>
+     */
+    private static void addDeadlineTimeline(List<String> lines) {
+        if (InternshipList.size() == 0) {
+            return;
+        }
+
+        DeadlineDensity density = InternshipList.getDeadlineDensity();
+        long today = Date.getToday().toEpochDay();
+        lines.add("");
+        lines.add("Deadlines per Week:");
+        for (int week = 0; week < TIMELINE_WEEKS; week++) {
+            long start = today + 7L * week;
+            int count = density.countBetween(start, start + 7);
+            lines.add(String.format("%sWeek of %s : %-" + HISTOGRAM_WIDTH + "s %d%s", INDENT,
+                    Date.ofEpochDay(start), "#".repeat(Math.min(count, HISTOGRAM_WIDTH)), count,
+                    count >= CRUNCH_THRESHOLD ? "  <- crunch week" : ""));
+        }
+        logger.fine("Deadline timeline added");
+    }
+
+    /**
+     * Adds the median and 90th percentile pay, and a histogram of the number of internships in
+     * each pay band.
+     * <p>
+     * The statistics are read from the {@link PayDistribution} maintained by {@link InternshipList},
+     * so the panel takes the same time to print whatever the size of the list.
+     * </p>
+     */
+    private static void addPayDistribution(List<String> lines) {
+        PayDistribution distribution = InternshipList.getPayDistribution();
+        if (distribution.size() == 0) {
+            lines.add("");
+            lines.add("Pay Distribution: No internships found.");
+            return;
+        }
+
+        lines.add("");
+        lines.add("Pay Distribution:");
+        lines.add(String.format("%s%-15s : %d", INDENT, "Median", distribution.percentile(50)));
+        lines.add(String.format("%s%-15s : %d", INDENT, "90th percentile", distribution.percentile(90)));
+
+        int[] counts = distribution.bandCounts();
+        int maxCount = Arrays.stream(counts).max().orElse(0);
+        for (int band = 0; band < counts.length; band++) {
+            int barLength = (int) Math.ceil((double) counts[band] * HISTOGRAM_WIDTH / maxCount);
+            lines.add(String.format("%s%-15s : %s %d", INDENT, bandLabel(band), "#".repeat(barLength),
+                    counts[band]));
+        }
+        logger.fine("Pay distribution added");
+    }
+
+    private static StringBuilder appendInternship(StringBuilder json, Internship internship) {
+        if (internship == null) {
+            return json.append("null");
+        }
+        return Json.appendInternship(json, InternshipList.indexOf(internship), internship);
+    }
+
+    private static String bandLabel(int band) {
+        int[] bounds = PayDistribution.BAND_LOWER_BOUNDS;
+        if (band == bounds.length - 1) {
+            return bounds[band] + "+";
+        }
+        int upper = bounds[band + 1] - 1;
+        return upper == bounds[band] ? String.valueOf(upper) : bounds[band] + "-" + upper;
+    }
 }
@@ -0,0 +1,263 @@
+package internity.ui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+
+/**
+ * Writes the JSON documents returned by the HTTP API and printed by commands given
+ * {@code format/json}, and reads the flat JSON objects the server receives as request bodies.
+ *
+ * <p>
+ * Request bodies are single objects whose values are strings, numbers, booleans or {@code null}, such
+ * as {@code {"company": "Google", "pay": 5000}}. Nested objects and arrays are not needed by any
+ * endpoint and are rejected.
+ * </p>
+ */
+public final class Json {
+    private Json() {
+    }
+
+    /**
+     * Appends a string to the builder as a JSON string literal.
+     *
+     * @param json  the builder to append to
+     * @param value the string to quote
+     * @return the builder
+     */
+    public static StringBuilder appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+                break;
+            }
+        }
+        return json.append('"');
+    }
+
+    /**
+     * Appends an internship to the builder as a JSON object.
+     *
+     * @param json       the builder to append to
+     * @param index      the zero-based index of the internship in the list, shown one-based
+     * @param internship the internship to append
+     * @return the builder
+     */
+    public static StringBuilder appendInternship(StringBuilder json, int index, Internship internship) {
+        json.append("{\"index\":").append(index + 1).append(",\"company\":");
+        appendString(json, internship.getCompany()).append(",\"role\":");
+        appendString(json, internship.getRole()).append(",\"deadline\":");
+        appendString(json, internship.getDeadline().toString()).append(",\"pay\":").append(internship.getPay());
+        json.append(",\"status\":");
+        return appendString(json, internship.getStatus()).append('}');
+    }
+
+    /**
+     * Closes an array or object whose members were each appended with a trailing comma, removing the
+     * comma after the last member.
+     *
+     * @param json  the builder to append to
+     * @param close the closing bracket, {@code ']'} or <code>'}'</code>
+     * @return the builder
+     */
+    public static StringBuilder closeWith(StringBuilder json, char close) {
+        if (json.charAt(json.length() - 1) == ',') {
+            json.setLength(json.length() - 1);
+        }
+        return json.append(close);
+    }
+
+    /**
+     * Reads a flat JSON object into a map from each key to its value as text. String values are
+     * unescaped, numbers and booleans are kept as written, and keys whose value is {@code null} are
+     * left out.
+     *
+     * @param text the JSON text
+     * @return the members of the object, in order
+     * @throws InternityException if the text is not a flat JSON object, reporting the column of the error
+     */
+    public static Map<String, String> parseObject(String text) throws InternityException {
+        Reader reader = new Reader(text);
+        Map<String, String> members = new LinkedHashMap<>();
+        reader.expect('{');
+        if (!reader.consume('}')) {
+            do {
+                String key = reader.readString();
+                reader.expect(':');
+                String value = reader.readValue();
+                if (value != null) {
+                    members.put(key, value);
+                }
+            } while (reader.consume(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        return members;
+    }
+
+    /**
+     * A cursor over JSON text that skips whitespace between tokens.
+     */
+    private static final class Reader {
+        private final String text;
+        private int position;
+
+        private Reader(String text) {
+            this.text = text;
+        }
+
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) throws InternityException {
+            if (!consume(c)) {
+                throw error("expected '" + c + "'");
+            }
+        }
+
+        private void expectEnd() throws InternityException {
+            skipWhitespace();
+            if (position < text.length()) {
+                throw error("unexpected text after the object");
+            }
+        }
+
+        private String readValue() throws InternityException {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == '"') {
+                return readString();
+            }
+            int start = position;
+            while (position < text.length() && isLiteralChar(text.charAt(position))) {
+                position++;
+            }
+            String literal = text.substring(start, position);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.equals("true") || literal.equals("false") || isNumber(literal)) {
+                return literal;
+            }
+            position = start;
+            throw error("expected a string, number, boolean or null");
+        }
+
+        private String readString() throws InternityException {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    value.append(readUnicodeEscape());
+                    break;
+                default:
+                    value.append(escaped);
+                    break;
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        private char readUnicodeEscape() throws InternityException {
+            if (position + 4 > text.length()) {
+                throw error("incomplete unicode escape");
+            }
+            try {
+                char c = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+                position += 4;
+                return c;
+            } catch (NumberFormatException e) {
+                throw error("invalid unicode escape");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private InternityException error(String message) {
+            return new InternityException("Invalid JSON at column " + (position + 1) + ": " + message);
+        }
+
+        private static boolean isLiteralChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.';
+        }
+
+        private static boolean isNumber(String literal) {
+            if (literal.isEmpty() || !(literal.charAt(0) == '-' || Character.isDigit(literal.charAt(0)))) {
+                return false;
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                char c = literal.charAt(i);
+                if (!Character.isDigit(c) && "+-.eE".indexOf(c) < 0) {
+                    return false;
+                }
+            }
+            try {
+                Double.parseDouble(literal);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package internity.ui;
+
+import java.io.Console;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Logger;
+
+import internity.core.Internship;
+import internity.logic.commands.CommandResult;
+
+/**
+ * Turns a {@link CommandResult} into the text shown in the terminal.
+ *
+ * <p>
+ * Message lines are printed one per line. Tables are printed as their title followed by the
+ * internship table used throughout Internity, with the same column widths as {@link Ui}.
+ * </p>
+ *
+ * <p>
+ * Table rows are written with hand-rolled padding into a {@link StringBuilder}, producing exactly the
+ * text of {@link Ui#FORMAT_CONTENT} without parsing a format string or boxing the index and pay for
+ * every row. When printing, the builder is reused and handed to standard output every
+ * {@value #CHUNK_SIZE} characters, so a long table is written in a few large chunks rather than
+ * one write per row.
+ * </p>
+ *
+ * <p>
+ * When standard output is redirected to a file or a pipe and the {@code internity.output.channel}
+ * system property is {@code true}, {@link #enableChannelOutput()} lets the text skip
+ * {@link PrintStream} altogether: each chunk is copied byte for byte into a reused {@code byte[]},
+ * checking that it is ASCII on the way, and written to a {@link FileChannel} on
+ * {@link FileDescriptor#out}. Everything Internity prints is ASCII, because input is checked by
+ * {@link internity.logic.cli.CommandLexer} and loaded data by {@link internity.storage.Storage}, so no
+ * charset encoding is needed. Text from the first character that is not ASCII still goes through
+ * {@link System#out}. The channel is off by default, as {@code System.out}, whose encoder is intrinsic
+ * to the JVM, is still faster at writing ASCII text.
+ * </p>
+ */
+public final class ResultRenderer {
+    /** The number of characters collected before they are written to standard output. */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final String CHANNEL_PROPERTY = "internity.output.channel";
+    private static final String NEWLINE = System.lineSeparator();
+    private static final int ROW_LENGTH = Ui.INDEX_MAXLEN + Ui.COMPANY_MAXLEN + Ui.ROLE_MAXLEN + Ui.DEADLINE_MAXLEN
+            + Ui.PAY_MAXLEN + Ui.STATUS_MAXLEN + 5 + NEWLINE.length();
+    private static final int ASCII_LIMIT = 0x80;
+    private static final Logger logger = Logger.getLogger(ResultRenderer.class.getName());
+
+    private static FileChannel outputChannel;
+    private static PrintStream channelOwner;
+    private static char[] channelChars;
+    private static byte[] channelBytes;
+    // wraps channelBytes, so a chunk is written without allocating
+    private static ByteBuffer channelBuffer;
+
+    private ResultRenderer() {
+    }
+
+    /**
+     * Writes printed results straight to the file descriptor of standard output from now on, if
+     * standard output is not a terminal and the {@code internity.output.channel} system property is
+     * {@code true}.
+     *
+     * <p>
+     * Results are only written to the channel while {@link System#out} is still the stream it is at
+     * this call, so output that is redirected later, such as by {@link System#setOut}, keeps going to
+     * the new stream. {@code System.out} is flushed before every write to the channel, so text printed
+     * through it and through the channel stays in order.
+     * </p>
+     */
+    public static void enableChannelOutput() {
+        if (!Boolean.getBoolean(CHANNEL_PROPERTY) || isTerminal()) {
+            return;
+        }
+        useChannel(new FileOutputStream(FileDescriptor.out).getChannel(), System.out);
+        logger.info("Standard output is not a terminal, writing results to its file channel");
+    }
+
+    /**
+     * Writes printed results to a channel instead of standard output while {@link System#out} is the
+     * given stream.
+     *
+     * @param channel the channel to write to, or {@code null} to print through {@code System.out} again
+     * @param owner   the stream that {@code System.out} must be for the channel to be used
+     */
+    static void useChannel(FileChannel channel, PrintStream owner) {
+        outputChannel = channel;
+        channelOwner = owner;
+        if (channel != null && channelBuffer == null) {
+            channelChars = new char[CHUNK_SIZE];
+            channelBytes = new byte[CHUNK_SIZE];
+            channelBuffer = ByteBuffer.wrap(channelBytes);
+        }
+    }
+
+    /**
+     * Returns the text of a result, exactly as it is printed.
+     *
+     * @param result the result to render
+     * @return the rendered text, ending with a line separator unless the result is empty
+     */
+    public static String render(CommandResult result) {
+        StringBuilder out = new StringBuilder();
+        appendHead(out, result);
+        for (CommandResult.Row row : result.getRows()) {
+            appendRow(out, row.getIndex() + 1, row.getInternship());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns the fewest characters that the text of a result can have, without rendering it. Table
+     * rows are padded to fixed column widths, so this is the exact length unless a value is wider
+     * than its column.
+     *
+     * @param result the result to measure
+     * @return the least length of the rendered text
+     */
+    public static long minimumLength(CommandResult result) {
+        long length = 0;
+        for (String line : result.getMessages()) {
+            length += line.length() + NEWLINE.length();
+        }
+        if (result.isTable()) {
+            length += result.getTitle().length() + NEWLINE.length() + Ui.LINE.length() * 2L;
+            length += (long) ROW_LENGTH * (result.getRows().size() + 1);
+        }
+        return length;
+    }
+
+    /**
+     * Prints a result to standard output, in chunks of about {@value #CHUNK_SIZE} characters.
+     *
+     * @param result the result to print
+     */
+    public static void print(CommandResult result) {
+        StringBuilder chunk = new StringBuilder(CHUNK_SIZE + NEWLINE.length() * 2);
+        appendHead(chunk, result);
+        for (CommandResult.Row row : result.getRows()) {
+            appendRow(chunk, row.getIndex() + 1, row.getInternship());
+            if (chunk.length() >= CHUNK_SIZE) {
+                print(chunk);
+                chunk.setLength(0);
+            }
+        }
+        if (chunk.length() > 0) {
+            print(chunk);
+        }
+    }
+
+    /**
+     * Prints the rows of a table as JSON Lines: one JSON object per internship, as written by
+     * {@link Json#appendInternship}, each on its own line.
+     * <p>
+     * Rows are read one at a time and the text is written every {@value #CHUNK_SIZE} characters, as by
+     * {@link #print(CommandResult)}, so the output of a long table is never held in memory at once.
+     * Nothing is printed for a result that is not a table, such as the message of an empty list, so
+     * the output is always a valid, possibly empty, JSON Lines stream.
+     * </p>
+     *
+     * @param result the result to print
+     */
+    public static void printJsonLines(CommandResult result) {
+        StringBuilder chunk = new StringBuilder(CHUNK_SIZE + NEWLINE.length() * 2);
+        for (CommandResult.Row row : result.getRows()) {
+            Json.appendInternship(chunk, row.getIndex(), row.getInternship()).append(NEWLINE);
+            if (chunk.length() >= CHUNK_SIZE) {
+                print(chunk);
+                chunk.setLength(0);
+            }
+        }
+        if (chunk.length() > 0) {
+            print(chunk);
+        }
+    }
+
+    /**
+     * Prints text that has already been rendered, such as a result replayed from the
+     * {@link internity.logic.commands.ResultCache}.
+     *
+     * @param text the text to print
+     */
+    public static void print(CharSequence text) {
+        if (outputChannel == null || System.out != channelOwner) {
+            System.out.append(text);
+            return;
+        }
+
+        System.out.flush();
+        try {
+            int length = text.length();
+            for (int start = 0; start < length; start += CHUNK_SIZE) {
+                int count = Math.min(CHUNK_SIZE, length - start);
+                int encoded = encodeAscii(text, start, count);
+                writeChannelBytes(encoded);
+                if (encoded < count) {
+                    // the rest is not all ASCII, so it is left to the charset of System.out
+                    System.out.append(text, start + encoded, length);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not write to standard output: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends one table row, identical to formatting {@link Ui#FORMAT_CONTENT} with the same values.
+     *
+     * @param out          the builder to append to
+     * @param displayIndex the one-based index shown in the first column
+     * @param internship   the internship of the row
+     * @return the builder
+     */
+    static StringBuilder appendRow(StringBuilder out, int displayIndex, Internship internship) {
+        appendRightAligned(out, displayIndex, Ui.INDEX_MAXLEN).append(' ');
+
+        int start = out.length();
+        internship.getCompanyAscii().appendTo(out);
+        padTo(out, start + Ui.COMPANY_MAXLEN).append(' ');
+
+        start = out.length();
+        internship.getRoleAscii().appendTo(out);
+        padTo(out, start + Ui.ROLE_MAXLEN).append(' ');
+
+        start = out.length();
+        internship.getDeadline().appendTo(out);
+        padTo(out, start + Ui.DEADLINE_MAXLEN).append(' ');
+
+        start = out.length();
+        out.append(internship.getPay());
+        padTo(out, start + Ui.PAY_MAXLEN).append(' ');
+
+        start = out.length();
+        out.append(internship.getStatus());
+        return padTo(out, start + Ui.STATUS_MAXLEN).append(NEWLINE);
+    }
+
+    /**
+     * Copies characters into the channel bytes, one byte each, stopping at the first character that
+     * is not ASCII.
+     *
+     * @return the number of characters copied
+     */
+    private static int encodeAscii(CharSequence text, int start, int count) {
+        if (text instanceof String) {
+            ((String) text).getChars(start, start + count, channelChars, 0);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(start, start + count, channelChars, 0);
+        } else {
+            for (int i = 0; i < count; i++) {
+                channelChars[i] = text.charAt(start + i);
+            }
+        }
+        char[] chars = channelChars;
+        byte[] bytes = channelBytes;
+        for (int i = 0; i < count; i++) {
+            char c = chars[i];
+            if (c >= ASCII_LIMIT) {
+                return i;
+            }
+            bytes[i] = (byte) c;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the first bytes of the channel bytes to the channel.
+     */
+    private static void writeChannelBytes(int count) throws IOException {
+        channelBuffer.clear().limit(count);
+        while (channelBuffer.hasRemaining()) {
+            outputChannel.write(channelBuffer);
+        }
+    }
+
+    /**
+     * Returns whether standard output is a terminal. On Java 22 and later, {@link System#console()}
+     * exists even when the output is redirected, so {@code Console.isTerminal()} is asked when present.
+     */
+    private static boolean isTerminal() {
+        Console console = System.console();
+        if (console == null) {
+            return false;
+        }
+        try {
+            return (Boolean) Console.class.getMethod("isTerminal").invoke(console);
+        } catch (ReflectiveOperationException e) {
+            return true;
+        }
+    }
+
+    private static void appendHead(StringBuilder out, CommandResult result) {
+        for (String line : result.getMessages()) {
+            out.append(line).append(NEWLINE);
+        }
+        if (!result.isTable()) {
+            return;
+        }
+        out.append(result.getTitle()).append(NEWLINE);
+        out.append(Ui.LINE);
+        out.append(String.format(Ui.FORMAT_HEADER, "No.", "Company", "Role", "Deadline", "Pay", "Status"));
+        out.append(Ui.LINE);
+    }
+
+    private static StringBuilder appendRightAligned(StringBuilder out, int value, int width) {
+        for (int i = lengthOf(value); i < width; i++) {
+            out.append(' ');
+        }
+        return out.append(value);
+    }
+
+    /**
+     * Returns the number of characters of a value in decimal, including its sign.
+     */
+    private static int lengthOf(int value) {
+        int length = value < 0 ? 2 : 1;
+        for (long magnitude = Math.abs((long) value); magnitude >= 10; magnitude /= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Appends spaces until the builder is at least the given length.
+     */
+    private static StringBuilder padTo(StringBuilder out, int length) {
+        for (int i = out.length(); i < length; i++) {
+            out.append(' ');
+        }
+        return out;
+    }
+}
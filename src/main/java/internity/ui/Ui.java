@@ -1,6 +1,15 @@
 package internity.ui;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import internity.core.Internship;
+import internity.core.Status;
+import internity.index.CompanyAggregates;
+import internity.index.ViewFilter;
 
 /**
  * The {@code Ui} class provides methods for interacting with the user in the Internity chatbot.
@@ -23,10 +32,16 @@ public class Ui {
             + "s %-" + DEADLINE_MAXLEN + "s %-" + PAY_MAXLEN + "s %-" + STATUS_MAXLEN + "s%n";
     static final String FORMAT_CONTENT = "%" + INDEX_MAXLEN + "d %-" + COMPANY_MAXLEN + "s %-" + ROLE_MAXLEN
             + "s %-" + DEADLINE_MAXLEN + "s %-" + PAY_MAXLEN + "d %-" + STATUS_MAXLEN + "s%n";
+    static final String FORMAT_COMPANY_HEADER = "%-" + COMPANY_MAXLEN + "s %5s %" + PAY_MAXLEN + "s %"
+            + PAY_MAXLEN + "s %" + PAY_MAXLEN + "s  %s";
+    static final String FORMAT_COMPANY_CONTENT = "%-" + COMPANY_MAXLEN + "s %5d %" + PAY_MAXLEN + "d %"
+            + PAY_MAXLEN + "d %" + PAY_MAXLEN + "d  %s";
 
-    /** Horizontal line used to visually separate sections in the console output. */
-    static final String LINE = "____________________________________________________" +
-            "_________________________________________________________\n";
+    /** Horizontal divider used to visually separate sections in the console output. */
+    static final String DIVIDER = "____________________________________________________" +
+            "_________________________________________________________";
+    /** The divider as printed, ending with a line feed. */
+    static final String LINE = DIVIDER + "\n";
 
     /**
      * Prints a horizontal divider line to the console.
@@ -66,142 +81,227 @@ public class Ui {
     }
 
     /**
-     * Prints a confirmation message after successfully adding an internship.
-     *
-     * <p>
-     * This method displays a message acknowledging that a new internship has been added,
-     * followed by the internship's details, which are obtained by invoking the
-     * {@link Internship#toString()} method of the given {@code Internship} object.
-     * </p>
+     * Returns the farewell message shown when the user exits the chatbot.
      *
-     * @param internshipInfo details of the internship that was added
+     * @return the message lines
      */
-    public static void printAddInternship(String internshipInfo, int totalItems) {
-        System.out.println("Added this internship:");
-        System.out.println(internshipInfo);
-        System.out.println("Now you have " + totalItems + " internship(s) in the list.");
-    }
-
-    public static void printRemoveInternship(String internshipInfo, int totalItems) {
-        System.out.println("Removed this internship:");
-        System.out.println(internshipInfo);
-        System.out.println("Now you have " + totalItems + " internship(s) in the list.");
+    public static List<String> formatExit() {
+        return List.of("Thank you for using Internity! Goodbye!");
     }
 
     /**
-     * Prints a confirmation message after successfully updating an internship field.
+     * Returns a confirmation message after successfully adding an internship.
      *
      * <p>
-     * This method displays a message indicating that a specific field of an internship
-     * has been successfully updated, along with the new value of that field.
+     * The message acknowledges that a new internship has been added and shows the internship's
+     * details, which are obtained by invoking the {@link Internship#toString()} method of the
+     * added {@code Internship} object.
      * </p>
      *
-     * @param field    the name of the field that was updated (e.g., "company", "role")
-     * @param index    the index of the internship in the list (0-based)
-     * @param newValue the new value assigned to the updated field
+     * @param internshipInfo details of the internship that was added
+     * @param totalItems     the number of internships in the list after adding
+     * @return the message lines
      */
-    public static void printUpdateInternship(String field, int index, String newValue) {
-        System.out.printf("Internship %s at index %d successfully updated to: %s%n",
-                field.toLowerCase(),
-                index + 1,
-                newValue);
+    public static List<String> formatAddInternship(String internshipInfo, int totalItems) {
+        return List.of("Added this internship:", internshipInfo,
+                "Now you have " + totalItems + " internship(s) in the list.");
+    }
+
+    public static List<String> formatRemoveInternship(String internshipInfo, int totalItems) {
+        return List.of("Removed this internship:", internshipInfo,
+                "Now you have " + totalItems + " internship(s) in the list.");
     }
 
     /**
-     * Prints a summary of the internship update, showing both the original and updated details.
+     * Returns a summary of the internship update, showing both the original and updated details.
      *
      * <p>
-     * This method displays a message indicating that an internship at a specific index
-     * has been successfully updated. It then prints the original internship details
-     * followed by the updated internship details, using the {@link Internship#toString()}
-     * method for formatting.
+     * The summary states that the internship at a specific index has been successfully updated,
+     * followed by the original and the updated internship details, using the
+     * {@link Internship#toString()} method for formatting.
      * </p>
      *
-     * @param index            the index of the internship in the list (0-based)
-     * @param oldInternship    the original {@code Internship} object before the update
+     * @param index             the index of the internship in the list (0-based)
+     * @param oldInternship     the original {@code Internship} object before the update
      * @param updatedInternship the updated {@code Internship} object after the update
+     * @return the message lines
      */
-    public static void printUpdateSummary(int index, Internship oldInternship, Internship updatedInternship) {
-        System.out.println("Internship at index " + (index + 1) + " successfully updated:");
-        System.out.println("Original:\n" + oldInternship.toString());
-        System.out.println("Updated:\n" + updatedInternship.toString());
+    public static List<String> formatUpdateSummary(int index, Internship oldInternship,
+            Internship updatedInternship) {
+        return List.of("Internship at index " + (index + 1) + " successfully updated:",
+                "Original:", oldInternship.toString(),
+                "Updated:", updatedInternship.toString());
     }
 
-    public static void printInternshipListEmpty() {
-        System.out.println("Your internship list is currently empty.");
+    public static List<String> formatInternshipListEmpty() {
+        return List.of("Your internship list is currently empty.");
     }
 
-    public static void printNoInternshipFound() {
-        System.out.println("No internships with this company or role found.");
+    public static List<String> formatNoInternshipFound() {
+        return List.of("No internships with this company or role found.");
+    }
+
+    public static void printAskUsername() {
+        System.out.println("What is your name?");
+    }
+
+    public static List<String> formatSetUsername(String username) {
+        return List.of("Username set to " + username);
     }
 
     /**
-     * Prints the header for the internship list with a custom message.
+     * Returns the names of a field that start with the given prefix, with the number of
+     * internships using each name.
      *
-     * <p>
-     * This method displays a provided message followed by a formatted header row
-     * for the internship list. The header includes columns for index, company,
-     * role, deadline, pay, and status, with appropriate spacing for readability.
-     * </p>
+     * @param fieldName   the plural name of the completed field, e.g. "Companies"
+     * @param prefix      the prefix that was completed
+     * @param completions the completed names in display order, mapped to their counts
+     * @return the message lines
+     */
+    public static List<String> formatCompletions(String fieldName, String prefix,
+            Map<String, Integer> completions) {
+        if (completions.isEmpty()) {
+            return List.of("No " + fieldName.toLowerCase() + " start with \"" + prefix + "\".");
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(fieldName + " starting with \"" + prefix + "\":");
+        for (Map.Entry<String, Integer> entry : completions.entrySet()) {
+            lines.add("  " + entry.getKey() + " (" + entry.getValue() + ")");
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the outcome of removing duplicate internship applications.
      *
-     * @param message the custom message to display before the header
+     * @param removedCount the number of applications removed
+     * @param totalItems   the number of applications left in the list
+     * @return the message lines
      */
-    public static void printInternshipListHeader(String message) {
-        System.out.println(message);
-        Ui.printHorizontalLine();
-        System.out.printf(FORMAT_HEADER,
-                "No.", "Company", "Role", "Deadline", "Pay", "Status");
-        Ui.printHorizontalLine();
+    public static List<String> formatRemoveDuplicates(int removedCount, int totalItems) {
+        if (removedCount == 0) {
+            return List.of("No duplicate applications found.");
+        }
+        return List.of("Removed " + removedCount + " duplicate application(s). Now you have " + totalItems
+                + " internship(s) in the list.");
     }
 
     /**
-     * Prints the details of a single internship in a formatted manner.
+     * Returns the outcome of saving a view.
      *
-     * <p>
-     * This method displays the details of the given {@link Internship} object
-     * in a tabular format, including its index, company name, role, deadline,
-     * pay, and status. The details are aligned according to predefined column widths
-     * for consistent presentation.
-     * </p>
+     * @param name   the name of the saved view
+     * @param filter the criteria and order of the view
+     * @param count  the number of internships currently in the view
+     * @return the message lines
+     */
+    public static List<String> formatSaveView(String name, ViewFilter filter, int count) {
+        return List.of("Saved view \"" + name + "\" (" + filter + ") with " + count + " internship(s).");
+    }
+
+    /**
+     * Returns the saved views with their criteria.
      *
-     * @param index      the index of the internship in the list (0-based)
-     * @param internship the {@code Internship} object whose details are to be printed
+     * @param filters the names of the saved views in display order, mapped to their filters
+     * @return the message lines
      */
-    public static void printInternshipListContent(int index, Internship internship) {
-        System.out.printf(FORMAT_CONTENT,
-                index + 1,
-                internship.getCompany(),
-                internship.getRole(),
-                internship.getDeadline().toString(),
-                internship.getPay(),
-                internship.getStatus()
-        );
+    public static List<String> formatSavedViews(Map<String, ViewFilter> filters) {
+        if (filters.isEmpty()) {
+            return List.of("You have no saved views. Save one with: view save NAME FILTER");
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("Here are your saved views:");
+        for (Map.Entry<String, ViewFilter> entry : filters.entrySet()) {
+            lines.add("  " + entry.getKey() + ": " + entry.getValue());
+        }
+        return lines;
     }
 
-    public static void printAskUsername() {
-        System.out.println("What is your name?");
+    /**
+     * Returns one row per company with its number of applications, lowest, highest and average pay,
+     * and the number of applications in each status that occurs.
+     *
+     * @param summaries the company summaries in display order
+     * @return the message lines
+     */
+    public static List<String> formatCompanySummaries(Collection<CompanyAggregates.Summary> summaries) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Here are your applications by company:");
+        lines.add(DIVIDER);
+        lines.add(String.format(FORMAT_COMPANY_HEADER, "Company", "Apps", "Min pay", "Max pay", "Avg pay",
+                "Status mix"));
+        lines.add(DIVIDER);
+        for (CompanyAggregates.Summary summary : summaries) {
+            StringBuilder statusMix = new StringBuilder();
+            for (Status status : Status.values()) {
+                int count = summary.getStatusCount(status);
+                if (count == 0) {
+                    continue;
+                }
+                if (statusMix.length() > 0) {
+                    statusMix.append(", ");
+                }
+                statusMix.append(Status.canonical(status.name())).append(' ').append(count);
+            }
+            lines.add(String.format(FORMAT_COMPANY_CONTENT, summary.getName(), summary.getCount(),
+                    summary.getMinPay(), summary.getMaxPay(), summary.getAveragePay(), statusMix));
+        }
+        return lines;
+    }
+
+    public static List<String> formatNoInternshipDue(String period) {
+        return List.of("No internships are due " + period + ".");
+    }
+
+    public static List<String> formatNoUpcomingDeadline(String status) {
+        return List.of("No " + status + " internships are due from today onwards.");
     }
 
-    public static void printSetUsername(String username) {
-        System.out.println("Username set to " + username);
+    public static List<String> formatViewEmpty(String name) {
+        return List.of("No internships in view \"" + name + "\".");
+    }
+
+    /**
+     * Returns the counters of the cache of repeated read command results.
+     *
+     * @param hits     the number of results replayed from the cache
+     * @param misses   the number of results that had to be computed
+     * @param size     the number of results currently cached
+     * @param capacity the maximum number of results cached
+     * @return the message lines
+     */
+    public static List<String> formatCacheStats(long hits, long misses, int size, int capacity) {
+        long lookups = hits + misses;
+        String hitRate = lookups == 0 ? "-" : String.format("%.1f%%", 100.0 * hits / lookups);
+        return List.of("Result cache for find, list and dashboard:",
+                "  Hits     : " + hits,
+                "  Misses   : " + misses,
+                "  Hit rate : " + hitRate,
+                "  Entries  : " + size + " / " + capacity);
     }
 
-    public static void printHelp() {
+    public static List<String> formatHelp() {
         String commandList = """
                 Here are the available commands:
 
                   - add       : Add a new internship application with company, role, deadline, and pay.
                   - delete    : Remove an internship application at the specified index.
-                  - find      : Search and list internship applications matching a keyword.
+                  - dedup     : Remove applications with the same company, role and deadline as an earlier one.
+                  - find      : Search by keyword, or rank applications by several terms (all/, any/, fuzzy/).
+                  - complete  : List existing company or role names starting with the given letters.
+                  - due       : Display applications due this week (week/) or this month (month/).
+                  - next      : Display the application with the given status (status/) that is due next.
                   - list      : Display all internship applications, optionally sorted by deadline.
+                  - view      : Save a filter under a name and show its applications again later.
                   - update    : Update any field of an internship application at the specified index.
                   - username  : Set your username for personalised greetings.
+                  - companies : Summarise applications, pay and statuses per company.
                   - dashboard : View statistics about your internship applications.
+                  - stats     : Show how often repeated find, list and dashboard results were reused.
                   - help      : Display this list again. Your guide to managing internships.
                   - exit      : Terminate this session. Your progress will be saved.
 
                 For verbose instructions, refer to the user guide.
                 """;
-        System.out.print(commandList);
+        return commandList.lines().collect(Collectors.toList());
     }
 }
@@ -0,0 +1,116 @@
+package internity.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import internity.core.InternshipList;
+
+class ApiServerTest {
+    @TempDir
+    Path tempDir;
+
+    private ApiServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new ApiServer(tempDir.resolve("internships.txt").toString(), 0);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+    }
+
+    @Test
+    void post_validBody_addsAndSavesInternship() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/internships",
+                "{\"company\": \"Google\", \"role\": \"SWE\", \"deadline\": \"01-01-2030\", \"pay\": 5000}");
+
+        assertEquals(201, response.statusCode());
+        assertEquals("{\"internship\":{\"index\":1,\"company\":\"Google\",\"role\":\"SWE\","
+                + "\"deadline\":\"01-01-2030\",\"pay\":5000,\"status\":\"Pending\"}}", response.body());
+        assertTrue(Files.readString(tempDir.resolve("internships.txt")).contains("Google | SWE"));
+    }
+
+    @Test
+    void get_listAndFind_returnMatchingInternships() throws Exception {
+        send("POST", "/api/internships",
+                "{\"company\": \"Google\", \"role\": \"SWE\", \"deadline\": \"01-01-2030\", \"pay\": 5000}");
+        send("POST", "/api/internships",
+                "{\"company\": \"Meta\", \"role\": \"Data\", \"deadline\": \"01-01-2029\", \"pay\": 4000}");
+
+        String sorted = send("GET", "/api/internships?sort=asc", null).body();
+        String found = send("GET", "/api/internships/find?q=goo", null).body();
+
+        assertTrue(sorted.indexOf("Meta") < sorted.indexOf("Google"));
+        assertTrue(sorted.contains("\"index\":2,\"company\":\"Meta\""));
+        assertTrue(found.contains("Google"));
+        assertTrue(!found.contains("Meta"));
+    }
+
+    @Test
+    void patchAndDelete_existingInternship_changeList() throws Exception {
+        send("POST", "/api/internships",
+                "{\"company\": \"Google\", \"role\": \"SWE\", \"deadline\": \"01-01-2030\", \"pay\": 5000}");
+
+        HttpResponse<String> updated = send("PATCH", "/api/internships/1", "{\"status\": \"applied\"}");
+        HttpResponse<String> deleted = send("DELETE", "/api/internships/1", null);
+
+        assertEquals(200, updated.statusCode());
+        assertTrue(updated.body().contains("\"status\":\"Applied\""));
+        assertEquals(200, deleted.statusCode());
+        assertEquals(0, InternshipList.size());
+    }
+
+    @Test
+    void postAndPatch_valueContainingTag_rejectedWithoutChange() throws Exception {
+        HttpResponse<String> added = send("POST", "/api/internships",
+                "{\"company\": \"Foo pay/999\", \"role\": \"SWE\", \"deadline\": \"01-01-2030\", \"pay\": 5000}");
+        assertEquals(400, added.statusCode());
+        assertTrue(added.body().contains("company"));
+        assertEquals(0, InternshipList.size());
+
+        send("POST", "/api/internships",
+                "{\"company\": \"Foo\", \"role\": \"SWE\", \"deadline\": \"01-01-2030\", \"pay\": 5000}");
+        assertEquals(400, send("PATCH", "/api/internships/1", "{\"role\": \"Dev status/offer\"}").statusCode());
+        assertEquals(400, send("PATCH", "/api/internships/1%20pay/1", "{\"role\": \"Dev\"}").statusCode());
+        assertEquals(400, send("DELETE", "/api/internships/1%202", null).statusCode());
+        assertEquals("Pending", InternshipList.get(0).getStatus());
+        assertEquals("SWE", InternshipList.get(0).getRole());
+        assertEquals(5000, InternshipList.get(0).getPay());
+    }
+
+    @Test
+    void requests_invalid_returnErrors() throws Exception {
+        assertEquals(400, send("POST", "/api/internships", "{\"company\": ").statusCode());
+        assertEquals(400, send("DELETE", "/api/internships/5", null).statusCode());
+        assertEquals(404, send("GET", "/api/nothing", null).statusCode());
+        assertEquals(405, send("PUT", "/api/internships", "{}").statusCode());
+        assertTrue(send("GET", "/api/dashboard", null).body().contains("\"total\":0"));
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,72 @@
+package internity.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.LogManager;
+
+import internity.api.ApiServer;
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+/**
+ * Measures the throughput of the {@link ApiServer} for the list and dashboard endpoints, with many
+ * requests in flight at once.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.ApiBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N} and the number of requests
+ * in flight with {@code -Dinternity.benchmark.concurrency=N}.
+ * </p>
+ */
+public class ApiBenchmark {
+    public static void main(String[] args) throws Exception {
+        int records = Integer.getInteger("internity.benchmark.records", 100);
+        int concurrency = Integer.getInteger("internity.benchmark.concurrency", 64);
+
+        LogManager.getLogManager().reset();
+        Path storage = Files.createTempFile("internity-benchmark", ".txt");
+        Files.delete(storage);
+        ApiServer server = new ApiServer(storage.toString(), 0);
+        server.start();
+        for (int i = 0; i < records; i++) {
+            InternshipList.add(new Internship("Company" + i, "Role" + (i % 100),
+                    new Date(1 + i % 28, 1 + i % 12, 2030), i % 10_000));
+        }
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String base = "http://127.0.0.1:" + server.getPort();
+        try {
+            for (String path : new String[] {"/api/internships", "/api/dashboard"}) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(base + path)).build();
+                run(client, request, concurrency, 1_000);
+                int requests = 10_000;
+                long start = System.nanoTime();
+                run(client, request, concurrency, requests);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("%-18s: %8.0f requests/s%n", path, requests / seconds);
+            }
+        } finally {
+            server.stop(0);
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    private static void run(HttpClient client, HttpRequest request, int concurrency, int requests) {
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < requests; i++) {
+            int slot = i % concurrency;
+            if (inFlight[slot] != null) {
+                inFlight[slot].join();
+            }
+            inFlight[slot] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(Arrays.stream(inFlight)
+                .filter(future -> future != null).toArray(CompletableFuture[]::new)).join();
+    }
+}
@@ -0,0 +1,57 @@
+package internity.benchmark;
+
+import java.util.logging.LogManager;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.CompletionIndex;
+
+/**
+ * Measures the latency of company and role completions on the {@link CompletionIndex}.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.CompleteBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class CompleteBenchmark {
+    private static final String[] ROLES = {
+        "Software Engineer", "Data Scientist", "Product Manager", "Janitor", "Researcher", "Designer"
+    };
+
+    public static void main(String[] args) {
+        int records = Integer.getInteger("internity.benchmark.records", 1_000_000);
+
+        LogManager.getLogManager().reset();
+        InternshipList.clear();
+        for (int i = 0; i < records; i++) {
+            InternshipList.add(new Internship("Company" + (i % 50_000) + " Labs",
+                    ROLES[i % ROLES.length] + " " + (i % 1_000),
+                    new Date(1 + i % 28, 1 + i % 12, 2025),
+                    i % 10_000));
+        }
+
+        CompletionIndex index = InternshipList.getCompletionIndex();
+        run(index, CompletionIndex.Field.COMPANY, "");
+        run(index, CompletionIndex.Field.COMPANY, "company1");
+        run(index, CompletionIndex.Field.COMPANY, "company12345");
+        run(index, CompletionIndex.Field.ROLE, "soft");
+    }
+
+    private static void run(CompletionIndex index, CompletionIndex.Field field, String prefix) {
+        int warmups = 20_000;
+        int runs = 100_000;
+        int results = 0;
+        for (int i = 0; i < warmups; i++) {
+            results += index.complete(field, prefix, 5).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            results += index.complete(field, prefix, 5).size();
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / runs;
+        System.out.printf("%-8s %-14s %8.2f us/query (%d results)%n",
+                field, "\"" + prefix + "\"", micros, results / (warmups + runs));
+    }
+}
@@ -0,0 +1,69 @@
+package internity.benchmark;
+
+import java.util.logging.LogManager;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.DeadlineIndex;
+
+/**
+ * Compares a scan of the list with the {@link DeadlineIndex} for "due this week" queries and for
+ * the nearest deadline shown on the dashboard.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.DueBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class DueBenchmark {
+    public static void main(String[] args) throws Exception {
+        int records = Integer.getInteger("internity.benchmark.records", 1_000_000);
+
+        LogManager.getLogManager().reset();
+        InternshipList.clear();
+        // deadlines spread over ten years, so a week holds about 0.2% of the records
+        for (int i = 0; i < records; i++) {
+            InternshipList.add(new Internship("Company" + (i % 50_000), "Role" + (i % 1_000),
+                    new Date(1 + i % 28, 1 + (i / 28) % 12, 2020 + (i / 336) % 10), i % 10_000));
+        }
+
+        Date from = new Date(1, 6, 2025);
+        Date to = new Date(8, 6, 2025);
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        DeadlineIndex index = InternshipList.getDeadlineIndex();
+
+        int scanRuns = 20;
+        int scanResults = 0;
+        long start = System.nanoTime();
+        for (int run = 0; run < scanRuns; run++) {
+            for (int i = 0; i < InternshipList.size(); i++) {
+                Date deadline = InternshipList.get(i).getDeadline();
+                if (deadline.compareTo(from) >= 0 && deadline.compareTo(to) < 0) {
+                    scanResults++;
+                }
+            }
+        }
+        double scanMillis = (System.nanoTime() - start) / 1e6 / scanRuns;
+
+        int indexRuns = 2_000;
+        int indexResults = 0;
+        start = System.nanoTime();
+        for (int run = 0; run < indexRuns; run++) {
+            indexResults += index.dueBetween(fromDay, toDay).size();
+        }
+        double indexMillis = (System.nanoTime() - start) / 1e6 / indexRuns;
+
+        int nearestRuns = 100_000;
+        start = System.nanoTime();
+        for (int run = 0; run < nearestRuns; run++) {
+            InternshipList.findNearestDeadlineInternship();
+        }
+        double nearestMicros = (System.nanoTime() - start) / 1e3 / nearestRuns;
+
+        System.out.printf("due week, scan : %8.3f ms/query (%d results)%n", scanMillis, scanResults / scanRuns);
+        System.out.printf("due week, index: %8.3f ms/query (%d results)%n", indexMillis, indexResults / indexRuns);
+        System.out.printf("nearest, index : %8.3f us/query%n", nearestMicros);
+    }
+}
@@ -0,0 +1,80 @@
+package internity.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.LogManager;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+/**
+ * Measures how {@link InternshipList#filterIndices} scales with the number of worker threads.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.FindBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class FindBenchmark {
+    private static final String[] COMPANIES = {
+        "Google", "Meta", "Microsoft", "Amazon", "Netflix", "Shopee", "Grab", "Sea", "Stripe", "Apple"
+    };
+    private static final String[] ROLES = {
+        "Software Engineer", "Data Scientist", "Product Manager", "Janitor", "Researcher", "Designer"
+    };
+
+    public static void main(String[] args) {
+        int records = Integer.getInteger("internity.benchmark.records", 2_000_000);
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        LogManager.getLogManager().reset();
+        InternshipList.clear();
+        for (int i = 0; i < records; i++) {
+            InternshipList.add(new Internship(
+                    COMPANIES[i % COMPANIES.length] + " " + (i % 997),
+                    ROLES[i % ROLES.length],
+                    new Date(1 + i % 28, 1 + i % 12, 2025),
+                    i % 10_000));
+        }
+        InternshipList.setParallelThreshold(1);
+
+        String keyword = "netflix 99";
+        System.out.printf("Filtering %,d records for \"%s\"%n", records, keyword);
+
+        double baseline = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            double millis = time(pool, keyword);
+            if (threads == 1) {
+                baseline = millis;
+            }
+            System.out.printf("%3d thread(s): %8.2f ms  (%.2fx)%n", threads, millis, baseline / millis);
+            pool.shutdown();
+            if (threads == maxThreads) {
+                break;
+            }
+        }
+    }
+
+    private static double time(ForkJoinPool pool, String keyword) {
+        int warmups = 5;
+        int runs = 10;
+        int matches = 0;
+        for (int i = 0; i < warmups; i++) {
+            matches += filter(pool, keyword);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            matches += filter(pool, keyword);
+        }
+        long elapsed = System.nanoTime() - start;
+        assert matches > 0 : "Benchmark keyword should match some records";
+        return elapsed / 1e6 / runs;
+    }
+
+    private static int filter(ForkJoinPool pool, String keyword) {
+        return InternshipList.filterIndices(internship ->
+                internship.getCompany().toLowerCase().contains(keyword)
+                        || internship.getRole().toLowerCase().contains(keyword), pool).length;
+    }
+}
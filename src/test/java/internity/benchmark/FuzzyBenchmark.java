@@ -0,0 +1,91 @@
+package internity.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import internity.index.TermTrie;
+import internity.index.Levenshtein;
+
+/**
+ * Compares fuzzy term lookups on a {@link TermTrie} against a brute-force scan of the same dictionary.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.FuzzyBenchmark}.
+ * The dictionary size can be set with {@code -Dinternity.benchmark.terms=N}.
+ * </p>
+ */
+public class FuzzyBenchmark {
+    public static void main(String[] args) {
+        int termCount = Integer.getInteger("internity.benchmark.terms", 100_000);
+        Random random = new Random(42);
+
+        List<String> terms = new ArrayList<>(termCount);
+        TermTrie tree = new TermTrie();
+        while (tree.size() < termCount) {
+            String term = randomTerm(random);
+            if (!tree.contains(term)) {
+                tree.add(term);
+                terms.add(term);
+            }
+        }
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            queries.add(misspell(terms.get(random.nextInt(terms.size())), random));
+        }
+
+        System.out.printf("Dictionary of %,d distinct terms, %d misspelt queries%n", termCount, queries.size());
+        for (int maxEdits = 1; maxEdits <= 2; maxEdits++) {
+            final int edits = maxEdits;
+            double treeMicros = time(queries, query -> tree.search(query, edits).size());
+            double scanMicros = time(queries, query -> scan(terms, query, edits));
+            System.out.printf("k=%d  trie    %9.1f us/query   brute force %9.1f us/query%n",
+                    maxEdits, treeMicros, scanMicros);
+        }
+    }
+
+    private static double time(List<String> queries, Lookup lookup) {
+        int matches = 0;
+        for (String query : queries) {
+            matches += lookup.count(query);
+        }
+        long start = System.nanoTime();
+        int rounds = 5;
+        for (int round = 0; round < rounds; round++) {
+            for (String query : queries) {
+                matches += lookup.count(query);
+            }
+        }
+        assert matches > 0 : "Misspelt queries should match their source terms";
+        return (System.nanoTime() - start) / 1e3 / (rounds * queries.size());
+    }
+
+    private static int scan(List<String> terms, String query, int maxEdits) {
+        int count = 0;
+        for (String term : terms) {
+            if (Levenshtein.distance(query, term) <= maxEdits) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String randomTerm(Random random) {
+        int length = 4 + random.nextInt(7);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+
+    private static String misspell(String term, Random random) {
+        int position = random.nextInt(term.length());
+        return term.substring(0, position) + term.substring(position + 1);
+    }
+
+    private interface Lookup {
+        int count(String query);
+    }
+}
@@ -0,0 +1,50 @@
+package internity.benchmark;
+
+import java.util.Locale;
+import java.util.logging.LogManager;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+/**
+ * Reports the heap retained by the internship list and its indexes.
+ *
+ * <p>
+ * Every record is given its own copies of the company and role strings, as parsing user input or
+ * the storage file does. Not a unit test. Run with
+ * {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.HeapBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class HeapBenchmark {
+    private static final String[] ROLES = {
+        "Software Engineer", "Data Scientist", "Product Manager", "Janitor", "Researcher", "Designer"
+    };
+
+    public static void main(String[] args) {
+        int records = Integer.getInteger("internity.benchmark.records", 1_000_000);
+
+        LogManager.getLogManager().reset();
+        long baseline = usedHeap();
+        for (int i = 0; i < records; i++) {
+            String company = new String(("Company" + (i % 20_000) + " Pte Ltd").toCharArray());
+            String role = new String((ROLES[i % ROLES.length] + " Intern").toCharArray());
+            InternshipList.add(new Internship(company, role, new Date(1 + i % 28, 1 + i % 12, 2025), i % 10_000));
+        }
+        long used = usedHeap() - baseline;
+
+        System.out.printf(Locale.ROOT, "%,d records retain %,.1f MB (%.0f bytes per record)%n",
+                records, used / 1e6, (double) used / records);
+        System.out.printf(Locale.ROOT, "%,d distinct companies, %,d distinct roles%n",
+                InternshipList.getCompanyDictionary().size(), InternshipList.getRoleDictionary().size());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
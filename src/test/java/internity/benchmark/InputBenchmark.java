@@ -0,0 +1,74 @@
+package internity.benchmark;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+import internity.core.CommandReader;
+import internity.core.InternityException;
+
+/**
+ * Compares how fast {@link Scanner}, {@link BufferedReader} and {@link CommandReader} read the lines of
+ * a large script of commands.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.InputBenchmark}.
+ * The line count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class InputBenchmark {
+    private static final String[] COMMANDS = {
+        "list sort/asc", "find Software Engineer", "add company/Google role/SWE deadline/01-01-2030 pay/5000",
+        "update 3 status/Interviewing", "dashboard", "due week/"
+    };
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws IOException, InternityException {
+        int lines = Integer.getInteger("internity.benchmark.records", 5_000_000);
+
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            script.append(COMMANDS[i % COMMANDS.length]).append('\n');
+        }
+        byte[] bytes = script.toString().getBytes(StandardCharsets.UTF_8);
+
+        double scannerMillis = Double.MAX_VALUE;
+        double bufferedMillis = Double.MAX_VALUE;
+        double commandReaderMillis = Double.MAX_VALUE;
+        long checksum = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            Scanner scanner = new Scanner(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+            while (scanner.hasNextLine()) {
+                checksum += scanner.nextLine().length();
+            }
+            scannerMillis = Math.min(scannerMillis, (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            BufferedReader bufferedReader = new BufferedReader(
+                    new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                checksum += line.length();
+            }
+            bufferedMillis = Math.min(bufferedMillis, (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            CommandReader commandReader = new CommandReader(
+                    new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+            while ((line = commandReader.readLine()) != null) {
+                checksum += line.length();
+            }
+            commandReaderMillis = Math.min(commandReaderMillis, (System.nanoTime() - start) / 1e6);
+        }
+
+        System.out.printf("Scanner        : %8.1f ms (%.1f M lines/s)%n", scannerMillis, lines / scannerMillis / 1e3);
+        System.out.printf("BufferedReader : %8.1f ms (%.1f M lines/s)%n", bufferedMillis, lines / bufferedMillis / 1e3);
+        System.out.printf("CommandReader  : %8.1f ms (%.1f M lines/s)%n", commandReaderMillis,
+                lines / commandReaderMillis / 1e3);
+        System.out.println("(checksum " + checksum + ")");
+    }
+}
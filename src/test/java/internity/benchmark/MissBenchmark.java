@@ -0,0 +1,60 @@
+package internity.benchmark;
+
+import java.util.Locale;
+import java.util.logging.LogManager;
+
+import internity.core.AsciiString;
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.MembershipFilter;
+
+/**
+ * Compares answering a keyword search that matches nothing through the {@link MembershipFilter}
+ * against scanning the list for it.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.MissBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}, and the false positive rate
+ * with {@code -Dinternity.bloom.fpp=P}.
+ * </p>
+ */
+public class MissBenchmark {
+    public static void main(String[] args) {
+        int records = Integer.getInteger("internity.benchmark.records", 1_000_000);
+
+        LogManager.getLogManager().reset();
+        InternshipList.clear();
+        for (int i = 0; i < records; i++) {
+            InternshipList.add(new Internship("Company" + (i % 50_000) + " Labs", "Engineer " + (i % 1_000),
+                    new Date(1 + i % 28, 1 + i % 12, 2025), i % 10_000));
+        }
+
+        MembershipFilter filter = InternshipList.getMembershipFilter();
+        int queries = 10_000;
+        int maybe = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            String keyword = "stripe" + i;
+            if (filter.mightContainSubstring(AsciiString.of(keyword))) {
+                maybe++;
+            }
+        }
+        double filterMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        int scans = 10;
+        start = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            String keyword = "stripe" + i;
+            InternshipList.filterIndices(internship -> internship.getCompany().toLowerCase().contains(keyword)
+                    || internship.getRole().toLowerCase().contains(keyword));
+        }
+        double scanMicros = (System.nanoTime() - start) / 1e3 / scans;
+
+        System.out.printf(Locale.ROOT, "%,d records, false positive rate %.3f%n", records,
+                filter.getFalsePositiveRate());
+        System.out.printf(Locale.ROOT, "filter %10.2f us/query (%d of %d not ruled out)%n",
+                filterMicros, maybe, queries);
+        System.out.printf(Locale.ROOT, "scan   %10.2f us/query%n", scanMicros);
+    }
+}
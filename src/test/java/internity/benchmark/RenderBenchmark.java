@@ -0,0 +1,80 @@
+package internity.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.logic.commands.CommandResult;
+import internity.ui.ResultRenderer;
+
+/**
+ * Compares printing a large table with one {@code printf} per row against the {@link ResultRenderer},
+ * first through {@link System#out} and then through the file channel of standard output.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.RenderBenchmark},
+ * with standard output redirected, e.g. to {@code /dev/null}; the timings are printed to standard error.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class RenderBenchmark {
+    private static final String FORMAT_CONTENT = "%5d %-30s %-30s %-15s %-10d %-10s%n";
+    private static final int RUNS = 10;
+
+    public static void main(String[] args) {
+        int records = Integer.getInteger("internity.benchmark.records", 100_000);
+
+        List<CommandResult.Row> rows = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            rows.add(new CommandResult.Row(i, new Internship("Company" + (i % 50_000), "Role" + (i % 1_000),
+                    new Date(1 + i % 28, 1 + (i / 28) % 12, 2020 + (i / 336) % 10), i % 10_000)));
+        }
+        CommandResult result = CommandResult.table("Here are the internships in your list:", rows);
+
+        String rendered = ResultRenderer.render(result);
+
+        double printfMillis = Double.MAX_VALUE;
+        double rendererMillis = Double.MAX_VALUE;
+        double renderedMillis = Double.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (CommandResult.Row row : rows) {
+                Internship internship = row.getInternship();
+                System.out.printf(FORMAT_CONTENT, row.getIndex() + 1, internship.getCompany(),
+                        internship.getRole(), internship.getDeadline().toString(), internship.getPay(),
+                        internship.getStatus());
+            }
+            printfMillis = Math.min(printfMillis, (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            ResultRenderer.print(result);
+            rendererMillis = Math.min(rendererMillis, (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            ResultRenderer.print(rendered);
+            renderedMillis = Math.min(renderedMillis, (System.nanoTime() - start) / 1e6);
+        }
+
+        System.setProperty("internity.output.channel", "true");
+        ResultRenderer.enableChannelOutput();
+        double channelMillis = Double.MAX_VALUE;
+        double channelRenderedMillis = Double.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            ResultRenderer.print(result);
+            channelMillis = Math.min(channelMillis, (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            ResultRenderer.print(rendered);
+            channelRenderedMillis = Math.min(channelRenderedMillis, (System.nanoTime() - start) / 1e6);
+        }
+
+        String channelNote = System.console() == null ? "" : " (standard output is a terminal, channel not used)";
+        System.err.printf("printf per row               : %8.1f ms for %d rows%n", printfMillis, records);
+        System.err.printf("renderer, System.out         : %8.1f ms%n", rendererMillis);
+        System.err.printf("renderer, channel            : %8.1f ms%s%n", channelMillis, channelNote);
+        System.err.printf("pre-rendered text, System.out: %8.1f ms%n", renderedMillis);
+        System.err.printf("pre-rendered text, channel   : %8.1f ms%s%n", channelRenderedMillis, channelNote);
+    }
+}
@@ -0,0 +1,71 @@
+package internity.benchmark;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.LogManager;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.SearchIndex;
+
+/**
+ * Measures the latency of ranked searches on the {@link SearchIndex}, both for the best
+ * {@link InternshipList#DEFAULT_SEARCH_LIMIT} matches shown by {@code find} and for a full ranking.
+ *
+ * <p>
+ * Not a unit test. Run with {@code ./gradlew benchmark -PbenchmarkClass=internity.benchmark.SearchBenchmark}.
+ * The record count can be set with {@code -Dinternity.benchmark.records=N}.
+ * </p>
+ */
+public class SearchBenchmark {
+    private static final String[] ROLES = {
+        "Software Engineer", "Data Scientist", "Product Manager", "Janitor", "Researcher", "Designer"
+    };
+
+    public static void main(String[] args) {
+        int records = Integer.getInteger("internity.benchmark.records", 1_000_000);
+
+        LogManager.getLogManager().reset();
+        InternshipList.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < records; i++) {
+            InternshipList.add(new Internship("Company" + (i % 50_000) + " Labs",
+                    ROLES[i % ROLES.length] + " " + (i % 1_000),
+                    new Date(1 + i % 28, 1 + i % 12, 2025),
+                    i % 10_000));
+        }
+        System.out.printf("Indexed %,d records in %.0f ms%n", records, (System.nanoTime() - start) / 1e6);
+
+        SearchIndex index = InternshipList.getSearchIndex();
+        run(index, "selective AND", List.of("company123", "designer"), true, 10_000);
+        run(index, "selective OR", List.of("company123", "company456"), false, 10_000);
+        run(index, "broad AND", List.of("janitor", "999"), true, 10_000);
+        // every sixth record is an engineer, and every record is at some company's labs
+        run(index, "broad OR", List.of("engineer"), false, 50);
+        run(index, "all match OR", List.of("labs"), false, 10);
+    }
+
+    private static void run(SearchIndex index, String label, List<String> terms, boolean matchAll, int runs) {
+        double topMicros = time(runs, () -> index.search(terms, matchAll, InternshipList.DEFAULT_SEARCH_LIMIT));
+        double allMicros = time(runs, () -> index.search(terms, matchAll, Integer.MAX_VALUE));
+        System.out.printf("%-14s %-28s top %d: %9.1f us/query, all: %9.1f us/query (%d results)%n",
+                label, terms, InternshipList.DEFAULT_SEARCH_LIMIT, topMicros, allMicros,
+                index.search(terms, matchAll, 1).getMatchCount());
+    }
+
+    private static double time(int runs, Supplier<SearchIndex.Ranking> query) {
+        int warmups = runs / 5;
+        int results = 0;
+        for (int i = 0; i < warmups; i++) {
+            results += query.get().getInternships().size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            results += query.get().getInternships().size();
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / runs;
+        assert results >= 0;
+        return micros;
+    }
+}
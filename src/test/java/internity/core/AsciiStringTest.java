@@ -0,0 +1,75 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class AsciiStringTest {
+    @Test
+    void of_asciiValue_roundTrips() {
+        AsciiString value = AsciiString.of("Google | SWE");
+
+        assertEquals("Google | SWE", value.toString());
+        assertEquals(12, value.length());
+        assertEquals('G', value.charAt(0));
+        assertEquals("SWE", value.substring(9, 12));
+    }
+
+    @Test
+    void of_nonAsciiValue_throwsIllegalArgumentException() {
+        assertFalse(AsciiString.isAscii("Café"));
+        assertThrows(IllegalArgumentException.class, () -> AsciiString.of("Café"));
+    }
+
+    @Test
+    void toLowerCase_isCachedAndReusesLowercaseValues() {
+        AsciiString value = AsciiString.of("Google");
+        AsciiString lower = value.toLowerCase();
+
+        assertEquals("google", lower.toString());
+        assertSame(lower, value.toLowerCase());
+        assertSame(lower, lower.toLowerCase());
+
+        AsciiString alreadyLower = AsciiString.of("meta");
+        assertSame(alreadyLower, alreadyLower.toLowerCase());
+    }
+
+    @Test
+    void containsIgnoreCase_matchesAnyCase() {
+        AsciiString value = AsciiString.of("Software Engineer");
+
+        assertTrue(value.containsIgnoreCase(AsciiString.of("engineer")));
+        assertTrue(value.containsIgnoreCase(AsciiString.of("e e")));
+        assertTrue(value.containsIgnoreCase(AsciiString.of("")));
+        assertFalse(value.containsIgnoreCase(AsciiString.of("analyst")));
+        assertFalse(value.containsIgnoreCase(AsciiString.of("engineers")));
+    }
+
+    @Test
+    void writeTo_replacesSpecialCharacter() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        AsciiString.of("A|B||C").writeTo(out, '|', "%7C");
+
+        assertEquals("A%7CB%7C%7CC", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void equalsAndHashCode_compareCharacters() {
+        AsciiString google = AsciiString.of("Google");
+
+        assertEquals(google, AsciiString.of("Google"));
+        assertEquals(google.hashCode(), AsciiString.of("Google").hashCode());
+        assertNotEquals(google, AsciiString.of("google"));
+        assertTrue(google.compareTo(AsciiString.of("Meta")) < 0);
+    }
+}
@@ -0,0 +1,126 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchRunnerTest {
+    private final PrintStream originalOut = System.out;
+    private final PrintStream originalErr = System.err;
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        InternshipList.clear();
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+    }
+
+    @Test
+    void run_validScript_savesOnceWithoutChrome() throws IOException {
+        Path file = tempDir.resolve("internships.txt");
+        BatchRunner runner = new BatchRunner(file.toString(), 0, BatchRunner.FailurePolicy.STOP);
+
+        int status = runner.run(script(
+                "# comment",
+                "add company/Google role/SWE deadline/01-01-2030 pay/100",
+                "",
+                "add company/Meta role/SWE deadline/02-01-2030 pay/200"));
+
+        assertEquals(BatchRunner.EXIT_SUCCESS, status);
+        assertFalse(outContent.toString().contains("____"));
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(3).startsWith("Meta | SWE"));
+    }
+
+    @Test
+    void run_failureWithStopPolicy_skipsRestAndSavesEarlierChanges() throws IOException {
+        Path file = tempDir.resolve("internships.txt");
+        BatchRunner runner = new BatchRunner(file.toString(), 0, BatchRunner.FailurePolicy.STOP);
+
+        int status = runner.run(script(
+                "add company/Google role/SWE deadline/01-01-2030 pay/100",
+                "delete 5",
+                "add company/Meta role/SWE deadline/02-01-2030 pay/200"));
+
+        assertEquals(BatchRunner.EXIT_FAILURE, status);
+        assertTrue(errContent.toString().contains("Error on line 2"));
+        assertEquals(3, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void run_failureWithContinuePolicy_runsRest() throws IOException {
+        Path file = tempDir.resolve("internships.txt");
+        BatchRunner runner = new BatchRunner(file.toString(), 0, BatchRunner.FailurePolicy.CONTINUE);
+
+        int status = runner.run(script(
+                "add company/Google role/SWE deadline/01-01-2030 pay/100",
+                "unknown",
+                "add company/Meta role/SWE deadline/02-01-2030 pay/200"));
+
+        assertEquals(BatchRunner.EXIT_FAILURE, status);
+        assertEquals(4, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void run_lineTooLong_reportsLineAndRunsRest() throws IOException {
+        Path file = tempDir.resolve("internships.txt");
+        BatchRunner runner = new BatchRunner(file.toString(), 0, BatchRunner.FailurePolicy.CONTINUE);
+
+        int status = runner.run(script(
+                "add company/Google role/SWE deadline/01-01-2030 pay/100",
+                "find " + "x".repeat(CommandReader.DEFAULT_MAX_LINE_LENGTH),
+                "add company/Meta role/SWE deadline/02-01-2030 pay/200"));
+
+        assertEquals(BatchRunner.EXIT_FAILURE, status);
+        assertTrue(errContent.toString().startsWith("Error on line 2: Input line is too long."));
+        assertEquals(4, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void run_commitEvery_savesBeforeEnd() throws IOException {
+        Path file = tempDir.resolve("internships.txt");
+        BatchRunner runner = new BatchRunner(file.toString(), 1, BatchRunner.FailurePolicy.STOP);
+
+        runner.run(script(
+                "add company/Google role/SWE deadline/01-01-2030 pay/100",
+                "list",
+                "exit",
+                "add company/Meta role/SWE deadline/02-01-2030 pay/200"));
+
+        assertEquals(3, Files.readAllLines(file).size());
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
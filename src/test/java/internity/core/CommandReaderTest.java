@@ -0,0 +1,112 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CommandReaderTest {
+
+    @Test
+    void readLine_mixedTerminators_matchesBufferedReader() throws Exception {
+        String text = "list\r\nfind Google\n\nhelp\rexit\r\r\ndashboard";
+        assertEquals(readAll(new BufferedReader(new StringReader(text))),
+                readAll(new CommandReader(new StringReader(text))));
+    }
+
+    @Test
+    void readLine_randomTextInSmallReads_matchesBufferedReader() throws Exception {
+        Random random = new Random(49);
+        StringBuilder text = new StringBuilder();
+        String alphabet = "ab \n\r\n";
+        for (int i = 0; i < 300_000; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            if (random.nextInt(10_000) == 0) {
+                text.append("c".repeat(100_000));
+            }
+        }
+
+        List<String> expected = readAll(new BufferedReader(new StringReader(text.toString())));
+        assertEquals(expected, readAll(new CommandReader(new TrickleReader(text.toString()), 200_000)));
+    }
+
+    @Test
+    void readLine_emptyInput_returnsNull() throws Exception {
+        CommandReader reader = new CommandReader(new StringReader(""));
+        assertFalse(reader.hasNextLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void readLine_lineAtMaxLength_isReturned() throws Exception {
+        CommandReader reader = new CommandReader(new StringReader("abcde\nfg"), 5);
+        assertEquals("abcde", reader.readLine());
+        assertEquals("fg", reader.readLine());
+    }
+
+    @Test
+    void readLine_lineTooLong_skipsLineAndContinues() throws Exception {
+        String longLine = "x".repeat(200_000);
+        CommandReader reader = new CommandReader(new StringReader("list\n" + longLine + "\r\nhelp\n" + longLine), 10);
+
+        assertEquals("list", reader.readLine());
+        assertThrows(InternityException.class, reader::readLine);
+        assertTrue(reader.hasNextLine());
+        assertEquals("help", reader.readLine());
+        assertThrows(InternityException.class, reader::readLine);
+        assertFalse(reader.hasNextLine());
+        assertNull(reader.readLine());
+    }
+
+    private static List<String> readAll(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static List<String> readAll(CommandReader reader) throws IOException, InternityException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * A reader that returns at most a few characters per read, so lines and {@code \r\n} pairs are split
+     * across reads.
+     */
+    private static final class TrickleReader extends Reader {
+        private final StringReader in;
+        private final Random random = new Random(7);
+
+        private TrickleReader(String text) {
+            in = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return in.read(buffer, offset, Math.min(length, 1 + random.nextInt(7)));
+        }
+
+        @Override
+        public void close() {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InternityDaemonTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+    }
+
+    @Test
+    void run_clientCommands_areServedAndSavedUntilExit() throws Exception {
+        Path storage = tempDir.resolve("internships.txt");
+        Path socket = tempDir.resolve("internity.sock");
+        InternityDaemon daemon = new InternityDaemon(storage.toString(), socket.toString());
+        int[] status = new int[1];
+        Thread thread = new Thread(() -> status[0] = daemon.run());
+        thread.start();
+        waitForSocket(socket);
+
+        String added = send(socket, "add company/Google role/SWE deadline/01-01-2030 pay/100");
+        String listed = send(socket, "ls");
+        String unknown = send(socket, "bogus");
+        send(socket, "exit");
+        thread.join(5000);
+
+        assertTrue(added.contains("Now you have 1 internship(s) in the list."));
+        assertTrue(listed.contains("Google"));
+        assertEquals("Unknown command: bogus" + System.lineSeparator(), unknown);
+        assertEquals(0, status[0]);
+        assertFalse(Files.exists(socket));
+        assertTrue(Files.readString(storage).contains("Google | SWE | 01-01-2030 | 100 | Pending"));
+    }
+
+    @Test
+    void run_idleAndEmptyConnections_doNotBlockOrAnswer() throws Exception {
+        Path socket = tempDir.resolve("internity.sock");
+        InternityDaemon daemon = new InternityDaemon(tempDir.resolve("internships.txt").toString(), socket.toString());
+        Thread thread = new Thread(daemon::run);
+        thread.start();
+        waitForSocket(socket);
+
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(socket);
+        String empty;
+        String added;
+        try (SocketChannel idle = SocketChannel.open(address)) {
+            try (SocketChannel channel = SocketChannel.open(address)) {
+                channel.shutdownOutput();
+                empty = new String(Channels.newInputStream(channel).readAllBytes(), StandardCharsets.UTF_8);
+            }
+            added = send(socket, "add company/Google role/SWE deadline/01-01-2030 pay/100");
+        } finally {
+            send(socket, "exit");
+            thread.join(5000);
+        }
+
+        assertEquals("", empty);
+        assertTrue(added.contains("Now you have 1 internship(s) in the list."), added);
+        assertFalse(thread.isAlive());
+    }
+
+    private static String send(Path socket, String commandLine) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, InternityClient.send(socket.toString(), commandLine, out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void waitForSocket(Path socket) throws InterruptedException {
+        for (int i = 0; i < 500 && !Files.exists(socket); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(socket), "Daemon did not start listening");
+    }
+}
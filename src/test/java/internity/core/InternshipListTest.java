@@ -3,8 +3,10 @@ package internity.core;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import internity.logic.commands.ListCommand;
+import internity.ui.ResultRenderer;
 
 
 class InternshipListTest {
@@ -67,7 +70,7 @@ class InternshipListTest {
 
     @Test
     public void listAll_whenEmpty_expectedOutcome() throws InternityException {
-        InternshipList.listAll(ListCommand.OrderType.DEFAULT);
+        ResultRenderer.print(InternshipList.listAll(ListCommand.OrderType.DEFAULT));
         assertTrue(outContent.toString().contains("Your internship list is currently empty."));
     }
 
@@ -75,7 +78,7 @@ class InternshipListTest {
     public void listAll_withEntry_doesNotOutputNoInternshipsFound() throws Exception {
         Internship internship = new Internship("Company A", "Developer", new Date(1,1,2025), 5000);
         InternshipList.add(internship);
-        InternshipList.listAll(ListCommand.OrderType.DEFAULT);
+        ResultRenderer.print(InternshipList.listAll(ListCommand.OrderType.DEFAULT));
 
         String output = outContent.toString();
         assertFalse(output.contains("No internships found. Please add an internship first."));
@@ -212,4 +215,47 @@ class InternshipListTest {
         assertEquals("OlderCo", InternshipList.get(0).getCompany());
         assertEquals("NewerCo", InternshipList.get(1).getCompany());
     }
+
+    @Test
+    void filterIndices_aboveParallelThreshold_matchesSequentialOrder() {
+        for (int i = 0; i < 20_000; i++) {
+            String company = (i % 7 == 0) ? "Google" : "Company" + i;
+            InternshipList.add(new Internship(company, "Role" + i, new Date(1, 1, 2025), i));
+        }
+
+        int originalThreshold = InternshipList.getParallelThreshold();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InternshipList.setParallelThreshold(Integer.MAX_VALUE);
+            int[] sequential = InternshipList.filterIndices(i -> i.getCompany().equals("Google"), pool);
+
+            InternshipList.setParallelThreshold(1);
+            int[] parallel = InternshipList.filterIndices(i -> i.getCompany().equals("Google"), pool);
+
+            assertEquals(20_000 / 7 + 1, sequential.length);
+            assertArrayEquals(sequential, parallel);
+        } finally {
+            InternshipList.setParallelThreshold(originalThreshold);
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void findInternship_aboveParallelThreshold_printsMatchesInListOrder() {
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Alphabet", "Google Intern", new Date(1, 1, 2025), 100));
+
+        int originalThreshold = InternshipList.getParallelThreshold();
+        try {
+            InternshipList.setParallelThreshold(1);
+            ResultRenderer.print(InternshipList.findInternship("google"));
+        } finally {
+            InternshipList.setParallelThreshold(originalThreshold);
+        }
+
+        String output = outContent.toString();
+        assertFalse(output.contains("Meta"));
+        assertTrue(output.indexOf("Google") < output.indexOf("Alphabet"));
+    }
 }
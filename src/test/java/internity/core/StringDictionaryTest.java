@@ -0,0 +1,59 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void acquire_sameValue_returnsSameCode() {
+        StringDictionary dictionary = new StringDictionary();
+        int google = dictionary.acquire(AsciiString.of("Google"));
+        int meta = dictionary.acquire(AsciiString.of("Meta"));
+
+        assertEquals(google, dictionary.acquire(AsciiString.of(new String("Google".toCharArray()))));
+        assertNotEquals(google, meta);
+        assertEquals(2, dictionary.refCount(google));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    void release_lastReference_freesAndReusesCode() {
+        StringDictionary dictionary = new StringDictionary();
+        int google = dictionary.acquire(AsciiString.of("Google"));
+        dictionary.acquire(AsciiString.of("Google"));
+
+        dictionary.release(google);
+        assertEquals("Google", dictionary.valueOf(google).toString());
+
+        dictionary.release(google);
+        assertEquals(-1, dictionary.codeOf(AsciiString.of("Google")));
+        assertEquals(0, dictionary.size());
+        assertEquals(google, dictionary.acquire(AsciiString.of("Stripe")));
+    }
+
+    @Test
+    void internshipList_addAndUpdate_sharesInternedValues() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship(new String("Google".toCharArray()), "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship(new String("Google".toCharArray()), "SRE", new Date(1, 1, 2025), 1));
+
+        assertSame(InternshipList.get(0).getCompanyAscii(), InternshipList.get(1).getCompanyAscii());
+        assertEquals(InternshipList.get(0).getCompanyCode(), InternshipList.get(1).getCompanyCode());
+
+        InternshipList.updateCompany(0, "Meta");
+        InternshipList.delete(1);
+        StringDictionary companies = InternshipList.getCompanyDictionary();
+        assertEquals(1, companies.size());
+        assertEquals(-1, companies.codeOf(AsciiString.of("Google")));
+        assertEquals("Meta", companies.valueOf(InternshipList.get(0).getCompanyCode()).toString());
+    }
+}
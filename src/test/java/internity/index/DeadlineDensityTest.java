@@ -0,0 +1,78 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class DeadlineDensityTest {
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void countBetween_deadlinesInRange_countsHalfOpenRange() {
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2030), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(7, 1, 2030), 100));
+        InternshipList.add(new Internship("C", "SWE", new Date(8, 1, 2030), 100));
+        DeadlineDensity density = InternshipList.getDeadlineDensity();
+
+        long start = new Date(1, 1, 2030).toEpochDay();
+        assertEquals(2, density.countBetween(start, start + 7));
+        assertEquals(3, density.countBetween(start, start + 8));
+        assertEquals(0, density.countBetween(start + 8, start + 100));
+    }
+
+    @Test
+    void countBetween_deadlinesOutsideWindow_countsAll() {
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 1900), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2500), 100));
+        InternshipList.add(new Internship("C", "SWE", new Date(1, 1, 2030), 100));
+        DeadlineDensity density = InternshipList.getDeadlineDensity();
+
+        assertEquals(3, density.countBetween(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2));
+        assertEquals(1, density.countBetween(new Date(1, 1, 2400).toEpochDay(), Long.MAX_VALUE / 2));
+    }
+
+    @Test
+    void countBetween_randomMutations_matchesScan() throws InternityException {
+        Random random = new Random(39);
+        for (int i = 0; i < 300; i++) {
+            InternshipList.add(new Internship("C" + i, "SWE", randomDate(random), 100));
+        }
+        for (int i = 0; i < 200; i++) {
+            int index = random.nextInt(InternshipList.size());
+            if (random.nextBoolean()) {
+                InternshipList.updateDeadline(index, randomDate(random));
+            } else {
+                InternshipList.delete(index);
+            }
+        }
+
+        DeadlineDensity density = InternshipList.getDeadlineDensity();
+        for (int i = 0; i < 50; i++) {
+            long from = randomDate(random).toEpochDay();
+            long to = from + random.nextInt(2000);
+            int expected = 0;
+            for (int j = 0; j < InternshipList.size(); j++) {
+                long day = InternshipList.get(j).getDeadline().toEpochDay();
+                if (day >= from && day < to) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, density.countBetween(from, to));
+        }
+    }
+
+    private static Date randomDate(Random random) {
+        return new Date(1 + random.nextInt(28), 1 + random.nextInt(12), 1950 + random.nextInt(300));
+    }
+}
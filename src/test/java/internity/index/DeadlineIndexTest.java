@@ -0,0 +1,59 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class DeadlineIndexTest {
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void nearest_futureDeadlines_returnsFirstInListOnNearestDay() {
+        InternshipList.add(new Internship("A", "SWE", new Date(5, 1, 2030), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(3, 1, 2030), 100));
+        InternshipList.add(new Internship("C", "SWE", new Date(3, 1, 2030), 100));
+        InternshipList.add(new Internship("D", "SWE", new Date(1, 1, 2000), 100));
+        DeadlineIndex index = InternshipList.getDeadlineIndex();
+
+        long today = new Date(2, 1, 2030).toEpochDay();
+        assertEquals("B", index.nearest(today).getCompany());
+        assertEquals(2, index.countDueOn(new Date(3, 1, 2030).toEpochDay()));
+    }
+
+    @Test
+    void nearest_allDeadlinesPassed_returnsLatest() {
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 1960), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(2, 1, 1960), 100));
+        InternshipList.add(new Internship("C", "SWE", new Date(2, 1, 1960), 100));
+
+        assertEquals("B", InternshipList.getDeadlineIndex().nearest(0).getCompany());
+    }
+
+    @Test
+    void dueBetween_afterUpdateAndDelete_tracksDeadlines() throws InternityException {
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 3, 2030), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(9, 3, 2030), 100));
+        InternshipList.add(new Internship("C", "SWE", new Date(2, 3, 2030), 100));
+        DeadlineIndex index = InternshipList.getDeadlineIndex();
+
+        InternshipList.updateDeadline(1, new Date(1, 3, 2030));
+        InternshipList.delete(2);
+
+        List<Internship> due = index.dueBetween(new Date(1, 3, 2030).toEpochDay(), new Date(8, 3, 2030).toEpochDay());
+        assertEquals(List.of("A", "B"), due.stream().map(Internship::getCompany).toList());
+        assertEquals(List.of(), index.dueBetween(5, 5));
+        assertNull(new DeadlineIndex().nearest(0));
+    }
+}
@@ -0,0 +1,36 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+
+class DuplicateIndexTest {
+    private static final Date DEADLINE = new Date(1, 1, 2030);
+
+    @Test
+    void keyOf_spacingAndCase_normalisedAway() {
+        assertEquals(DuplicateIndex.keyOf("google", "swe intern", DEADLINE),
+                DuplicateIndex.keyOf("  Google ", "SWE   Intern\t", DEADLINE));
+    }
+
+    @Test
+    void keyOf_randomInput_matchesRegexNormalisation() {
+        Random random = new Random(31);
+        String[] pieces = {" ", "  ", "\t", "A", "b", "Co", "x.y"};
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(7);
+            for (int j = 0; j < length; j++) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String value = input.toString();
+            String expected = value.trim().replaceAll("\\s+", " ").toLowerCase();
+            assertEquals(expected + '\n' + expected + '\n' + DEADLINE,
+                    DuplicateIndex.keyOf(value, value, DEADLINE), "value: \"" + value + "\"");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.AsciiString;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class MembershipFilterTest {
+    private final MembershipFilter filter = InternshipList.getMembershipFilter();
+
+    @BeforeEach
+    void setUp() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "Software Engineer", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Meta", "Data Scientist", new Date(1, 1, 2025), 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void mightContainSubstring_presentKeywords_returnsTrue() {
+        assertTrue(filter.mightContainSubstring(AsciiString.of("goog")));
+        assertTrue(filter.mightContainSubstring(AsciiString.of("e e")));
+        assertTrue(filter.mightContainSubstring(AsciiString.of("ta")));
+        assertTrue(filter.mightContainSubstring(AsciiString.of("software engineer")));
+    }
+
+    @Test
+    void mightMatch_allAndAny_respectsMatchMode() {
+        assertTrue(filter.mightMatch(List.of("data", "scientist"), true));
+        assertFalse(filter.mightMatch(List.of("data", "zzzqqq"), true));
+        assertTrue(filter.mightMatch(List.of("zzzqqq", "meta"), false));
+        assertFalse(filter.mightMatch(List.of("-- "), false));
+    }
+
+    @Test
+    void onRemove_deletedCompany_isRuledOut() throws InternityException {
+        InternshipList.delete(1);
+
+        assertFalse(filter.mightContainSubstring(AsciiString.of("meta")));
+        assertFalse(filter.mightMatch(List.of("scientist"), false));
+        assertTrue(filter.mightContainSubstring(AsciiString.of("google")));
+    }
+
+    @Test
+    void onAdd_manyInternships_keepsFalsePositivesRare() {
+        for (int i = 0; i < 20_000; i++) {
+            InternshipList.add(new Internship("Company" + i, "Role" + i, new Date(1, 1, 2025), 100));
+        }
+
+        for (int i = 0; i < 20_000; i += 997) {
+            assertTrue(filter.mightMatch(List.of("company" + i), true));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightMatch(List.of("absent" + i), true)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 10_000 * filter.getFalsePositiveRate() * 3);
+    }
+}
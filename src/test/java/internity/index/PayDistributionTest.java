@@ -0,0 +1,81 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class PayDistributionTest {
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void percentile_smallList_usesNearestRank() throws InternityException {
+        for (int pay : new int[] {5000, 1000, 3000, 3000, 9000}) {
+            InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2030), pay));
+        }
+        PayDistribution distribution = InternshipList.getPayDistribution();
+
+        assertEquals(3000, distribution.percentile(50));
+        assertEquals(9000, distribution.percentile(90));
+        assertEquals(1000, distribution.percentile(20));
+        assertArrayEquals(new int[] {0, 1, 2, 1, 0, 1}, distribution.bandCounts());
+
+        InternshipList.updatePay(4, 0);
+        InternshipList.delete(2);
+        assertEquals(1000, distribution.percentile(50));
+        assertEquals(5000, distribution.percentile(90));
+        assertArrayEquals(new int[] {1, 1, 1, 1, 0, 0}, distribution.bandCounts());
+    }
+
+    @Test
+    void percentile_randomMutations_matchesSortedList() throws InternityException {
+        Random random = new Random(42);
+        List<Integer> pays = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int action = random.nextInt(4);
+            if (action == 0 && !pays.isEmpty()) {
+                int index = random.nextInt(pays.size());
+                InternshipList.delete(index);
+                pays.remove(index);
+            } else if (action == 1 && !pays.isEmpty()) {
+                int index = random.nextInt(pays.size());
+                int pay = random.nextInt(50) * 200;
+                InternshipList.updatePay(index, pay);
+                pays.set(index, pay);
+            } else {
+                int pay = random.nextInt(50) * 200;
+                InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2030), pay));
+                pays.add(pay);
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(pays);
+        Collections.sort(sorted);
+        PayDistribution distribution = InternshipList.getPayDistribution();
+        assertEquals(sorted.size(), distribution.size());
+        for (int percentile = 1; percentile <= 100; percentile++) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+            assertEquals((int) sorted.get(rank - 1), distribution.percentile(percentile));
+        }
+    }
+
+    @Test
+    void percentile_empty_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new PayDistribution().percentile(50));
+    }
+}
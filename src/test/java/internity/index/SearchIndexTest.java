@@ -0,0 +1,130 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class SearchIndexTest {
+    private final SearchIndex index = InternshipList.getSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "Software Engineer", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Meta", "Data Engineer", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Google Cloud", "Google Software Engineer", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Shopee", "Designer", new Date(1, 1, 2025), 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void tokenize_mixedCaseAndPunctuation_returnsLowercaseTerms() {
+        assertEquals(List.of("software", "engineer", "c"), Tokenizer.tokenize("Software Engineer (C++)"));
+        assertTrue(Tokenizer.tokenize(" -- ").isEmpty());
+    }
+
+    @Test
+    void onAdd_indexesTermFrequencies() throws InternityException {
+        int id = InternshipList.get(2).getId();
+
+        assertEquals(4, index.size());
+        assertEquals(2, index.termFrequency("google", id));
+        assertEquals(2, index.documentFrequency("google"));
+        assertEquals(3, index.documentFrequency("engineer"));
+    }
+
+    @Test
+    void search_matchAll_onlyReturnsInternshipsWithEveryTerm() throws InternityException {
+        List<Internship> results = index.search(List.of("google", "engineer"), true);
+
+        assertEquals(2, results.size());
+        // the third internship mentions google twice, so it ranks first
+        assertEquals(InternshipList.get(2), results.get(0));
+        assertEquals(InternshipList.get(0), results.get(1));
+    }
+
+    @Test
+    void search_matchAny_returnsInternshipsWithSomeTerm() {
+        List<Internship> results = index.search(List.of("designer", "meta"), false);
+
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    void search_unknownTerm_returnsNothingForMatchAll() {
+        assertTrue(index.search(List.of("google", "netflix"), true).isEmpty());
+        assertEquals(2, index.search(List.of("google", "netflix"), false).size());
+    }
+
+    @Test
+    void search_afterUpdateAndDelete_reflectsChanges() throws InternityException {
+        InternshipList.updateCompany(3, "Netflix");
+        InternshipList.delete(1);
+
+        assertEquals(1, index.search(List.of("netflix"), true).size());
+        assertTrue(index.search(List.of("shopee"), true).isEmpty());
+        assertTrue(index.search(List.of("meta"), true).isEmpty());
+        assertEquals(0, index.documentFrequency("data"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void search_withLimit_returnsBestOfFullRanking() throws InternityException {
+        for (int i = 0; i < 200; i++) {
+            String role = i % 3 == 0 ? "Engineer Engineer" : "Engineer x";
+            InternshipList.add(new Internship("Company" + (i % 7) + " Labs", role, new Date(1, 1, 2025), 100));
+        }
+        for (int i = 150; i > 0; i -= 3) {
+            InternshipList.delete(i);
+        }
+        InternshipList.updateRole(10, "Labs Engineer");
+
+        List<Internship> all = index.search(List.of("engineer", "labs"), false);
+        SearchIndex.Ranking top = index.search(List.of("engineer", "labs"), false, 10);
+
+        assertEquals(all.size(), top.getMatchCount());
+        assertEquals(all.subList(0, 10), top.getInternships());
+        assertEquals(InternshipList.get(10), all.get(0));
+        for (int i = 1; i < all.size(); i++) {
+            Internship previous = all.get(i - 1);
+            Internship current = all.get(i);
+            boolean isSameScore = index.termFrequency("engineer", previous.getId())
+                    == index.termFrequency("engineer", current.getId())
+                    && index.termFrequency("labs", previous.getId()) == index.termFrequency("labs", current.getId());
+            if (isSameScore) {
+                assertTrue(previous.getId() < current.getId(), "equal scores should keep list order");
+            }
+        }
+    }
+
+    @Test
+    void fuzzySearch_misspeltTerms_matchesWithinEditDistance() throws InternityException {
+        List<Internship> results = index.fuzzySearch(List.of("gogle", "enginer"), -1);
+
+        assertEquals(2, results.size());
+        assertTrue(results.contains(InternshipList.get(0)));
+        assertTrue(results.contains(InternshipList.get(2)));
+        assertTrue(index.fuzzySearch(List.of("gogle"), 0).isEmpty());
+    }
+
+    @Test
+    void fuzzySearch_afterDelete_dropsRemovedTerms() throws InternityException {
+        InternshipList.delete(3);
+
+        assertTrue(index.fuzzySearch(List.of("shope"), 1).isEmpty());
+    }
+}
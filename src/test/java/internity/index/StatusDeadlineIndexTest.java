@@ -0,0 +1,50 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.Status;
+
+class StatusDeadlineIndexTest {
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void next_sameDeadline_returnsFirstInList() throws InternityException {
+        InternshipList.add(new Internship("A", "SWE", new Date(5, 1, 2030), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(3, 1, 2030), 100));
+        InternshipList.add(new Internship("C", "SWE", new Date(3, 1, 2030), 100));
+        for (int i = 0; i < 3; i++) {
+            InternshipList.updateStatus(i, "Applied");
+        }
+        StatusDeadlineIndex index = InternshipList.getStatusDeadlineIndex();
+
+        assertEquals("B", index.next(Status.APPLIED, new Date(1, 1, 2030).toEpochDay()).getCompany());
+        assertEquals("A", index.next(Status.APPLIED, new Date(4, 1, 2030).toEpochDay()).getCompany());
+        assertNull(index.next(Status.APPLIED, new Date(6, 1, 2030).toEpochDay()));
+    }
+
+    @Test
+    void next_otherStatusesAfterDay_notReturned() throws InternityException {
+        InternshipList.add(new Internship("A", "SWE", new Date(5, 1, 2030), 100));
+        InternshipList.add(new Internship("B", "SWE", new Date(3, 1, 2030), 100));
+        InternshipList.updateStatus(1, "Offer");
+        StatusDeadlineIndex index = InternshipList.getStatusDeadlineIndex();
+
+        long day = new Date(4, 1, 2030).toEpochDay();
+        assertNull(index.next(Status.OFFER, day));
+        assertEquals("A", index.next(Status.PENDING, day).getCompany());
+
+        InternshipList.delete(0);
+        assertNull(index.next(Status.PENDING, day));
+    }
+}
@@ -0,0 +1,74 @@
+package internity.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TermTrieTest {
+    @Test
+    void distance_knownPairs_returnsEditDistance() {
+        assertEquals(0, Levenshtein.distance("google", "google"));
+        assertEquals(1, Levenshtein.distance("gogle", "google"));
+        assertEquals(3, Levenshtein.distance("kitten", "sitting"));
+        assertEquals(2, Levenshtein.distance("kitten", "sitting", 1));
+    }
+
+    @Test
+    void search_withinEditDistance_returnsMatchesWithDistances() {
+        TermTrie trie = new TermTrie();
+        trie.add("google");
+        trie.add("goggles");
+        trie.add("meta");
+        trie.add("microsoft");
+
+        assertEquals(Map.of("google", 1), trie.search("gogle", 1));
+        assertEquals(Map.of("google", 1, "goggles", 2), trie.search("gogle", 2));
+        assertEquals(Map.of("meta", 0), trie.search("meta", 0));
+        assertTrue(trie.search("amazon", 2).isEmpty());
+    }
+
+    @Test
+    void remove_countsOccurrences_keepsTermUntilLastRemoval() {
+        TermTrie trie = new TermTrie();
+        trie.add("data");
+        trie.add("data");
+        trie.add("database");
+
+        trie.remove("data");
+        assertTrue(trie.contains("data"));
+        assertEquals(2, trie.size());
+
+        trie.remove("data");
+        assertFalse(trie.contains("data"));
+        assertTrue(trie.contains("database"));
+        assertEquals(1, trie.size());
+
+        trie.remove("database");
+        assertEquals(0, trie.size());
+        assertTrue(trie.search("data", 2).isEmpty());
+    }
+
+    @Test
+    void complete_prefix_returnsMostFrequentFirst() {
+        TermTrie trie = new TermTrie();
+        trie.add("goldman");
+        trie.add("google");
+        trie.add("google");
+        trie.add("go");
+        trie.add("meta");
+
+        assertEquals(List.of("google", "go", "goldman"), trie.complete("go", 5));
+        assertEquals(List.of("google"), trie.complete("go", 1));
+        assertEquals(List.of("google", "go"), trie.complete("", 2));
+        assertTrue(trie.complete("x", 5).isEmpty());
+
+        trie.remove("google");
+        trie.remove("google");
+        assertEquals(List.of("go", "goldman"), trie.complete("go", 5));
+    }
+}
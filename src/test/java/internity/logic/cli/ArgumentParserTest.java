@@ -2,6 +2,7 @@ package internity.logic.cli;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -186,6 +187,14 @@ class ArgumentParserTest {
         assertThrows(InternityException.class, () -> ArgumentParser.parseUpdateCommandArgs("1 Meta"));
     }
 
+    @Test
+    void parseUpdateCommandArgs_unknownField_reportsColumn() {
+        InternityException e = assertThrows(InternityException.class,
+                () -> ArgumentParser.parseUpdateCommandArgs("1  level/3 company/Meta"));
+        assertEquals("Unknown update field in \"level/3\" at column 4. Allowed: company, role, deadline, pay, status",
+                e.getMessage());
+    }
+
     @Test
     void parseUpdateCommandArgs_emptyCompany_throwsException() {
         assertThrows(InternityException.class, () -> ArgumentParser.parseUpdateCommandArgs("1 company/ "));
@@ -250,6 +259,51 @@ class ArgumentParserTest {
         assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("asc"));
     }
 
+    @Test
+    void parseListCommandArgs_formatJson_returnsUncachedListCommand() throws InternityException {
+        assertNull(ArgumentParser.parseListCommandArgs("format/json").cacheKey());
+        assertNull(ArgumentParser.parseListCommandArgs("sort/desc   format/JSON").cacheKey());
+        assertEquals("list DESCENDING", ArgumentParser.parseListCommandArgs("sort/desc format/table").cacheKey());
+    }
+
+    @Test
+    void parseListCommandArgs_unknownFormat_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("format/xml"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("sort/asc format/"));
+    }
+
+    @Test
+    void parseListCommandArgs_formatBeforeSort_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("format/json sort/asc"));
+    }
+
+    @Test
+    void parseFindCommandArgs_formatJson_keepsKeywordAndSkipsCache() throws InternityException {
+        assertNull(ArgumentParser.parseFindCommandArgs("Software Engineer format/json").cacheKey());
+        assertNull(ArgumentParser.parseFindCommandArgs("fuzzy/gogle format/json").cacheKey());
+        assertEquals("find KEYWORD software engineer",
+                ArgumentParser.parseFindCommandArgs("Software Engineer format/table").cacheKey());
+    }
+
+    @Test
+    void parseFindCommandArgs_unknownFormat_searchedAsKeyword() throws InternityException {
+        assertEquals("find KEYWORD format/x", ArgumentParser.parseFindCommandArgs("format/x").cacheKey());
+        assertEquals("find KEYWORD data format/csv",
+                ArgumentParser.parseFindCommandArgs("data format/csv").cacheKey());
+    }
+
+    @Test
+    void parseFindCommandArgs_onlyFormat_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFindCommandArgs("format/json"));
+    }
+
+    @Test
+    void parseDashboardCommandArgs_format_returnsDashboardInThatFormat() throws InternityException {
+        assertTrue(ArgumentParser.parseDashboardCommandArgs("format/json").cacheKey().startsWith("dashboard JSON"));
+        assertTrue(ArgumentParser.parseDashboardCommandArgs("").cacheKey().startsWith("dashboard TABLE"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDashboardCommandArgs("format/csv"));
+    }
+
     @Test
     void parseListCommandArgs_multipleSortArgs_throwsInternityException() {
         assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("sort/asc sort/desc"));
@@ -294,4 +348,56 @@ class ArgumentParserTest {
         assertTrue(exception.getMessage().toLowerCase().contains("invalid"),
                 "Exception message should indicate invalid username command");
     }
+
+    @Test
+    void parseFindCommandArgs_rankedTerms_returnsFindCommand() throws Exception {
+        assertNotNull(ArgumentParser.parseFindCommandArgs("all/software engineer"));
+        assertNotNull(ArgumentParser.parseFindCommandArgs("any/google meta"));
+    }
+
+    @Test
+    void parseFindCommandArgs_rankedWithoutTerms_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFindCommandArgs("all/"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFindCommandArgs("any/ -- "));
+    }
+
+    @Test
+    void parseCompleteCommandArgs_validArgs_returnsCompleteCommand() throws Exception {
+        assertNotNull(ArgumentParser.parseCompleteCommandArgs("goo"));
+        assertNotNull(ArgumentParser.parseCompleteCommandArgs("company/goo"));
+        assertNotNull(ArgumentParser.parseCompleteCommandArgs("role/"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseCompleteCommandArgs("  "));
+    }
+
+    @Test
+    void parseViewCommandArgs_validArgs_returnsViewCommand() throws Exception {
+        assertNotNull(ArgumentParser.parseViewCommandArgs(""));
+        assertNotNull(ArgumentParser.parseViewCommandArgs("offers"));
+        assertNotNull(ArgumentParser.parseViewCommandArgs("save offers status/offer minpay/5000 sort/asc"));
+        assertNotNull(ArgumentParser.parseViewCommandArgs("save all"));
+    }
+
+    @Test
+    void parseViewCommandArgs_invalidArgs_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseViewCommandArgs("save"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseViewCommandArgs("two words"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseViewCommandArgs("save x status/done"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseViewCommandArgs("save x minpay/-1"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseViewCommandArgs("save x sort/up"));
+        assertThrows(InternityException.class, () ->
+                ArgumentParser.parseViewCommandArgs("save x status/offer status/applied"));
+    }
+
+    @Test
+    void parseNextCommandArgs_validArgs_returnsNextCommand() throws Exception {
+        assertNotNull(ArgumentParser.parseNextCommandArgs("status/interviewing"));
+        assertNotNull(ArgumentParser.parseNextCommandArgs(" status/ APPLIED "));
+    }
+
+    @Test
+    void parseNextCommandArgs_invalidArgs_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseNextCommandArgs(""));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseNextCommandArgs("interviewing"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseNextCommandArgs("status/done"));
+    }
 }
@@ -0,0 +1,74 @@
+package internity.logic.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+
+class CommandLexerTest {
+    private static final String[] TAGS = {"company/", "role/", "deadline/", "pay/", "status/"};
+    private static final String TAG_REGEX = "\\s+(?=company/|role/|deadline/|pay/|status/)";
+
+    @Test
+    void splitCommand_wordAndArgs_trimsAndLowercasesWord() throws InternityException {
+        assertArrayEquals(new String[] {"add", "company/A  role/B"},
+                CommandLexer.splitCommand("  ADD   company/A  role/B  "));
+        assertArrayEquals(new String[] {"list", ""}, CommandLexer.splitCommand("list "));
+    }
+
+    @Test
+    void splitCommand_invalidCharacter_reportsColumn() {
+        InternityException e = assertThrows(InternityException.class,
+                () -> CommandLexer.splitCommand("add company/Caf\u00e9"));
+        assertEquals("Input contains invalid character: '\u00e9' at column 16", e.getMessage());
+    }
+
+    @Test
+    void splitAtTags_randomInput_matchesRegexSplit() {
+        Random random = new Random(42);
+        String[] pieces = {" ", "  ", "company/", "role/", "pay/", "a", "b/", "deadline", "status/x"};
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String args = input.toString();
+            List<String> expected = Arrays.asList(args.split(TAG_REGEX));
+            assertEquals(expected, CommandLexer.splitAtTags(args, TAGS), "args: \"" + args + "\"");
+        }
+    }
+
+    @Test
+    void splitFields_taggedArgs_keepsColumns() {
+        List<CommandLexer.Field> fields = CommandLexer.splitFields("x  company/A role/B", TAGS);
+        assertEquals(3, fields.size());
+        assertEquals(1, fields.get(0).getColumn());
+        assertEquals("company/A", fields.get(1).getText());
+        assertEquals(4, fields.get(1).getColumn());
+        assertEquals(14, fields.get(2).getColumn());
+    }
+
+    @Test
+    void splitFirstWord_randomInput_matchesRegexSplit() {
+        Random random = new Random(7);
+        String[] pieces = {" ", "  ", "save", "x", "status/a"};
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String text = input.toString();
+            assertEquals(Arrays.asList(text.trim().split("\\s+", 2)),
+                    Arrays.asList(CommandLexer.splitFirstWord(text)), "text: \"" + text + "\"");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package internity.logic.cli;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import internity.logic.commands.Command;
 import internity.logic.commands.ExitCommand;
@@ -108,5 +109,21 @@ class CommandParserTest {
         );
         assertEquals("Unknown command: absolutecinema", exception.getMessage());
     }
-}
 
+    @Test
+    void parseInput_fieldErrors_reportColumnInInput() {
+        InternityException outOfOrder = assertThrows(InternityException.class,
+                () -> commandParser.parseInput("add  company/A pay/1 role/B deadline/01-01-2030"));
+        assertTrue(outOfOrder.getMessage().startsWith("role/ should be the second field at column 16.\n"),
+                outOfOrder.getMessage());
+
+        InternityException missing = assertThrows(InternityException.class,
+                () -> commandParser.parseInput("add company/A role/B"));
+        assertTrue(missing.getMessage().startsWith("Invalid add command at column 21.\n"), missing.getMessage());
+
+        InternityException malformed = assertThrows(InternityException.class,
+                () -> commandParser.parseInput("list sort/up"));
+        assertTrue(malformed.getMessage().startsWith("Invalid list command at column 11.\n"),
+                malformed.getMessage());
+    }
+}
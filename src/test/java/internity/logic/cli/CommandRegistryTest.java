@@ -0,0 +1,56 @@
+package internity.logic.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.logic.commands.DashboardCommand;
+import internity.logic.commands.ExitCommand;
+import internity.logic.commands.HelpCommand;
+import internity.logic.commands.ListCommand;
+
+class CommandRegistryTest {
+    private final CommandRegistry registry = CommandRegistry.getDefault();
+
+    @Test
+    void parse_aliasesAndAbbreviations_resolveToCommand() throws InternityException {
+        assertInstanceOf(ListCommand.class, registry.parse("ls", ""));
+        assertInstanceOf(ExitCommand.class, registry.parse("quit", ""));
+        assertInstanceOf(DashboardCommand.class, registry.parse("dash", ""));
+        assertInstanceOf(HelpCommand.class, registry.parse("he", ""));
+    }
+
+    @Test
+    void lookup_ambiguousOrTooShortAbbreviation_returnsNull() {
+        assertNull(registry.lookup("co"));
+        assertNull(registry.lookup("de"));
+        assertNull(registry.lookup("d"));
+        assertNull(registry.lookup("lists"));
+    }
+
+    @Test
+    void lookup_nameThatIsPrefixOfAnotherName_prefersName() {
+        CommandRegistry custom = new CommandRegistry();
+        CommandArgsParser short1 = args -> new HelpCommand();
+        CommandArgsParser long1 = args -> new ExitCommand();
+        custom.register("go", short1);
+        custom.register("gone", long1);
+
+        assertSame(short1, custom.lookup("go"));
+        assertSame(long1, custom.lookup("gon"));
+    }
+
+    @Test
+    void register_duplicateWord_throwsIllegalArgumentException() {
+        CommandRegistry custom = new CommandRegistry();
+        custom.register("go", args -> new HelpCommand(), "run");
+
+        assertThrows(IllegalArgumentException.class, () -> custom.register("run", args -> new HelpCommand()));
+        assertEquals(1, custom.names().size());
+    }
+}
@@ -0,0 +1,84 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.Status;
+import internity.index.CompanyAggregates;
+import internity.utils.DateFormatter;
+
+class CompaniesCommandTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE", DateFormatter.parse("10-12-2025"), 6000));
+        InternshipList.add(new Internship("Meta", "Data Analyst", DateFormatter.parse("01-12-2025"), 4000));
+        InternshipList.add(new Internship("google", "PM", DateFormatter.parse("05-12-2025"), 2000));
+        InternshipList.add(new Internship("Google ", "ML", DateFormatter.parse("07-12-2025"), 9000));
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void aggregates_afterMutations_matchList() throws InternityException {
+        InternshipList.updateStatus(0, "offer");
+        InternshipList.updateStatus(2, "applied");
+        InternshipList.updatePay(3, 1000);
+        InternshipList.updateCompany(1, "Google");
+        InternshipList.delete(0);
+
+        CompanyAggregates aggregates = InternshipList.getCompanyAggregates();
+        CompanyAggregates.Summary google = aggregates.get("GOOGLE");
+        assertEquals(1, aggregates.size());
+        assertEquals(3, google.getCount());
+        assertEquals(1000, google.getMinPay());
+        assertEquals(4000, google.getMaxPay());
+        assertEquals(7000, google.getTotalPay());
+        assertEquals(2333, google.getAveragePay());
+        assertEquals(1, google.getStatusCount(Status.APPLIED));
+        assertEquals(2, google.getStatusCount(Status.PENDING));
+        assertEquals(0, google.getStatusCount(Status.OFFER));
+        assertNull(aggregates.get("Meta"));
+    }
+
+    @Test
+    void execute_printsOneRowPerCompany() throws InternityException {
+        InternshipList.updateStatus(0, "interviewing");
+
+        new CompaniesCommand().execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Here are your applications by company:"));
+        assertTrue(output.contains("Pending 2, Interviewing 1"));
+        assertTrue(output.indexOf("Google") < output.indexOf("Meta"));
+    }
+
+    @Test
+    void execute_emptyList_printsEmptyMessage() throws InternityException {
+        InternshipList.clear();
+
+        new CompaniesCommand().execute();
+
+        assertTrue(outContent.toString().contains("Your internship list is currently empty."));
+    }
+}
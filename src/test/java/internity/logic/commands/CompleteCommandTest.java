@@ -0,0 +1,72 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.CompletionIndex;
+import internity.utils.DateFormatter;
+
+class CompleteCommandTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "Software Engineer", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("google", "Data Engineer", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("Goldman Sachs", "Software Analyst", DateFormatter.parse("01-12-2025"), 100));
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_companyPrefix_listsMostCommonFirst() throws InternityException {
+        new CompleteCommand(CompletionIndex.Field.COMPANY, "GO").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Companies starting with \"GO\":"));
+        assertTrue(output.indexOf("Google (2)") < output.indexOf("Goldman Sachs (1)"));
+        assertFalse(output.contains("Roles"));
+    }
+
+    @Test
+    void execute_noField_completesCompaniesAndRoles() throws InternityException {
+        new CompleteCommand(null, "soft").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("No companies start with \"soft\"."));
+        assertTrue(output.contains("Software Engineer (1)"));
+        assertTrue(output.contains("Software Analyst (1)"));
+    }
+
+    @Test
+    void execute_afterDeleteAndUpdate_dropsUnusedNames() throws InternityException {
+        InternshipList.delete(2);
+        InternshipList.updateRole(1, "Software Engineer");
+
+        new CompleteCommand(null, "g").execute();
+        new CompleteCommand(CompletionIndex.Field.ROLE, "").execute();
+
+        String output = outContent.toString();
+        assertFalse(output.contains("Goldman Sachs"));
+        assertFalse(output.contains("Data Engineer"));
+        assertTrue(output.contains("Software Engineer (2)"));
+    }
+}
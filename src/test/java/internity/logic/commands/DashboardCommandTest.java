@@ -38,6 +38,9 @@ class DashboardCommandTest {
         assertTrue(output.contains("Total Internships:"), "Dashboard should display total internships");
         assertTrue(output.contains("Nearest Deadline:"), "Dashboard should display nearest deadline");
         assertTrue(output.contains("Status Overview:"), "Dashboard should display status overview");
+        assertTrue(output.contains("Pay Distribution:"), "Dashboard should display pay distribution");
+        assertTrue(output.contains("Deadlines per Week:"), "Dashboard should display deadline timeline");
+        assertTrue(output.contains("Next Deadline by Status:"), "Dashboard should display next deadline by status");
     }
 
     @Test
@@ -0,0 +1,76 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.utils.DateFormatter;
+
+class DedupCommandTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() {
+        InternshipList.clear();
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_duplicates_keepsFirstOfEachGroup() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("Meta", "SWE", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("google ", "swe", DateFormatter.parse("01-12-2025"), 200));
+        InternshipList.add(new Internship("Google", "SWE", DateFormatter.parse("02-12-2025"), 100));
+        InternshipList.add(new Internship("GOOGLE", "SWE", DateFormatter.parse("01-12-2025"), 300));
+
+        new DedupCommand().execute();
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Meta", InternshipList.get(1).getCompany());
+        assertEquals(100, InternshipList.get(0).getPay());
+        assertEquals(0, InternshipList.getDuplicateIndex().duplicateCount());
+        assertTrue(outContent.toString().contains("Removed 2 duplicate application(s)."));
+    }
+
+    @Test
+    void execute_noDuplicates_leavesListUnchanged() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE", DateFormatter.parse("01-12-2025"), 100));
+
+        new DedupCommand().execute();
+
+        assertEquals(1, InternshipList.size());
+        assertTrue(outContent.toString().contains("No duplicate applications found."));
+    }
+
+    @Test
+    void addCommand_duplicate_throwsInternityException() throws InternityException {
+        new AddCommand("Google", "SWE", DateFormatter.parse("01-12-2025"), 100).execute();
+
+        InternityException e = assertThrows(InternityException.class, () ->
+                new AddCommand(" GOOGLE", "swe", DateFormatter.parse("01-12-2025"), 500).execute());
+        assertTrue(e.getMessage().contains("index 1"));
+        assertEquals(1, InternshipList.size());
+
+        InternshipList.updateDeadline(0, DateFormatter.parse("05-12-2025"));
+        new AddCommand("Google", "SWE", DateFormatter.parse("01-12-2025"), 100).execute();
+        assertEquals(2, InternshipList.size());
+    }
+}
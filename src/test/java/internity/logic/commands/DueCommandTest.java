@@ -0,0 +1,78 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class DueCommandTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Late", "SWE", daysFromToday(20), 100));
+        InternshipList.add(new Internship("Soon", "SWE", daysFromToday(3), 100));
+        InternshipList.add(new Internship("Today", "SWE", daysFromToday(0), 100));
+        InternshipList.add(new Internship("Past", "SWE", daysFromToday(-1), 100));
+        InternshipList.add(new Internship("Far", "SWE", daysFromToday(40), 100));
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_week_listsDeadlinesInNextSevenDaysInOrder() throws InternityException {
+        new DueCommand(DueCommand.Horizon.WEEK).execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("These internships are due in the next 7 days:"));
+        assertTrue(output.indexOf("Today") < output.indexOf("Soon"));
+        assertFalse(output.contains("Late"));
+        assertFalse(output.contains("Past"));
+    }
+
+    @Test
+    void execute_monthAfterUpdates_reflectsNewDeadlines() throws InternityException {
+        InternshipList.updateDeadline(4, daysFromToday(10));
+        InternshipList.delete(1);
+
+        new DueCommand(DueCommand.Horizon.MONTH).execute();
+
+        String output = outContent.toString();
+        assertTrue(output.indexOf("Today") < output.indexOf("Far"));
+        assertTrue(output.indexOf("Far") < output.indexOf("Late"));
+        assertFalse(output.contains("Soon"));
+    }
+
+    @Test
+    void execute_nothingDue_printsMessage() throws InternityException {
+        InternshipList.clear();
+
+        new DueCommand(DueCommand.Horizon.WEEK).execute();
+
+        assertTrue(outContent.toString().contains("No internships are due in the next 7 days."));
+    }
+
+    private static Date daysFromToday(int days) {
+        LocalDate date = LocalDate.ofEpochDay(Date.getToday().toEpochDay() + days);
+        return new Date(date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+}
@@ -8,10 +8,12 @@ import java.io.PrintStream;
 
 import org.junit.jupiter.api.Test;
 
+import internity.core.InternityException;
+
 class ExitCommandTest {
 
     @Test
-    void execute_printsExitMessage() {
+    void execute_printsExitMessage() throws InternityException {
         ExitCommand exitCommand = new ExitCommand();
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         PrintStream originalOut = System.out;
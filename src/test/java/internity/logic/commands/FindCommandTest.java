@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,6 +85,45 @@ class FindCommandTest {
         assertTrue(output.contains("No internships with this company or role found."));
     }
 
+    /**
+     * Tests that a ranked FindCommand prints the best match first, with its original index.
+     */
+    @Test
+    void execute_rankedSearch_printsBestMatchFirst() throws InternityException {
+        InternshipList.add(new Internship("Meta", "Data Scientist", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("Google", "Software Engineer", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("Stripe", "Data Engineer", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("Shopee", "Designer", DateFormatter.parse("01-12-2025"), 100));
+
+        new FindCommand(List.of("data", "engineer"), FindCommand.SearchType.ANY_TERM).execute();
+
+        String output = outContent.toString();
+        assertFalse(output.contains("Shopee"));
+        assertTrue(output.indexOf("Stripe") < output.indexOf("Google"));
+        assertTrue(output.indexOf("Stripe") < output.indexOf("Meta"));
+        assertTrue(output.contains("    3 Stripe"));
+    }
+
+    /**
+     * Tests that a fuzzy FindCommand tolerates typos in the company name.
+     */
+    @Test
+    void execute_fuzzySearch_matchesMisspeltCompany() throws InternityException {
+        InternshipList.add(new Internship("Google", "Software Engineer", DateFormatter.parse("01-12-2025"), 100));
+        InternshipList.add(new Internship("Microsoft", "Data Scientist", DateFormatter.parse("01-12-2025"), 100));
+
+        new FindCommand(List.of("gogle"), FindCommand.SearchType.FUZZY).execute();
+        String output = outContent.toString();
+        assertTrue(output.contains("Google"));
+        assertFalse(output.contains("Microsoft"));
+
+        outContent.reset();
+        new FindCommand(List.of("micosoft", "scientst"), FindCommand.SearchType.FUZZY).execute();
+        output = outContent.toString();
+        assertTrue(output.contains("    2 Microsoft"));
+        assertFalse(output.contains("Google"));
+    }
+
     /**
      * Tests that FindCommand does not terminate the application.
      */
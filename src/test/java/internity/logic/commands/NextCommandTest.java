@@ -0,0 +1,76 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.Status;
+
+class NextCommandTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Later", "SWE", daysFromToday(9), 100));
+        InternshipList.add(new Internship("Sooner", "SWE", daysFromToday(2), 100));
+        InternshipList.add(new Internship("Overdue", "SWE", daysFromToday(-1), 100));
+        InternshipList.add(new Internship("Pending", "SWE", daysFromToday(1), 100));
+        InternshipList.updateStatus(0, "interviewing");
+        InternshipList.updateStatus(1, "interviewing");
+        InternshipList.updateStatus(2, "interviewing");
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_statusWithUpcomingDeadlines_printsNearest() throws InternityException {
+        new NextCommand(Status.INTERVIEWING).execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("The next deadline among Interviewing internships:"));
+        assertTrue(output.contains("Sooner"));
+        assertFalse(output.contains("Later"));
+        assertFalse(output.contains("Overdue"));
+    }
+
+    @Test
+    void execute_afterStatusAndDeadlineUpdates_reflectsChanges() throws InternityException {
+        InternshipList.updateStatus(1, "Offer");
+        InternshipList.updateDeadline(0, daysFromToday(5));
+
+        new NextCommand(Status.INTERVIEWING).execute();
+        new NextCommand(Status.OFFER).execute();
+
+        String output = outContent.toString();
+        assertTrue(output.indexOf("Later") < output.indexOf("Sooner"));
+    }
+
+    @Test
+    void execute_noUpcomingDeadline_printsMessage() throws InternityException {
+        new NextCommand(Status.APPLIED).execute();
+
+        assertTrue(outContent.toString().contains("No Applied internships are due from today onwards."));
+    }
+
+    private static Date daysFromToday(int days) {
+        return Date.ofEpochDay(Date.getToday().toEpochDay() + days);
+    }
+}
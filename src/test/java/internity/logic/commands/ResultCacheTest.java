@@ -0,0 +1,118 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.utils.DateFormatter;
+
+class ResultCacheTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() throws InternityException {
+        InternshipList.clear();
+        ResultCache.clear();
+        InternshipList.add(new Internship("Google", "SWE", DateFormatter.parse("10-12-2025"), 6000));
+        InternshipList.add(new Internship("Meta", "Data Analyst", DateFormatter.parse("01-12-2025"), 4000));
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+        ResultCache.clear();
+        ResultCache.setCapacity(ResultCache.DEFAULT_CAPACITY);
+    }
+
+    @Test
+    void execute_repeatedRead_replaysSameOutput() throws InternityException {
+        ResultCache.execute(new FindCommand("goo"));
+        String first = outContent.toString();
+        outContent.reset();
+
+        ResultCache.execute(new FindCommand("GOO"));
+
+        assertEquals(first, outContent.toString());
+        assertTrue(first.contains("Google"));
+        assertEquals(1, ResultCache.getHits());
+        assertEquals(1, ResultCache.getMisses());
+    }
+
+    @Test
+    void execute_afterMutation_recomputes() throws InternityException {
+        ResultCache.execute(new ListCommand(ListCommand.OrderType.ASCENDING));
+        InternshipList.updateCompany(1, "Stripe");
+        outContent.reset();
+
+        ResultCache.execute(new ListCommand(ListCommand.OrderType.ASCENDING));
+
+        assertTrue(outContent.toString().contains("Stripe"));
+        assertEquals(0, ResultCache.getHits());
+        assertEquals(2, ResultCache.getMisses());
+    }
+
+    @Test
+    void execute_afterMutation_dropsEntriesOfOlderVersions() throws InternityException {
+        ResultCache.execute(new FindCommand("google"));
+        ResultCache.execute(new FindCommand("meta"));
+        assertEquals(2, ResultCache.size());
+        InternshipList.updatePay(0, 7000);
+        outContent.reset();
+
+        ResultCache.execute(new FindCommand("google"));
+
+        assertEquals(1, ResultCache.size());
+        assertEquals(outContent.toString().length(), ResultCache.getCharacters());
+    }
+
+    @Test
+    void execute_largeOutput_printedButNotCached() throws InternityException {
+        for (int i = 0; i < 4000; i++) {
+            InternshipList.add(new Internship("Company" + i, "SWE", DateFormatter.parse("10-12-2025"), i));
+        }
+        ResultCache.execute(new ListCommand(ListCommand.OrderType.DEFAULT));
+
+        assertTrue(outContent.size() > ResultCache.MAX_ENTRY_CHARACTERS);
+        assertTrue(outContent.toString().contains("Company3999"));
+        assertEquals(0, ResultCache.size());
+        assertEquals(0, ResultCache.getCharacters());
+    }
+
+    @Test
+    void execute_overCapacity_evictsLeastRecentlyUsed() throws InternityException {
+        ResultCache.setCapacity(2);
+        ResultCache.execute(new FindCommand("google"));
+        ResultCache.execute(new FindCommand("meta"));
+        ResultCache.execute(new FindCommand("google"));
+        ResultCache.execute(new FindCommand("swe"));
+        assertEquals(2, ResultCache.size());
+
+        ResultCache.execute(new FindCommand("google"));
+        ResultCache.execute(new FindCommand("meta"));
+
+        assertEquals(2, ResultCache.getHits());
+        assertEquals(4, ResultCache.getMisses());
+    }
+
+    @Test
+    void execute_uncacheableCommand_bypassesCache() throws InternityException {
+        ResultCache.execute(new StatsCommand());
+
+        assertTrue(outContent.toString().contains("  Hit rate : -"));
+        assertEquals(0, ResultCache.getMisses());
+        assertEquals(0, ResultCache.size());
+    }
+}
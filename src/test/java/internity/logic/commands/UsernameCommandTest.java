@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import internity.core.InternityException;
 import internity.core.InternshipList;
 
 class UsernameCommandTest {
@@ -17,7 +18,7 @@ class UsernameCommandTest {
     }
 
     @Test
-    void execute_shouldSetUsernameInInternshipList() {
+    void execute_shouldSetUsernameInInternshipList() throws InternityException {
         String expectedUsername = "Jim Halpert";
         UsernameCommand command = new UsernameCommand(expectedUsername);
         command.execute();
@@ -26,7 +27,7 @@ class UsernameCommandTest {
     }
 
     @Test
-    void execute_updatesSystemEvenAfterTrimmedInput() {
+    void execute_updatesSystemEvenAfterTrimmedInput() throws InternityException {
         String username = "  Asian Jim  ";
         UsernameCommand command = new UsernameCommand(username);
         command.execute();
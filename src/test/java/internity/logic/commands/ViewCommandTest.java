@@ -0,0 +1,97 @@
+package internity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.index.ViewFilter;
+import internity.utils.DateFormatter;
+
+class ViewCommandTest {
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setup() throws InternityException {
+        InternshipList.clear();
+        InternshipList.getSavedViews().clear();
+        InternshipList.add(new Internship("Google", "SWE", DateFormatter.parse("10-12-2025"), 6000));
+        InternshipList.add(new Internship("Meta", "Data Analyst", DateFormatter.parse("01-12-2025"), 4000));
+        InternshipList.add(new Internship("Stripe", "SWE", DateFormatter.parse("05-12-2025"), 7000));
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setOut(originalSystemOut);
+        InternshipList.clear();
+        InternshipList.getSavedViews().clear();
+    }
+
+    @Test
+    void execute_save_materializesMatchingInternshipsInOrder() throws InternityException {
+        ViewFilter filter = new ViewFilter(null, null, "swe", 5000, null, ListCommand.OrderType.ASCENDING);
+
+        new ViewCommand("wellPaid", filter).execute();
+
+        assertTrue(outContent.toString().contains("Saved view \"wellPaid\" (role/swe minpay/5000 sort/asc)"
+                + " with 2 internship(s)."));
+        assertEquals(List.of("Stripe", "Google"), companies("wellpaid"));
+    }
+
+    @Test
+    void execute_afterMutations_viewIsUpdatedIncrementally() throws InternityException {
+        new ViewCommand("offers", new ViewFilter("Offer", null, null, null, null,
+                ListCommand.OrderType.DESCENDING)).execute();
+        assertEquals(List.of(), companies("offers"));
+
+        InternshipList.updateStatus(0, "offer");
+        InternshipList.updateStatus(1, "offer");
+        InternshipList.add(new Internship("Apple", "SWE", DateFormatter.parse("03-12-2025"), 5000));
+        InternshipList.updateStatus(3, "offer");
+        assertEquals(List.of("Google", "Apple", "Meta"), companies("offers"));
+
+        InternshipList.updateDeadline(1, DateFormatter.parse("31-12-2025"));
+        InternshipList.updateStatus(0, "rejected");
+        InternshipList.delete(2);
+        assertEquals(List.of("Meta", "Apple"), companies("offers"));
+
+        outContent.reset();
+        new ViewCommand("offers").execute();
+        String output = outContent.toString();
+        assertTrue(output.contains("Here are the internships in view \"offers\":"));
+        assertTrue(output.indexOf("Meta") < output.indexOf("Apple"));
+    }
+
+    @Test
+    void execute_listViews_printsNamesAndFilters() throws InternityException {
+        new ViewCommand().execute();
+        assertTrue(outContent.toString().contains("You have no saved views."));
+
+        new ViewCommand("all", new ViewFilter(null, null, null, null, null, ListCommand.OrderType.DEFAULT)).execute();
+        outContent.reset();
+        new ViewCommand().execute();
+        assertTrue(outContent.toString().contains("  all: (all)"));
+    }
+
+    @Test
+    void execute_unknownView_throwsInternityException() {
+        assertThrows(InternityException.class, () -> new ViewCommand("missing").execute());
+    }
+
+    private static List<String> companies(String view) {
+        return InternshipList.getSavedViews().get(view).stream().map(Internship::getCompany).toList();
+    }
+}
@@ -118,4 +118,32 @@ class DashboardUiTest {
         assertTrue(output.contains("No internships found"), "Should indicate no internships");
         assertTrue(output.contains("Guest") || output.contains("User:"), "Should still print username");
     }
+
+    @Test
+    void formatDashboardJson_withInternships_summarisesDashboard() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2010), 8000));
+        InternshipList.add(new Internship("Microsoft", "Intern", new Date(15, 12, 2010), 5000));
+
+        String json = DashboardUi.formatDashboardJson();
+
+        assertTrue(json.startsWith("{\"username\":\"TestUser\",\"total\":2,"), json);
+        assertTrue(json.contains("\"nearestDeadline\":{\"index\":2,\"company\":\"Microsoft\""), json);
+        assertTrue(json.contains("\"nearestOverdue\":true"), json);
+        assertTrue(json.contains("\"statusCounts\":{\"Pending\":2,\"Interested\":0,"), json);
+        assertTrue(json.contains("\"medianPay\":5000,\"p90Pay\":8000"), json);
+        assertTrue(json.endsWith("]}") && !json.contains(System.lineSeparator()), json);
+    }
+
+    @Test
+    void formatDashboardJson_noInternships_usesNulls() throws InternityException {
+        InternshipList.clear();
+
+        String json = DashboardUi.formatDashboardJson();
+
+        assertTrue(json.contains("\"total\":0"), json);
+        assertTrue(json.contains("\"nearestDeadline\":null,\"nearestOverdue\":false"), json);
+        assertTrue(json.contains("\"Pending\":null"), json);
+        assertTrue(json.contains("\"medianPay\":null,\"p90Pay\":null"), json);
+    }
 }
@@ -0,0 +1,169 @@
+package internity.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.logic.commands.CommandResult;
+
+class ResultRendererTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void render_message_printsOneLinePerMessage() {
+        CommandResult result = CommandResult.message("Added this internship:", "", "Done.");
+
+        assertFalse(result.isTable());
+        assertEquals("Added this internship:" + NEWLINE + NEWLINE + "Done." + NEWLINE,
+                ResultRenderer.render(result));
+    }
+
+    @Test
+    void render_table_matchesListFormat() {
+        Internship internship = new Internship("Google", "SWE", new Date(1, 1, 2030), 5000);
+        CommandResult result = CommandResult.table("Title:", List.of(new CommandResult.Row(4, internship)));
+
+        String expected = "Title:" + NEWLINE
+                + Ui.LINE
+                + String.format(Ui.FORMAT_HEADER, "No.", "Company", "Role", "Deadline", "Pay", "Status")
+                + Ui.LINE
+                + String.format(Ui.FORMAT_CONTENT, 5, "Google", "SWE", "01-01-2030", 5000, "Pending");
+        assertTrue(result.isTable());
+        assertEquals(expected, ResultRenderer.render(result));
+    }
+
+    @Test
+    void minimumLength_fieldsWithinColumns_isRenderedLength() {
+        Internship internship = new Internship("Google", "SWE", new Date(1, 1, 2030), 5000);
+        CommandResult table = CommandResult.table("Title:",
+                List.of(new CommandResult.Row(4, internship), new CommandResult.Row(12345, internship)));
+        CommandResult message = CommandResult.message("Added this internship:", "", "Done.");
+
+        assertEquals(ResultRenderer.render(table).length(), ResultRenderer.minimumLength(table));
+        assertEquals(ResultRenderer.render(message).length(), ResultRenderer.minimumLength(message));
+    }
+
+    @Test
+    void appendRow_randomValues_matchesFormatContent() {
+        Random random = new Random(42);
+        String[] statuses = {"Pending", "Interested", "Interviewing", "Rejected"};
+        for (int i = 0; i < 1_000; i++) {
+            String company = "C".repeat(random.nextInt(Ui.COMPANY_MAXLEN + 5));
+            String role = "r ".repeat(random.nextInt(Ui.ROLE_MAXLEN / 2 + 3));
+            Date deadline = new Date(1 + random.nextInt(31), 1 + random.nextInt(12), random.nextInt(12_000));
+            int pay = random.nextInt(20) == 0 ? -random.nextInt(1_000) : random.nextInt(Integer.MAX_VALUE);
+            int index = 1 + random.nextInt(random.nextBoolean() ? 100 : 10_000_000);
+            Internship internship = new Internship(company, role, deadline, pay);
+            internship.setStatus(statuses[random.nextInt(statuses.length)]);
+
+            assertEquals(String.format("%02d-%02d-%04d", deadline.getDay(), deadline.getMonth(),
+                    deadline.getYear()), deadline.toString());
+            String expected = String.format(Ui.FORMAT_CONTENT, index, company, role, deadline.toString(), pay,
+                    internship.getStatus());
+            assertEquals(expected, ResultRenderer.appendRow(new StringBuilder(), index, internship).toString());
+        }
+    }
+
+    @Test
+    void print_tableLargerThanChunk_printsRenderedText() {
+        List<CommandResult.Row> rows = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            rows.add(new CommandResult.Row(i, new Internship("Company" + i, "Role", new Date(1, 1, 2030), i)));
+        }
+        CommandResult result = CommandResult.table("Title:", rows);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        try {
+            System.setOut(new PrintStream(out));
+            ResultRenderer.print(result);
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertTrue(out.size() > ResultRenderer.CHUNK_SIZE);
+        assertEquals(ResultRenderer.render(result), out.toString());
+    }
+
+    @Test
+    void printJsonLines_table_printsOneObjectPerRow() {
+        List<CommandResult.Row> rows = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Internship internship = new Internship("Company \"" + i + "\"", "Role", new Date(1, 1, 2030), i);
+            rows.add(new CommandResult.Row(i * 2, internship));
+        }
+        String output = capture(() -> ResultRenderer.printJsonLines(CommandResult.table("Title:", rows)));
+
+        String[] lines = output.split(NEWLINE);
+        assertEquals(rows.size(), lines.length);
+        assertTrue(output.length() > ResultRenderer.CHUNK_SIZE);
+        assertEquals("{\"index\":1,\"company\":\"Company \\\"0\\\"\",\"role\":\"Role\",\"deadline\":\"01-01-2030\","
+                + "\"pay\":0,\"status\":\"Pending\"}", lines[0]);
+        assertEquals(Json.appendInternship(new StringBuilder(), 3998, rows.get(1999).getInternship()).toString(),
+                lines[1999]);
+    }
+
+    @Test
+    void printJsonLines_message_printsNothing() {
+        assertEquals("", capture(() -> ResultRenderer.printJsonLines(CommandResult.message("No internships found."))));
+    }
+
+    @Test
+    void print_channelEnabled_writesInOrderWithSystemOut() throws Exception {
+        Path file = tempDir.resolve("out.txt");
+        Files.createFile(file);
+        CommandResult result = CommandResult.table("Title:",
+                List.of(new CommandResult.Row(0, new Internship("Google", "SWE", new Date(1, 1, 2030), 5000))));
+        String text = "x".repeat(ResultRenderer.CHUNK_SIZE + 5) + "\u00e9" + "y".repeat(10) + NEWLINE;
+        PrintStream originalOut = System.out;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND);
+                PrintStream out = new PrintStream(new FileOutputStream(file.toFile(), true), false,
+                        StandardCharsets.UTF_8)) {
+            System.setOut(out);
+            ResultRenderer.useChannel(channel, out);
+            System.out.print("before" + NEWLINE);
+            ResultRenderer.print(result);
+            ResultRenderer.print("caf\u00e9" + NEWLINE);
+            ResultRenderer.print(text);
+            System.out.print("after" + NEWLINE);
+            System.out.flush();
+        } finally {
+            ResultRenderer.useChannel(null, null);
+            System.setOut(originalOut);
+        }
+
+        assertEquals("before" + NEWLINE + ResultRenderer.render(result) + "caf\u00e9" + NEWLINE + text
+                + "after" + NEWLINE, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    private static String capture(Runnable action) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        try {
+            System.setOut(new PrintStream(out));
+            action.run();
+        } finally {
+            System.setOut(originalOut);
+        }
+        return out.toString();
+    }
+}